@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.benchmarks;
+
+import com.liferay.poshi.runner.util.FileUtil;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiFileCorpus {
+
+	public static PoshiFileCorpus create(int fileCount) throws IOException {
+		Path baseDirPath = Files.createTempDirectory("poshi-benchmark");
+
+		File baseDir = baseDirPath.toFile();
+
+		PoshiFileCorpus poshiFileCorpus = new PoshiFileCorpus(baseDir);
+
+		FileUtil.write(new File(baseDir, "Click.function"), _FUNCTION);
+
+		for (int i = 0; i < (fileCount / 3); i++) {
+			String pageName = "Page" + i;
+
+			FileUtil.write(
+				new File(baseDir, "macros/" + pageName + ".macro"),
+				_replace(_MACRO, pageName));
+			FileUtil.write(
+				new File(baseDir, "paths/" + pageName + ".path"),
+				_replace(_PATH, pageName));
+			FileUtil.write(
+				new File(baseDir, "tests/" + pageName + ".testcase"),
+				_replace(_TEST_CASE, pageName));
+		}
+
+		return poshiFileCorpus;
+	}
+
+	public void delete() throws IOException {
+		FileUtils.deleteDirectory(_baseDir);
+	}
+
+	public String getBaseDirName() throws IOException {
+		return _baseDir.getCanonicalPath();
+	}
+
+	private static String _replace(String template, String pageName) {
+		return template.replace("[$PAGE_NAME$]", pageName);
+	}
+
+	private PoshiFileCorpus(File baseDir) {
+		_baseDir = baseDir;
+	}
+
+	private static final String _FUNCTION =
+		"<definition default=\"click\">\n\t<command name=\"click\">\n" +
+			"\t\t<execute selenium=\"waitForVisible\" />\n\n" +
+			"\t\t<execute selenium=\"click\" />\n\t</command>\n" +
+			"</definition>";
+
+	private static final String _MACRO =
+		"definition {\n\tmacro add[$PAGE_NAME$] {\n" +
+			"\t\tClick(locator1 = \"[$PAGE_NAME$]#ADD_BUTTON\");\n\n" +
+			"\t\tClick(\n\t\t\tlocator1 = \"[$PAGE_NAME$]#SAVE_BUTTON\",\n" +
+			"\t\t\tvalue1 = \"[$PAGE_NAME$]\");\n\t}\n}";
+
+	private static final String _PATH =
+		"<html>\n<head>\n<title>[$PAGE_NAME$]</title>\n</head>\n<body>\n" +
+			"<table border=\"1\" cellpadding=\"1\" cellspacing=\"1\">\n" +
+			"<thead>\n<tr><td colspan=\"3\" rowspan=\"1\">[$PAGE_NAME$]" +
+			"</td></tr>\n</thead>\n<tbody>\n<tr>\n" +
+			"<td>ADD_BUTTON</td>\n<td>//button[@id='add']</td>\n" +
+			"<td></td>\n</tr>\n<tr>\n<td>SAVE_BUTTON</td>\n" +
+			"<td>//button[@id='save']</td>\n<td></td>\n" +
+			"</tr>\n</tbody>\n</table>\n</body>\n</html>";
+
+	private static final String _TEST_CASE =
+		"@component-name = \"portal-benchmark\"\ndefinition {\n" +
+			"\ttest Add[$PAGE_NAME$] {\n" +
+			"\t\t[$PAGE_NAME$].add[$PAGE_NAME$]();\n\t}\n}";
+
+	private final File _baseDir;
+
+}
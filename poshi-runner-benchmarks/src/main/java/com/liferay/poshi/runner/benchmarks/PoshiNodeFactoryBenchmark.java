@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.benchmarks;
+
+import com.liferay.poshi.runner.elements.PoshiNode;
+import com.liferay.poshi.runner.elements.PoshiNodeFactory;
+import com.liferay.poshi.runner.util.FileUtil;
+
+import java.net.URL;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Kenji Heigel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class PoshiNodeFactoryBenchmark {
+
+	@Benchmark
+	public PoshiNode<?, ?> newPoshiNodeFromPoshiScript() {
+		return PoshiNodeFactory.newPoshiNode(
+			_poshiScriptContent, _poshiScriptURL);
+	}
+
+	@Benchmark
+	public PoshiNode<?, ?> newPoshiNodeFromPoshiXML() {
+		return PoshiNodeFactory.newPoshiNode(_poshiXMLContent, _poshiXMLURL);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		_poshiScriptURL = PoshiNodeFactoryBenchmark.class.getResource(
+			"dependencies/PoshiScript.macro");
+
+		_poshiScriptContent = FileUtil.read(_poshiScriptURL);
+
+		_poshiXMLURL = PoshiNodeFactoryBenchmark.class.getResource(
+			"dependencies/PoshiSyntax.macro");
+
+		_poshiXMLContent = FileUtil.read(_poshiXMLURL);
+	}
+
+	private String _poshiScriptContent;
+	private URL _poshiScriptURL;
+	private String _poshiXMLContent;
+	private URL _poshiXMLURL;
+
+}
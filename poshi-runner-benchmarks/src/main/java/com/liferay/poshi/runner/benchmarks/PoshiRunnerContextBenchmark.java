@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.benchmarks;
+
+import com.liferay.poshi.runner.PoshiRunnerContext;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Kenji Heigel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+public class PoshiRunnerContextBenchmark {
+
+	@TearDown(Level.Invocation)
+	public void clear() {
+		PoshiRunnerContext.clear();
+	}
+
+	@Benchmark
+	public void readFiles() throws Exception {
+		PoshiRunnerContext.readFiles(
+			POSHI_FILE_INCLUDES, _poshiFileCorpus.getBaseDirName());
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		_poshiFileCorpus = PoshiFileCorpus.create(fileCount);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		_poshiFileCorpus.delete();
+	}
+
+	public static final String[] POSHI_FILE_INCLUDES = ArrayUtils.addAll(
+		PoshiRunnerContext.POSHI_SUPPORT_FILE_INCLUDES,
+		PoshiRunnerContext.POSHI_TEST_FILE_INCLUDES);
+
+	@Param({"1000", "5000"})
+	public int fileCount;
+
+	private PoshiFileCorpus _poshiFileCorpus;
+
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.benchmarks;
+
+import com.liferay.poshi.runner.PoshiRunnerGetterUtil;
+
+import java.net.URL;
+
+import java.util.concurrent.TimeUnit;
+
+import org.dom4j.Element;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Kenji Heigel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class PoshiRunnerGetterUtilBenchmark {
+
+	@Benchmark
+	public Element getRootElementFromPoshiScriptURL() throws Exception {
+		return PoshiRunnerGetterUtil.getRootElementFromURL(_poshiScriptURL);
+	}
+
+	@Benchmark
+	public Element getRootElementFromPoshiXMLURL() throws Exception {
+		return PoshiRunnerGetterUtil.getRootElementFromURL(_poshiXMLURL);
+	}
+
+	@Setup
+	public void setUp() {
+		_poshiScriptURL = PoshiRunnerGetterUtilBenchmark.class.getResource(
+			"dependencies/PoshiScript.macro");
+		_poshiXMLURL = PoshiRunnerGetterUtilBenchmark.class.getResource(
+			"dependencies/PoshiSyntax.macro");
+	}
+
+	private URL _poshiScriptURL;
+	private URL _poshiXMLURL;
+
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import com.liferay.poshi.runner.util.PropsValues;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.runners.Parameterized;
+import org.junit.runners.model.RunnerScheduler;
+
+/**
+ * Runs the parameterized tests on up to {@link
+ * PropsValues#TEST_PARALLEL_THREADS} threads at the same time.
+ *
+ * @author Kenji Heigel
+ */
+public class ParallelParameterized extends Parameterized {
+
+	public ParallelParameterized(Class<?> clazz) throws Throwable {
+		super(clazz);
+
+		if (PropsValues.TEST_PARALLEL_THREADS > 1) {
+			setScheduler(
+				new ExecutorRunnerScheduler(PropsValues.TEST_PARALLEL_THREADS));
+		}
+	}
+
+	private static class ExecutorRunnerScheduler implements RunnerScheduler {
+
+		public ExecutorRunnerScheduler(int threadCount) {
+			_executorService = Executors.newFixedThreadPool(
+				threadCount,
+				new ThreadFactory() {
+
+					@Override
+					public Thread newThread(Runnable runnable) {
+						return new Thread(
+							runnable,
+							"Poshi test " + _threadCount.incrementAndGet());
+					}
+
+					private final AtomicInteger _threadCount =
+						new AtomicInteger();
+
+				});
+		}
+
+		@Override
+		public void finished() {
+			_executorService.shutdown();
+
+			try {
+				_executorService.awaitTermination(
+					Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException interruptedException) {
+				_executorService.shutdownNow();
+
+				Thread currentThread = Thread.currentThread();
+
+				currentThread.interrupt();
+			}
+		}
+
+		@Override
+		public void schedule(Runnable childStatement) {
+			_executorService.execute(childStatement);
+		}
+
+		private final ExecutorService _executorService;
+
+	}
+
+}
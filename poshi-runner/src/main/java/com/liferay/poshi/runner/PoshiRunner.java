@@ -19,6 +19,7 @@ import com.liferay.poshi.runner.logger.SummaryLogger;
 import com.liferay.poshi.runner.selenium.LiferaySeleniumHelper;
 import com.liferay.poshi.runner.selenium.SeleniumUtil;
 import com.liferay.poshi.runner.util.PropsValues;
+import com.liferay.poshi.runner.util.Validator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,6 +30,7 @@ import java.util.Set;
 import org.dom4j.Element;
 
 import org.junit.After;
+import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -49,7 +51,7 @@ import org.openqa.selenium.remote.UnreachableBrowserException;
  * @author Karen Dang
  * @author Leslie Wong
  */
-@RunWith(Parameterized.class)
+@RunWith(ParallelParameterized.class)
 public class PoshiRunner {
 
 	@Parameterized.Parameters(name = "{0}")
@@ -59,7 +61,12 @@ public class PoshiRunner {
 		List<String> testNames = Arrays.asList(
 			PropsValues.TEST_NAME.split("\\s*,\\s*"));
 
-		PoshiRunnerContext.readFiles(_getTestClassFileIncludes(testNames));
+		if (PoshiRunnerContext.isFilesRead()) {
+			PoshiRunnerContext.reloadFiles();
+		}
+		else {
+			PoshiRunnerContext.readFiles(_getTestClassFileIncludes(testNames));
+		}
 
 		for (String testName : testNames) {
 			PoshiRunnerValidation.validate(testName);
@@ -98,6 +105,18 @@ public class PoshiRunner {
 		return namespacedClassCommandNames;
 	}
 
+	@AfterClass
+	public static void tearDownClass() throws Exception {
+		PoshiRunnerMetricsUtil.writeMetrics();
+
+		if (Validator.isNotNull(PropsValues.TEST_BATCH_DURATIONS_FILE_NAME)) {
+			PoshiRunnerMetricsUtil.updateTestDurations(
+				PropsValues.TEST_BATCH_DURATIONS_FILE_NAME);
+		}
+
+		PoshiRunnerMetricsUtil.clear();
+	}
+
 	public PoshiRunner(String namespacedClassCommandName) throws Exception {
 		_testNamespacedClassCommandName = namespacedClassCommandName;
 
@@ -109,10 +128,16 @@ public class PoshiRunner {
 		_poshiLogger = new PoshiLogger(namespacedClassCommandName);
 
 		_poshiRunnerExecutor = new PoshiRunnerExecutor(_poshiLogger);
+
+		_poshiRunnerExecutionContext = new PoshiRunnerExecutionContext();
 	}
 
 	@Before
 	public void setUp() throws Exception {
+		PoshiRunnerExecutionContext.setCurrent(_poshiRunnerExecutionContext);
+
+		_startTime = System.currentTimeMillis();
+
 		System.out.println();
 		System.out.println("###");
 		System.out.println("### " + _testNamespacedClassCommandName);
@@ -151,6 +176,8 @@ public class PoshiRunner {
 
 	@After
 	public void tearDown() throws Exception {
+		PoshiRunnerExecutionContext.setCurrent(_poshiRunnerExecutionContext);
+
 		LiferaySeleniumHelper.writePoshiWarnings();
 
 		SummaryLogger.createSummaryReport();
@@ -171,11 +198,19 @@ public class PoshiRunner {
 			_poshiLogger.createPoshiReport();
 
 			SeleniumUtil.stopSelenium();
+
+			PoshiRunnerMetricsUtil.recordLatency(
+				"test", _testNamespacedClassCommandName,
+				System.currentTimeMillis() - _startTime);
+
+			PoshiRunnerExecutionContext.setCurrent(null);
 		}
 	}
 
 	@Test
 	public void test() throws Exception {
+		PoshiRunnerExecutionContext.setCurrent(_poshiRunnerExecutionContext);
+
 		try {
 			_runCommand();
 
@@ -269,7 +304,9 @@ public class PoshiRunner {
 	}
 
 	private final PoshiLogger _poshiLogger;
+	private final PoshiRunnerExecutionContext _poshiRunnerExecutionContext;
 	private final PoshiRunnerExecutor _poshiRunnerExecutor;
+	private long _startTime;
 	private final String _testNamespacedClassCommandName;
 	private final String _testNamespacedClassName;
 
@@ -16,8 +16,10 @@ package com.liferay.poshi.runner;
 
 import com.liferay.poshi.runner.util.FileUtil;
 
+import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 
 import java.util.Map;
 import java.util.Properties;
@@ -52,6 +54,11 @@ public class PoshiRunnerCommandExecutor {
 		else if (command.equals("help")) {
 			commandHelp();
 		}
+		else if (command.equals("rerunPoshi")) {
+			populateSystemProperties();
+
+			rerunPoshi();
+		}
 		else if (command.equals("runPoshi")) {
 			populateSystemProperties();
 
@@ -84,6 +91,9 @@ public class PoshiRunnerCommandExecutor {
 			"\tevaluatePoshiConsole\tEvaluate the console output errors.\n");
 		sb.append(
 			"\texecutePQLQuery\t\tPrints test commands found by the query.\n");
+		sb.append(
+			"\trerunPoshi\t\tExecute tests again with changed Poshi " +
+				"files on Enter.\n");
 		sb.append("\trunPoshi\t\tExecute tests using Poshi Runner.\n");
 		sb.append("\tvalidatePoshi\t\tValidates the Poshi files syntax.\n");
 		sb.append(
@@ -133,6 +143,27 @@ public class PoshiRunnerCommandExecutor {
 		}
 	}
 
+	protected static void rerunPoshi() throws Exception {
+		System.out.println("Executing task: rerunPoshi");
+
+		BufferedReader bufferedReader = new BufferedReader(
+			new InputStreamReader(System.in));
+
+		while (true) {
+			JUnitCore.runClasses(PoshiRunner.class);
+
+			System.out.println(
+				"Press Enter to reload the changed Poshi files and run the " +
+					"tests again, or type exit to stop.");
+
+			String line = bufferedReader.readLine();
+
+			if ((line == null) || line.equals("exit")) {
+				return;
+			}
+		}
+	}
+
 	protected static void runPoshi(String[] args) throws Exception {
 		System.out.println("Executing task: runPoshi");
 
@@ -20,19 +20,26 @@ import com.google.common.collect.Multimap;
 
 import com.liferay.poshi.runner.pql.PQLEntity;
 import com.liferay.poshi.runner.pql.PQLEntityFactory;
+import com.liferay.poshi.runner.pql.PQLIndex;
 import com.liferay.poshi.runner.prose.PoshiProseMatcher;
 import com.liferay.poshi.runner.selenium.LiferaySelenium;
 import com.liferay.poshi.runner.util.FileUtil;
+import com.liferay.poshi.runner.util.ListUtil;
 import com.liferay.poshi.runner.util.MathUtil;
 import com.liferay.poshi.runner.util.OSDetector;
 import com.liferay.poshi.runner.util.PropsValues;
 import com.liferay.poshi.runner.util.StringUtil;
 import com.liferay.poshi.runner.util.Validator;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 import java.net.URI;
@@ -45,21 +52,29 @@ import java.text.SimpleDateFormat;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -85,11 +100,30 @@ public class PoshiRunnerContext {
 	public static void clear() {
 		_commandElements.clear();
 		_commandSummaries.clear();
+		_duplicateLocatorMessages.clear();
 		_filePaths.clear();
+		_filesRead = false;
+		_functionFileNames.clear();
 		_functionLocatorCounts.clear();
+		_lastModifiedTimes.clear();
+		_lazyRootElements.clear();
+		_namespacedClassCommandNamePropertiesMap.clear();
+		_namespaces.clear();
+		_overrideFileURLs.clear();
+		_pathExtensions.clear();
 		_pathLocators.clear();
+		_reloadableBaseDirIncludes.clear();
+		_resolvedPathLocators.clear();
 		_rootElements.clear();
+		_rootVarElements.clear();
+		_seleniumMethodHandles.clear();
 		_seleniumParameterCounts.clear();
+		_testCaseDescriptions.clear();
+		_testCaseNamespacedClassCommandNames.clear();
+		_testCaseNamespacedClassNames.clear();
+
+		PoshiProseMatcher.clear();
+		PoshiRunnerInstruction.clear();
 	}
 
 	public static void executePQLQuery() throws Exception {
@@ -138,6 +172,8 @@ public class PoshiRunnerContext {
 	public static Element getFunctionCommandElement(
 		String classCommandName, String namespace) {
 
+		_loadLazyRootElement("function", classCommandName, namespace);
+
 		return _commandElements.get(
 			"function#" + namespace + "." + classCommandName);
 	}
@@ -145,6 +181,8 @@ public class PoshiRunnerContext {
 	public static String getFunctionCommandSummary(
 		String classCommandName, String namespace) {
 
+		_loadLazyRootElement("function", classCommandName, namespace);
+
 		return _commandSummaries.get(
 			"function#" + namespace + "." + classCommandName);
 	}
@@ -156,6 +194,8 @@ public class PoshiRunnerContext {
 	public static int getFunctionLocatorCount(
 		String className, String namespace) {
 
+		_loadLazyRootElement("function", className, namespace);
+
 		String functionLocatorCountKey = namespace + "." + className;
 
 		if (_functionLocatorCounts.containsKey(functionLocatorCountKey)) {
@@ -168,12 +208,28 @@ public class PoshiRunnerContext {
 	public static Element getFunctionRootElement(
 		String className, String namespace) {
 
+		_loadLazyRootElement("function", className, namespace);
+
 		return _rootElements.get("function#" + namespace + "." + className);
 	}
 
+	public static Map<String, Long> getLoadDurations() {
+		Map<String, Long> loadDurations = new LinkedHashMap<>();
+
+		for (Map.Entry<String, AtomicLong> entry : _loadDurations.entrySet()) {
+			AtomicLong duration = entry.getValue();
+
+			loadDurations.put(entry.getKey(), duration.get());
+		}
+
+		return loadDurations;
+	}
+
 	public static Element getMacroCommandElement(
 		String classCommandName, String namespace) {
 
+		_loadLazyRootElement("macro", classCommandName, namespace);
+
 		return _commandElements.get(
 			"macro#" + namespace + "." + classCommandName);
 	}
@@ -181,6 +237,8 @@ public class PoshiRunnerContext {
 	public static String getMacroCommandSummary(
 		String classCommandName, String namespace) {
 
+		_loadLazyRootElement("macro", classCommandName, namespace);
+
 		return _commandSummaries.get(
 			"macro#" + namespace + "." + classCommandName);
 	}
@@ -188,6 +246,8 @@ public class PoshiRunnerContext {
 	public static Element getMacroRootElement(
 		String className, String namespace) {
 
+		_loadLazyRootElement("macro", className, namespace);
+
 		return _rootElements.get("macro#" + namespace + "." + className);
 	}
 
@@ -222,24 +282,18 @@ public class PoshiRunnerContext {
 	public static String getPathLocator(
 		String pathLocatorKey, String namespace) {
 
-		String pathLocator = _pathLocators.get(
+		String pathLocator = _resolvedPathLocators.get(
 			namespace + "." + pathLocatorKey);
 
-		String className =
-			PoshiRunnerGetterUtil.getClassNameFromNamespacedClassCommandName(
-				pathLocatorKey);
-
-		if ((pathLocator == null) &&
-			_pathExtensions.containsKey(namespace + "." + className)) {
+		if (pathLocator != null) {
+			return pathLocator;
+		}
 
-			String pathExtension = _pathExtensions.get(
-				namespace + "." + className);
-			String commandName =
-				PoshiRunnerGetterUtil.
-					getCommandNameFromNamespacedClassCommandName(
-						pathLocatorKey);
+		pathLocator = _getPathLocator(pathLocatorKey, namespace);
 
-			return getPathLocator(pathExtension + "#" + commandName, namespace);
+		if (pathLocator != null) {
+			_resolvedPathLocators.put(
+				namespace + "." + pathLocatorKey, pathLocator);
 		}
 
 		return pathLocator;
@@ -248,16 +302,24 @@ public class PoshiRunnerContext {
 	public static Element getPathRootElement(
 		String className, String namespace) {
 
+		_loadLazyRootElement("path", className, namespace);
+
 		return _rootElements.get("path#" + namespace + "." + className);
 	}
 
 	public static List<Element> getRootVarElements(
 		String classType, String className, String namespace) {
 
+		_loadLazyRootElement(classType, className, namespace);
+
 		return _rootVarElements.get(
 			classType + "#" + namespace + "." + className);
 	}
 
+	public static MethodHandle getSeleniumMethodHandle(String commandName) {
+		return _seleniumMethodHandles.get(commandName);
+	}
+
 	public static int getSeleniumParameterCount(String commandName) {
 		return _seleniumParameterCounts.get(commandName);
 	}
@@ -278,7 +340,11 @@ public class PoshiRunnerContext {
 	}
 
 	public static String getTestCaseNamespacedClassCommandName() {
-		return _testCaseNamespacedClassCommandName;
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.
+			getTestCaseNamespacedClassCommandName();
 	}
 
 	public static List<String> getTestCaseRequiredPropertyNames() {
@@ -294,10 +360,23 @@ public class PoshiRunnerContext {
 	public static boolean isCommandElement(
 		String classType, String classCommandName, String namespace) {
 
+		_loadLazyRootElement(classType, classCommandName, namespace);
+
 		return _commandElements.containsKey(
 			classType + "#" + namespace + "." + classCommandName);
 	}
 
+	public static boolean isFilesRead() {
+		return _filesRead;
+	}
+
+	public static boolean isLazyRootElement(
+		String classType, String className, String namespace) {
+
+		return _lazyRootElements.containsKey(
+			classType + "#" + namespace + "." + className);
+	}
+
 	public static boolean isPathLocator(
 		String pathLocatorKey, String namespace) {
 
@@ -313,6 +392,8 @@ public class PoshiRunnerContext {
 	public static boolean isRootElement(
 		String classType, String rootElementKey, String namespace) {
 
+		_loadLazyRootElement(classType, rootElementKey, namespace);
+
 		return _rootElements.containsKey(
 			classType + "#" + namespace + "." + rootElementKey);
 	}
@@ -332,23 +413,173 @@ public class PoshiRunnerContext {
 	}
 
 	public static void readFiles(String[] testFileIncludes) throws Exception {
+		_readFilesBaseDirNames = null;
+		_readFilesIncludes = testFileIncludes;
+
+		_resetLoadDurations();
+
+		long start = System.currentTimeMillis();
+
 		_readPoshiFiles(testFileIncludes);
 		_readSeleniumFiles();
+
+		_resolvePathExtensions();
+
+		_loadDurations.get("total").addAndGet(
+			System.currentTimeMillis() - start);
+
+		_filesRead = true;
 	}
 
 	public static void readFiles(String[] includes, String... baseDirNames)
 		throws Exception {
 
+		_readFilesBaseDirNames = baseDirNames;
+		_readFilesIncludes = includes;
+
+		_resetLoadDurations();
+
+		long start = System.currentTimeMillis();
+
 		_readPoshiFilesFromClassPath(includes, "testFunctional");
 		_readPoshiFiles(includes, baseDirNames);
 		_readSeleniumFiles();
+
+		_resolvePathExtensions();
+
+		_loadDurations.get("total").addAndGet(
+			System.currentTimeMillis() - start);
+
+		_filesRead = true;
+	}
+
+	public static synchronized void reloadFiles() throws Exception {
+		Map<String, URL> urls = new LinkedHashMap<>();
+
+		for (Map.Entry<String, String[]> entry :
+				_reloadableBaseDirIncludes.entrySet()) {
+
+			for (URL url : _getPoshiURLs(entry.getValue(), entry.getKey())) {
+				urls.put(url.toString(), url);
+			}
+		}
+
+		Set<String> deletedFileURLs = new HashSet<>(
+			_lastModifiedTimes.keySet());
+
+		deletedFileURLs.removeAll(urls.keySet());
+
+		boolean fullReload = !deletedFileURLs.isEmpty();
+
+		for (String urlString : urls.keySet()) {
+			if (urlString.endsWith(".function") &&
+				!_lastModifiedTimes.containsKey(urlString)) {
+
+				fullReload = true;
+
+				break;
+			}
+		}
+
+		Map<URL, Element> modifiedRootElements = new LinkedHashMap<>();
+
+		Iterator<Map.Entry<String, URL>> iterator = urls.entrySet().iterator();
+
+		while (!fullReload && iterator.hasNext()) {
+			Map.Entry<String, URL> entry = iterator.next();
+
+			URL url = entry.getValue();
+
+			if (Objects.equals(
+					_lastModifiedTimes.get(entry.getKey()),
+					_getLastModifiedTime(url))) {
+
+				continue;
+			}
+
+			Element rootElement = PoshiRunnerGetterUtil.getRootElementFromURL(
+				url);
+
+			if (_overrideFileURLs.contains(entry.getKey()) ||
+				(rootElement.attributeValue("override") != null)) {
+
+				fullReload = true;
+			}
+
+			modifiedRootElements.put(url, rootElement);
+		}
+
+		if (fullReload) {
+			System.out.println("Reloading all Poshi files");
+
+			String[] baseDirNames = _readFilesBaseDirNames;
+			String[] includes = _readFilesIncludes;
+
+			clear();
+
+			if (baseDirNames == null) {
+				readFiles(includes);
+			}
+			else {
+				readFiles(includes, baseDirNames);
+			}
+
+			return;
+		}
+
+		if (modifiedRootElements.isEmpty()) {
+			return;
+		}
+
+		PoshiRunnerInstruction.clear();
+
+		_duplicateLocatorMessages.clear();
+
+		boolean testCaseModified = false;
+
+		for (Map.Entry<URL, Element> entry : modifiedRootElements.entrySet()) {
+			URL url = entry.getKey();
+
+			String filePath = _getFilePath(url);
+
+			System.out.println("Reloading Poshi file " + filePath);
+
+			String classType = PoshiRunnerGetterUtil.getClassTypeFromFilePath(
+				filePath);
+
+			if (classType.equals("test-case")) {
+				testCaseModified = true;
+			}
+
+			_removeRootElement(filePath, _DEFAULT_NAMESPACE);
+
+			PoshiFileCallable poshiFileCallable = new PoshiFileCallable(
+				url, new HashMap<String, String>(), _DEFAULT_NAMESPACE);
+
+			poshiFileCallable.storeRootElement(entry.getValue());
+		}
+
+		_resolvePathExtensions();
+
+		if (testCaseModified) {
+			_testCaseNamespacedClassCommandNames.clear();
+
+			_initComponentCommandNamesMap();
+		}
+
+		if (!_duplicateLocatorMessages.isEmpty()) {
+			throw _getDuplicateLocatorsException();
+		}
 	}
 
 	public static void setTestCaseNamespacedClassCommandName(
 		String testCaseNamespacedClassCommandName) {
 
-		_testCaseNamespacedClassCommandName =
-			testCaseNamespacedClassCommandName;
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		poshiRunnerExecutionContext.setTestCaseNamespacedClassCommandName(
+			testCaseNamespacedClassCommandName);
 	}
 
 	protected static Properties getNamespacedClassCommandNameProperties(
@@ -358,27 +589,55 @@ public class PoshiRunnerContext {
 			testCaseNamespacedClassCommandName);
 	}
 
+	protected static List<List<List<String>>> partitionTestBatchSequentialGroup(
+		List<String> namespacedClassCommandNames, int groupSize,
+		int subgroupSize, Map<String, Long> testDurations) {
+
+		List<List<List<String>>> groups = new ArrayList<>();
+
+		for (List<String> partition :
+				_partitionTestBatchGroup(
+					namespacedClassCommandNames, groupSize, testDurations)) {
+
+			groups.add(
+				_partitionTestBatchGroup(
+					partition, subgroupSize, testDurations));
+		}
+
+		return groups;
+	}
+
+	protected static void setLazyLoading(boolean lazyLoading) {
+		_lazyLoading = lazyLoading;
+	}
+
 	private static List<String> _executePQLQuery(String query)
 		throws Exception {
 
-		List<String> namespacedClassCommandNames = new ArrayList<>();
+		List<String> testCaseNamespacedClassCommandNames = new ArrayList<>(
+			_testCaseNamespacedClassCommandNames);
 
-		PQLEntity pqlEntity = PQLEntityFactory.newPQLEntity(query);
+		List<Properties> propertiesList = new ArrayList<>();
 
 		for (String testCaseNamespacedClassCommandName :
-				_testCaseNamespacedClassCommandNames) {
+				testCaseNamespacedClassCommandNames) {
 
-			Properties properties =
+			propertiesList.add(
 				_namespacedClassCommandNamePropertiesMap.get(
-					testCaseNamespacedClassCommandName);
+					testCaseNamespacedClassCommandName));
+		}
 
-			Boolean pqlResultBoolean = (Boolean)pqlEntity.getPQLResult(
-				properties);
+		PQLEntity pqlEntity = PQLEntityFactory.newPQLEntity(query);
 
-			if (pqlResultBoolean) {
-				namespacedClassCommandNames.add(
-					testCaseNamespacedClassCommandName);
-			}
+		BitSet bitSet = pqlEntity.getPQLResults(new PQLIndex(propertiesList));
+
+		List<String> namespacedClassCommandNames = new ArrayList<>();
+
+		for (int i = bitSet.nextSetBit(0); i >= 0;
+			 i = bitSet.nextSetBit(i + 1)) {
+
+			namespacedClassCommandNames.add(
+				testCaseNamespacedClassCommandNames.get(i));
 		}
 
 		return namespacedClassCommandNames;
@@ -481,28 +740,76 @@ public class PoshiRunnerContext {
 		return new Exception(sb.toString());
 	}
 
-	private static List<URL> _getPoshiURLs(
-			FileSystem fileSystem, String[] includes, String baseDirName)
-		throws IOException {
+	private static String _getFilePath(URL url) {
+		String filePath = url.getFile();
 
-		List<URL> urls = null;
+		if (OSDetector.isWindows()) {
+			if (filePath.startsWith("/")) {
+				filePath = filePath.substring(1);
+			}
 
-		if (fileSystem == null) {
-			urls = FileUtil.getIncludedResourceURLs(includes, baseDirName);
+			filePath = StringUtil.replace(filePath, "/", "\\");
 		}
-		else {
-			urls = FileUtil.getIncludedResourceURLs(
-				fileSystem, includes, baseDirName);
+
+		return filePath;
+	}
+
+	private static Long _getLastModifiedTime(URL url) throws Exception {
+		if (!Objects.equals(url.getProtocol(), "file")) {
+			return null;
 		}
 
-		return urls;
+		File file = new File(url.toURI());
+
+		return file.lastModified();
+	}
+
+	private static String _getPathLocator(
+		String pathLocatorKey, String namespace) {
+
+		_loadLazyRootElement("path", pathLocatorKey, namespace);
+
+		String pathLocator = _pathLocators.get(
+			namespace + "." + pathLocatorKey);
+
+		String className =
+			PoshiRunnerGetterUtil.getClassNameFromNamespacedClassCommandName(
+				pathLocatorKey);
+
+		if ((pathLocator == null) &&
+			_pathExtensions.containsKey(namespace + "." + className)) {
+
+			String pathExtension = _pathExtensions.get(
+				namespace + "." + className);
+			String commandName =
+				PoshiRunnerGetterUtil.
+					getCommandNameFromNamespacedClassCommandName(
+						pathLocatorKey);
+
+			return getPathLocator(pathExtension + "#" + commandName, namespace);
+		}
+
+		return pathLocator;
 	}
 
 	private static List<URL> _getPoshiURLs(
 			String[] includes, String baseDirName)
 		throws Exception {
 
-		return _getPoshiURLs(null, includes, baseDirName);
+		final List<URL> urls = new ArrayList<>();
+
+		FileUtil.getIncludedResourceURLs(
+			includes, PropsValues.TEST_EXCLUDE_DIR_NAMES, baseDirName,
+			new Consumer<URL>() {
+
+				@Override
+				public void accept(URL url) {
+					urls.add(url);
+				}
+
+			});
+
+		return urls;
 	}
 
 	private static String _getTestBatchGroups() throws Exception {
@@ -558,11 +865,20 @@ public class PoshiRunnerContext {
 
 		System.out.println(propertyQuery);
 
+		Map<String, Long> testDurations = new HashMap<>();
+
+		if (Validator.isNotNull(PropsValues.TEST_BATCH_DURATIONS_FILE_NAME)) {
+			testDurations = PoshiRunnerMetricsUtil.readTestDurations(
+				PropsValues.TEST_BATCH_DURATIONS_FILE_NAME);
+		}
+
 		if (PropsValues.TEST_BATCH_RUN_TYPE.equals("sequential")) {
-			return _getTestBatchSequentialGroups(namespacedClassCommandNames);
+			return _getTestBatchSequentialGroups(
+				namespacedClassCommandNames, testDurations);
 		}
 		else if (PropsValues.TEST_BATCH_RUN_TYPE.equals("single")) {
-			return _getTestBatchSingleGroups(namespacedClassCommandNames);
+			return _getTestBatchSingleGroups(
+				namespacedClassCommandNames, testDurations);
 		}
 
 		throw new Exception(
@@ -570,7 +886,8 @@ public class PoshiRunnerContext {
 	}
 
 	private static String _getTestBatchSequentialGroups(
-			List<String> namespacedClassCommandNames)
+			List<String> namespacedClassCommandNames,
+			Map<String, Long> testDurations)
 		throws Exception {
 
 		Multimap<Properties, String> multimap = HashMultimap.create();
@@ -599,8 +916,7 @@ public class PoshiRunnerContext {
 			multimap.put(properties, namespacedClassCommandName);
 		}
 
-		Map<Integer, List<String>> classCommandNameGroups = new HashMap<>();
-		int classCommandNameIndex = 0;
+		List<List<List<String>>> classCommandNameGroups = new ArrayList<>();
 		Map<Properties, Collection<String>> map = multimap.asMap();
 
 		for (Collection<String> value : map.values()) {
@@ -608,65 +924,43 @@ public class PoshiRunnerContext {
 
 			Collections.sort(classCommandNameGroup);
 
-			int groupSize = _getAllocatedTestGroupSize(
-				classCommandNameGroup.size());
-
-			List<List<String>> partitions = Lists.partition(
-				classCommandNameGroup, groupSize);
-
-			for (List<String> partition : partitions) {
-				classCommandNameGroups.put(classCommandNameIndex, partition);
-
-				classCommandNameIndex++;
-			}
+			classCommandNameGroups.addAll(
+				partitionTestBatchSequentialGroup(
+					classCommandNameGroup,
+					_getAllocatedTestGroupSize(classCommandNameGroup.size()),
+					PropsValues.TEST_BATCH_MAX_SUBGROUP_SIZE, testDurations));
 		}
 
 		StringBuilder sb = new StringBuilder();
 
 		for (int i = 0; i < classCommandNameGroups.size(); i++) {
-			List<String> classCommandNameGroup = classCommandNameGroups.get(i);
-			int subgroupSize = PropsValues.TEST_BATCH_MAX_SUBGROUP_SIZE;
-
-			int subgroupCount = MathUtil.quotient(
-				classCommandNameGroup.size(), subgroupSize, true);
+			List<List<String>> subgroups = classCommandNameGroups.get(i);
 
 			sb.append("RUN_TEST_CASE_METHOD_GROUP_");
 			sb.append(i);
 			sb.append("=");
 
-			for (int j = 0; j < subgroupCount; j++) {
+			for (int j = 0; j < subgroups.size(); j++) {
 				sb.append(i);
 				sb.append("_");
 				sb.append(j);
 
-				if (j < (subgroupCount - 1)) {
+				if (j < (subgroups.size() - 1)) {
 					sb.append(" ");
 				}
 			}
 
 			sb.append("\n");
 
-			for (int j = 0; j < classCommandNameGroup.size(); j++) {
-				if ((j % subgroupSize) == 0) {
-					sb.append("RUN_TEST_CASE_METHOD_GROUP_");
-					sb.append(i);
-					sb.append("_");
-					sb.append(j / subgroupSize);
-					sb.append("=");
-					sb.append(classCommandNameGroup.get(j));
-				}
-				else if (((j + 1) % subgroupSize) == 0) {
-					sb.append(",");
-					sb.append(classCommandNameGroup.get(j));
-					sb.append("\n");
-				}
-				else {
-					sb.append(",");
-					sb.append(classCommandNameGroup.get(j));
-				}
+			for (int j = 0; j < subgroups.size(); j++) {
+				sb.append("RUN_TEST_CASE_METHOD_GROUP_");
+				sb.append(i);
+				sb.append("_");
+				sb.append(j);
+				sb.append("=");
+				sb.append(ListUtil.toString(subgroups.get(j)));
+				sb.append("\n");
 			}
-
-			sb.append("\n");
 		}
 
 		sb.append("RUN_TEST_CASE_METHOD_GROUPS=");
@@ -683,14 +977,15 @@ public class PoshiRunnerContext {
 	}
 
 	private static String _getTestBatchSingleGroups(
-		List<String> namespacedClassCommandNames) {
+		List<String> namespacedClassCommandNames,
+		Map<String, Long> testDurations) {
 
 		StringBuilder sb = new StringBuilder();
 
 		int groupSize = 15;
 
-		List<List<String>> partitions = Lists.partition(
-			namespacedClassCommandNames, groupSize);
+		List<List<String>> partitions = _partitionTestBatchGroup(
+			namespacedClassCommandNames, groupSize, testDurations);
 
 		for (int i = 0; i < partitions.size(); i++) {
 			sb.append("RUN_TEST_CASE_METHOD_GROUP_");
@@ -856,6 +1151,27 @@ public class PoshiRunnerContext {
 		return false;
 	}
 
+	private static void _loadLazyRootElement(
+		String classType, String classCommandName, String namespace) {
+
+		if (!_lazyLoading) {
+			return;
+		}
+
+		String className = classCommandName;
+
+		if (className.contains("#")) {
+			className = className.substring(0, className.indexOf("#"));
+		}
+
+		LazyRootElement lazyRootElement = _lazyRootElements.get(
+			classType + "#" + namespace + "." + className);
+
+		if (lazyRootElement != null) {
+			lazyRootElement.load();
+		}
+	}
+
 	private static void _overrideRootElement(
 			Element rootElement, String filePath, String namespace)
 		throws Exception {
@@ -885,6 +1201,11 @@ public class PoshiRunnerContext {
 			PoshiRunnerGetterUtil.getNamespaceFromNamespacedClassName(
 				baseNamespacedClassName);
 
+		String classType = PoshiRunnerGetterUtil.getClassTypeFromFilePath(
+			filePath);
+
+		_loadLazyRootElement(classType, baseClassName, baseNamespace);
+
 		if (_isClassOverridden(baseNamespace + "." + baseClassName)) {
 			StringBuilder sb = new StringBuilder();
 
@@ -903,9 +1224,6 @@ public class PoshiRunnerContext {
 			throw new RuntimeException(sb.toString());
 		}
 
-		String classType = PoshiRunnerGetterUtil.getClassTypeFromFilePath(
-			filePath);
-
 		if (classType.equals("test-case")) {
 			Element setUpElement = rootElement.element("set-up");
 
@@ -1076,6 +1394,18 @@ public class PoshiRunnerContext {
 		}
 	}
 
+	private static List<List<String>> _partitionTestBatchGroup(
+		List<String> namespacedClassCommandNames, int groupSize,
+		Map<String, Long> testDurations) {
+
+		if (testDurations.isEmpty()) {
+			return Lists.partition(namespacedClassCommandNames, groupSize);
+		}
+
+		return ListUtil.partition(
+			namespacedClassCommandNames, groupSize, testDurations);
+	}
+
 	private static void _readPoshiFiles(String[] testFileIncludes)
 		throws Exception {
 
@@ -1108,9 +1438,9 @@ public class PoshiRunnerContext {
 		throws Exception {
 
 		for (String baseDirName : baseDirNames) {
-			List<URL> poshiURLs = _getPoshiURLs(includes, baseDirName);
+			_reloadableBaseDirIncludes.put(baseDirName, includes);
 
-			_storeRootElements(poshiURLs, _DEFAULT_NAMESPACE);
+			_storeRootElements(null, includes, baseDirName, _DEFAULT_NAMESPACE);
 		}
 	}
 
@@ -1159,11 +1489,9 @@ public class PoshiRunnerContext {
 
 					_namespaces.add(namespace);
 
-					List<URL> poshiURLs = _getPoshiURLs(
+					_storeRootElements(
 						fileSystem, includes,
-						resourceURLString.substring(x + 1));
-
-					_storeRootElements(poshiURLs, namespace);
+						resourceURLString.substring(x + 1), namespace);
 				}
 			}
 		}
@@ -1179,6 +1507,184 @@ public class PoshiRunnerContext {
 		}
 
 		_seleniumParameterCounts.put("open", 1);
+
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+		MethodType methodType = MethodType.methodType(
+			Object.class, LiferaySelenium.class, String[].class);
+
+		for (Map.Entry<String, Integer> entry :
+				_seleniumParameterCounts.entrySet()) {
+
+			int parameterCount = entry.getValue();
+
+			Class<?>[] parameterClasses = new Class<?>[parameterCount];
+
+			Arrays.fill(parameterClasses, String.class);
+
+			Method method = null;
+
+			try {
+				method = LiferaySelenium.class.getMethod(
+					entry.getKey(), parameterClasses);
+			}
+			catch (NoSuchMethodException noSuchMethodException) {
+				continue;
+			}
+
+			MethodHandle methodHandle = lookup.unreflect(method);
+
+			methodHandle = methodHandle.asSpreader(
+				String[].class, parameterCount);
+
+			_seleniumMethodHandles.put(
+				entry.getKey(), methodHandle.asType(methodType));
+		}
+	}
+
+	private static void _removeKeys(Map<String, ?> map, String key) {
+		synchronized (map) {
+			Set<String> keys = map.keySet();
+
+			Iterator<String> iterator = keys.iterator();
+
+			while (iterator.hasNext()) {
+				String curKey = iterator.next();
+
+				if (curKey.equals(key) || curKey.startsWith(key + "#")) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	private static void _removeRootElement(String filePath, String namespace) {
+		String className = PoshiRunnerGetterUtil.getClassNameFromFilePath(
+			filePath);
+		String classType = PoshiRunnerGetterUtil.getClassTypeFromFilePath(
+			filePath);
+
+		String namespacedClassName = namespace + "." + className;
+
+		_lazyRootElements.remove(classType + "#" + namespacedClassName);
+
+		_removeKeys(_commandElements, classType + "#" + namespacedClassName);
+		_removeKeys(_commandSummaries, classType + "#" + namespacedClassName);
+		_removeKeys(_rootElements, classType + "#" + namespacedClassName);
+		_removeKeys(_rootVarElements, classType + "#" + namespacedClassName);
+
+		if (classType.equals("function")) {
+			_functionLocatorCounts.remove(namespacedClassName);
+		}
+		else if (classType.equals("macro")) {
+			PoshiProseMatcher.removePoshiProseMatchers(namespacedClassName);
+		}
+		else if (classType.equals("path")) {
+			_pathExtensions.remove(namespacedClassName);
+
+			_removeKeys(_pathLocators, namespacedClassName);
+
+			_resolvedPathLocators.clear();
+		}
+		else if (classType.equals("test-case")) {
+			_testCaseNamespacedClassNames.remove(namespacedClassName);
+
+			_removeKeys(
+				_namespacedClassCommandNamePropertiesMap, namespacedClassName);
+			_removeKeys(_testCaseDescriptions, namespacedClassName);
+		}
+	}
+
+	private static void _resetLoadDurations() {
+		for (AtomicLong duration : _loadDurations.values()) {
+			duration.set(0);
+		}
+	}
+
+	private static void _resolvePathExtensions() {
+		Map<String, List<String>> locatorKeysMap = new HashMap<>();
+
+		synchronized (_pathLocators) {
+			for (String pathLocatorKey : _pathLocators.keySet()) {
+				int x = pathLocatorKey.indexOf("#");
+
+				String namespacedClassName = pathLocatorKey.substring(0, x);
+
+				List<String> locatorKeys = locatorKeysMap.get(
+					namespacedClassName);
+
+				if (locatorKeys == null) {
+					locatorKeys = new ArrayList<>();
+
+					locatorKeysMap.put(namespacedClassName, locatorKeys);
+				}
+
+				locatorKeys.add(pathLocatorKey.substring(x + 1));
+			}
+		}
+
+		synchronized (_pathExtensions) {
+			for (Map.Entry<String, String> entry :
+					_pathExtensions.entrySet()) {
+
+				String namespacedClassName = entry.getKey();
+
+				String namespace =
+					PoshiRunnerGetterUtil.getNamespaceFromNamespacedClassName(
+						namespacedClassName);
+
+				Set<String> extendedNamespacedClassNames = new HashSet<>();
+
+				extendedNamespacedClassNames.add(namespacedClassName);
+
+				String extendedNamespacedClassName =
+					namespace + "." + entry.getValue();
+
+				while (extendedNamespacedClassNames.add(
+							extendedNamespacedClassName)) {
+
+					List<String> locatorKeys = locatorKeysMap.get(
+						extendedNamespacedClassName);
+
+					if (locatorKeys != null) {
+						for (String locatorKey : locatorKeys) {
+							String pathLocatorKey =
+								namespacedClassName + "#" + locatorKey;
+
+							if (_pathLocators.containsKey(pathLocatorKey)) {
+								continue;
+							}
+
+							_resolvedPathLocators.putIfAbsent(
+								pathLocatorKey,
+								_pathLocators.get(
+									extendedNamespacedClassName + "#" +
+										locatorKey));
+						}
+					}
+
+					String pathExtension = _pathExtensions.get(
+						extendedNamespacedClassName);
+
+					if (pathExtension == null) {
+						break;
+					}
+
+					extendedNamespacedClassName =
+						namespace + "." + pathExtension;
+				}
+			}
+		}
+	}
+
+	private static void _storeFunctionFileName(
+		String fileName, String namespace) {
+
+		String functionFileName = StringUtil.replace(
+			fileName, ".function", "");
+
+		_functionFileNames.add(functionFileName);
+		_functionFileNames.add(namespace + "." + functionFileName);
 	}
 
 	private static void _storePathElement(
@@ -1415,48 +1921,160 @@ public class PoshiRunnerContext {
 		}
 	}
 
-	private static void _storeRootElements(List<URL> urls, String namespace)
+	private static void _storeRootElements(
+			FileSystem fileSystem, String[] includes, String baseDirName,
+			final String namespace)
 		throws Exception {
 
-		Map<String, String> filePaths = new HashMap<>();
+		final Map<String, String> filePaths = Collections.synchronizedMap(
+			new HashMap<>());
+		final Map<URL, Future<URL>> futures = new LinkedHashMap<>();
+		final List<URL> deferredURLs = new ArrayList<>();
 
-		List<PoshiFileCallable> dependencyPoshiFileCallables =
-			new ArrayList<>();
-		List<PoshiFileCallable> macroPoshiFileCallables = new ArrayList<>();
-		List<PoshiFileCallable> testPoshiFileCallables = new ArrayList<>();
+		Consumer<URL> consumer = new Consumer<URL>() {
 
-		for (URL url : urls) {
-			String fileName = url.getFile();
+			@Override
+			public void accept(URL url) {
+				String fileName = PoshiRunnerGetterUtil.getFileNameFromFilePath(
+					_getFilePath(url));
 
-			if (fileName.contains(".macro")) {
-				macroPoshiFileCallables.add(
-					new PoshiFileCallable(url, filePaths, namespace));
+				if (fileName.endsWith(".macro") ||
+					fileName.endsWith(".prose") ||
+					fileName.endsWith(".testcase")) {
 
-				continue;
+					deferredURLs.add(url);
+
+					return;
+				}
+
+				if (fileName.endsWith(".function")) {
+					_storeFunctionFileName(fileName, namespace);
+				}
+
+				futures.put(
+					url,
+					_executorService.submit(
+						new PoshiFileCallable(url, filePaths, namespace)));
 			}
 
-			if (fileName.contains(".testcase") || fileName.contains(".prose")) {
-				testPoshiFileCallables.add(
-					new PoshiFileCallable(url, filePaths, namespace));
+		};
+
+		long start = System.currentTimeMillis();
+
+		if (fileSystem == null) {
+			FileUtil.getIncludedResourceURLs(
+				includes, PropsValues.TEST_EXCLUDE_DIR_NAMES, baseDirName,
+				consumer);
+		}
+		else {
+			FileUtil.getIncludedResourceURLs(
+				fileSystem, includes, PropsValues.TEST_EXCLUDE_DIR_NAMES,
+				baseDirName, consumer);
+		}
+
+		_loadDurations.get("discover").addAndGet(
+			System.currentTimeMillis() - start);
+
+		Map<URL, Future<URL>> macroFutures = new LinkedHashMap<>();
+		List<URL> proseURLs = new ArrayList<>();
+
+		for (URL url : deferredURLs) {
+			String fileName = url.getFile();
+
+			if (fileName.endsWith(".prose")) {
+				proseURLs.add(url);
 
 				continue;
 			}
 
-			dependencyPoshiFileCallables.add(
+			Future<URL> future = _executorService.submit(
 				new PoshiFileCallable(url, filePaths, namespace));
+
+			if (fileName.endsWith(".macro")) {
+				macroFutures.put(url, future);
+			}
+			else {
+				futures.put(url, future);
+			}
+		}
+
+		List<String> failureMessages = new ArrayList<>();
+
+		for (Map.Entry<URL, Future<URL>> entry : macroFutures.entrySet()) {
+			_waitForPoshiFile(
+				entry.getKey(), entry.getValue(), failureMessages);
+		}
+
+		if (!proseURLs.isEmpty()) {
+			for (URL proseURL : proseURLs) {
+				futures.put(
+					proseURL,
+					_executorService.submit(
+						new PoshiFileCallable(proseURL, filePaths, namespace)));
+			}
+		}
+
+		for (Map.Entry<URL, Future<URL>> entry : futures.entrySet()) {
+			_waitForPoshiFile(
+				entry.getKey(), entry.getValue(), failureMessages);
+		}
+
+		if (!failureMessages.isEmpty()) {
+			StringBuilder sb = new StringBuilder();
+
+			sb.append("Unable to load ");
+			sb.append(failureMessages.size());
+			sb.append(" Poshi file(s):\n");
+
+			for (String failureMessage : failureMessages) {
+				sb.append(failureMessage);
+				sb.append("\n");
+			}
+
+			throw new Exception(sb.toString());
 		}
+	}
+
+	private static void _validateLazyRootElements() {
+		List<LazyRootElement> unvalidatedLazyRootElements =
+			_unvalidatedLazyRootElements.get();
+
+		RuntimeException validationException = null;
 
-		ExecutorService executorService = Executors.newFixedThreadPool(16);
+		while (!unvalidatedLazyRootElements.isEmpty()) {
+			LazyRootElement lazyRootElement =
+				unvalidatedLazyRootElements.remove(0);
 
-		executorService.invokeAll(dependencyPoshiFileCallables);
+			try {
+				lazyRootElement._validate();
+			}
+			catch (RuntimeException runtimeException) {
+				if (validationException == null) {
+					validationException = runtimeException;
+				}
+			}
+		}
+
+		if (validationException != null) {
+			throw validationException;
+		}
+	}
 
-		executorService.invokeAll(macroPoshiFileCallables);
+	private static void _waitForPoshiFile(
+			URL url, Future<URL> future, List<String> failureMessages)
+		throws InterruptedException {
 
-		executorService.invokeAll(testPoshiFileCallables);
+		try {
+			future.get();
+		}
+		catch (ExecutionException executionException) {
+			Throwable throwable = executionException.getCause();
 
-		executorService.shutdown();
+			throwable.printStackTrace();
 
-		executorService.awaitTermination(60, TimeUnit.SECONDS);
+			failureMessages.add(
+				_getFilePath(url) + ": " + throwable.getMessage());
+		}
 	}
 
 	private static void _writeTestCaseMethodNamesProperties() throws Exception {
@@ -1602,12 +2220,31 @@ public class PoshiRunnerContext {
 		Collections.synchronizedMap(new HashMap<>());
 	private static final Set<String> _duplicateLocatorMessages =
 		Collections.synchronizedSet(new HashSet<>());
+	private static final ExecutorService _executorService =
+		Executors.newWorkStealingPool();
 	private static final Map<String, String> _filePaths =
 		Collections.synchronizedMap(new HashMap<>());
+	private static boolean _filesRead;
 	private static final Set<String> _functionFileNames =
 		Collections.synchronizedSet(new HashSet<>());
 	private static final Map<String, Integer> _functionLocatorCounts =
 		Collections.synchronizedMap(new HashMap<>());
+	private static final Map<String, Long> _lastModifiedTimes =
+		Collections.synchronizedMap(new HashMap<>());
+	private static boolean _lazyLoading = PropsValues.TEST_POSHI_LAZY_LOADING;
+	private static final Map<String, LazyRootElement> _lazyRootElements =
+		new ConcurrentHashMap<>();
+	private static final ThreadLocal<AtomicInteger>
+		_lazyRootElementStoreDepth = new ThreadLocal<AtomicInteger>() {
+
+			@Override
+			protected AtomicInteger initialValue() {
+				return new AtomicInteger();
+			}
+
+		};
+	private static final Map<String, AtomicLong> _loadDurations =
+		new LinkedHashMap<>();
 	private static final Pattern _namespaceClassCommandNamePattern =
 		Pattern.compile(
 			"(?<namespace>[^\\.]+)\\.(?<className>[^\\#]+)\\#" +
@@ -1619,6 +2256,10 @@ public class PoshiRunnerContext {
 		Collections.synchronizedList(new ArrayList<>());
 	private static final Map<String, String> _overrideClassNames =
 		Collections.synchronizedMap(new HashMap<>());
+	private static final Pattern _overrideAttributePattern = Pattern.compile(
+		"(@|\\s)override\\s*=\\s*\"");
+	private static final Set<String> _overrideFileURLs =
+		Collections.synchronizedSet(new HashSet<>());
 	private static final Map<String, String> _pathExtensions =
 		Collections.synchronizedMap(new HashMap<>());
 	private static final Map<String, String> _pathLocators =
@@ -1626,25 +2267,51 @@ public class PoshiRunnerContext {
 	private static final Pattern _poshiResourceJarNamePattern = Pattern.compile(
 		"jar:.*\\/(?<namespace>\\w+)\\-(?<branchName>\\w+" +
 			"([\\-\\.]\\w+)*)\\-.*?\\.jar.*");
+	private static final Pattern _proseAttributePattern = Pattern.compile(
+		"(@|\\s)prose\\s*=\\s*\"");
+	private static String[] _readFilesBaseDirNames;
+	private static String[] _readFilesIncludes;
+	private static final Map<String, String[]> _reloadableBaseDirIncludes =
+		Collections.synchronizedMap(new LinkedHashMap<>());
+	private static final Map<String, String> _resolvedPathLocators =
+		new ConcurrentHashMap<>();
+	private static final Pattern _rootElementStartPattern = Pattern.compile(
+		"\\{|<\\w[^>]*>");
 	private static final Map<String, Element> _rootElements =
 		Collections.synchronizedMap(new HashMap<>());
 	private static final Map<String, List<Element>> _rootVarElements =
 		Collections.synchronizedMap(new HashMap<>());
+	private static final Map<String, MethodHandle> _seleniumMethodHandles =
+		Collections.synchronizedMap(new HashMap<>());
 	private static final Map<String, Integer> _seleniumParameterCounts =
 		Collections.synchronizedMap(new HashMap<>());
 	private static final List<String> _testCaseAvailablePropertyNames =
 		Collections.synchronizedList(new ArrayList<>());
 	private static final Map<String, String> _testCaseDescriptions =
 		Collections.synchronizedMap(new HashMap<>());
-	private static String _testCaseNamespacedClassCommandName;
 	private static final List<String> _testCaseNamespacedClassCommandNames =
 		Collections.synchronizedList(new ArrayList<>());
 	private static final List<String> _testCaseNamespacedClassNames =
 		Collections.synchronizedList(new ArrayList<>());
 	private static final List<String> _testCaseRequiredPropertyNames =
 		Collections.synchronizedList(new ArrayList<>());
+	private static final ThreadLocal<List<LazyRootElement>>
+		_unvalidatedLazyRootElements =
+			new ThreadLocal<List<LazyRootElement>>() {
+
+				@Override
+				protected List<LazyRootElement> initialValue() {
+					return new ArrayList<>();
+				}
+
+			};
 
 	static {
+		_loadDurations.put("total", new AtomicLong());
+		_loadDurations.put("discover", new AtomicLong());
+		_loadDurations.put("parse", new AtomicLong());
+		_loadDurations.put("store", new AtomicLong());
+
 		String testCaseAvailablePropertyNames =
 			PropsValues.TEST_CASE_AVAILABLE_PROPERTY_NAMES;
 
@@ -1669,58 +2336,185 @@ public class PoshiRunnerContext {
 		}
 	}
 
-	private static class PoshiFileCallable implements Callable<URL> {
+	private static class LazyRootElement {
 
-		public URL call() {
-			String filePath = _url.getFile();
+		public void load() {
+			AtomicInteger lazyRootElementStoreDepth =
+				_lazyRootElementStoreDepth.get();
 
-			if (OSDetector.isWindows()) {
-				if (filePath.startsWith("/")) {
-					filePath = filePath.substring(1);
+			try {
+				_store(lazyRootElementStoreDepth);
+			}
+			finally {
+				if (lazyRootElementStoreDepth.get() == 0) {
+					_validateLazyRootElements();
 				}
-
-				filePath = StringUtil.replace(filePath, "/", "\\");
 			}
+		}
 
-			String fileName = PoshiRunnerGetterUtil.getFileNameFromFilePath(
-				filePath);
+		private LazyRootElement(String key, String namespace, URL url) {
+			_key = key;
+			_namespace = namespace;
+			_url = url;
+		}
 
-			if (_filePaths.containsKey(fileName)) {
-				System.out.println(
-					"WARNING: Duplicate file name '" + fileName +
-						"' found within the namespace '" + _namespace + "':\n" +
-							filePath + "\n" + _filePaths.get(fileName) + "\n");
+		private synchronized void _store(
+			AtomicInteger lazyRootElementStoreDepth) {
+
+			String filePath = _getFilePath(_url);
+
+			if (_exception != null) {
+				throw new RuntimeException(
+					"Unable to load Poshi file " + filePath, _exception);
 			}
 
-			_filePaths.put(fileName, filePath);
+			if (_loaded) {
+				return;
+			}
+
+			_loaded = true;
+
+			Set<String> duplicateLocatorMessages = new HashSet<>(
+				_duplicateLocatorMessages);
+
+			lazyRootElementStoreDepth.incrementAndGet();
 
 			try {
-				Element rootElement =
-					PoshiRunnerGetterUtil.getRootElementFromURL(_url);
+				_rootElement = PoshiRunnerGetterUtil.getRootElementFromURL(
+					_url);
 
-				_storeRootElement(rootElement, filePath, _namespace);
+				_storeRootElement(_rootElement, filePath, _namespace);
 
-				if (rootElement.attributeValue("override") == null) {
-					PoshiRunnerContext._filePaths.put(
-						_namespace + "." + fileName, filePath);
+				synchronized (_duplicateLocatorMessages) {
+					for (String duplicateLocatorMessage :
+							_duplicateLocatorMessages) {
 
-					if (fileName.endsWith(".function")) {
-						_functionFileNames.add(
-							StringUtil.replace(fileName, ".function", ""));
+						if (!duplicateLocatorMessages.contains(
+								duplicateLocatorMessage) &&
+							duplicateLocatorMessage.contains(filePath)) {
 
-						_functionFileNames.add(
-							_namespace + "." +
-								StringUtil.replace(fileName, ".function", ""));
+							throw _getDuplicateLocatorsException();
+						}
 					}
 				}
+
+				List<LazyRootElement> unvalidatedLazyRootElements =
+					_unvalidatedLazyRootElements.get();
+
+				unvalidatedLazyRootElements.add(this);
+			}
+			catch (Exception exception) {
+				_exception = exception;
+
+				throw new RuntimeException(
+					"Unable to load Poshi file " + filePath, exception);
+			}
+			finally {
+				lazyRootElementStoreDepth.decrementAndGet();
+			}
+		}
+
+		private void _validate() {
+			String filePath = _getFilePath(_url);
+
+			try {
+				PoshiRunnerValidation.validateLazyRootElement(
+					_rootElement, filePath);
 			}
 			catch (Exception exception) {
-				exception.printStackTrace();
+				synchronized (this) {
+					_exception = exception;
+				}
+
+				throw new RuntimeException(
+					"Unable to load Poshi file " + filePath, exception);
 			}
 
+			_lazyRootElements.remove(_key, this);
+		}
+
+		private Exception _exception;
+		private final String _key;
+		private boolean _loaded;
+		private final String _namespace;
+		private Element _rootElement;
+		private final URL _url;
+
+	}
+
+	private static class PoshiFileCallable implements Callable<URL> {
+
+		public URL call() throws Exception {
+			if (_isLazyLoadable()) {
+				storeLazyRootElement();
+
+				return _url;
+			}
+
+			long start = System.currentTimeMillis();
+
+			Element rootElement = PoshiRunnerGetterUtil.getRootElementFromURL(
+				_url);
+
+			_loadDurations.get("parse").addAndGet(
+				System.currentTimeMillis() - start);
+
+			start = System.currentTimeMillis();
+
+			storeRootElement(rootElement);
+
+			_loadDurations.get("store").addAndGet(
+				System.currentTimeMillis() - start);
+
 			return _url;
 		}
 
+		public void storeLazyRootElement() throws Exception {
+			String filePath = _getFilePath(_url);
+
+			_storeFilePath(filePath);
+
+			String className = PoshiRunnerGetterUtil.getClassNameFromFilePath(
+				filePath);
+			String classType = PoshiRunnerGetterUtil.getClassTypeFromFilePath(
+				filePath);
+
+			String key = classType + "#" + _namespace + "." + className;
+
+			_lazyRootElements.put(
+				key, new LazyRootElement(key, _namespace, _url));
+
+			_storeNamespacedFilePath(filePath);
+
+			_storeLastModifiedTime();
+		}
+
+		public void storeRootElement(Element rootElement) throws Exception {
+			String filePath = _getFilePath(_url);
+
+			_storeFilePath(filePath);
+
+			_storeRootElement(rootElement, filePath, _namespace);
+
+			if (rootElement.attributeValue("override") == null) {
+				_storeNamespacedFilePath(filePath);
+			}
+			else {
+				_overrideFileURLs.add(_url.toString());
+
+				String fileName = PoshiRunnerGetterUtil.getFileNameFromFilePath(
+					filePath);
+
+				if (fileName.endsWith(".function")) {
+					_functionFileNames.remove(
+						_namespace + "." +
+							StringUtil.replace(fileName, ".function", ""));
+				}
+			}
+
+			_storeLastModifiedTime();
+		}
+
 		private PoshiFileCallable(
 			URL url, Map<String, String> filePaths, String namespace) {
 
@@ -1729,6 +2523,94 @@ public class PoshiRunnerContext {
 			_namespace = namespace;
 		}
 
+		private boolean _isLazyLoadable() throws Exception {
+			if (!_lazyLoading) {
+				return false;
+			}
+
+			String filePath = _getFilePath(_url);
+
+			String className = PoshiRunnerGetterUtil.getClassNameFromFilePath(
+				filePath);
+			String classType = PoshiRunnerGetterUtil.getClassTypeFromFilePath(
+				filePath);
+
+			if (classType.equals("test-case") ||
+				_rootElements.containsKey(
+					classType + "#" + _namespace + "." + className)) {
+
+				return false;
+			}
+
+			try (BufferedReader bufferedReader = new BufferedReader(
+					new InputStreamReader(_url.openStream()))) {
+
+				String line = null;
+
+				while ((line = bufferedReader.readLine()) != null) {
+					Matcher matcher = _overrideAttributePattern.matcher(line);
+
+					if (matcher.find()) {
+						return false;
+					}
+
+					matcher = _rootElementStartPattern.matcher(line);
+
+					if (matcher.find()) {
+						break;
+					}
+				}
+
+				if (!classType.equals("macro")) {
+					return true;
+				}
+
+				while ((line = bufferedReader.readLine()) != null) {
+					Matcher matcher = _proseAttributePattern.matcher(line);
+
+					if (matcher.find()) {
+						return false;
+					}
+				}
+			}
+
+			return true;
+		}
+
+		private void _storeFilePath(String filePath) {
+			String fileName = PoshiRunnerGetterUtil.getFileNameFromFilePath(
+				filePath);
+
+			if (_filePaths.containsKey(fileName)) {
+				System.out.println(
+					"WARNING: Duplicate file name '" + fileName +
+						"' found within the namespace '" + _namespace + "':\n" +
+							filePath + "\n" + _filePaths.get(fileName) + "\n");
+			}
+
+			_filePaths.put(fileName, filePath);
+		}
+
+		private void _storeLastModifiedTime() throws Exception {
+			Long lastModifiedTime = _getLastModifiedTime(_url);
+
+			if (lastModifiedTime != null) {
+				_lastModifiedTimes.put(_url.toString(), lastModifiedTime);
+			}
+		}
+
+		private void _storeNamespacedFilePath(String filePath) {
+			String fileName = PoshiRunnerGetterUtil.getFileNameFromFilePath(
+				filePath);
+
+			PoshiRunnerContext._filePaths.put(
+				_namespace + "." + fileName, filePath);
+
+			if (fileName.endsWith(".function")) {
+				_storeFunctionFileName(fileName, _namespace);
+			}
+		}
+
 		private final Map<String, String> _filePaths;
 		private final String _namespace;
 		private final URL _url;
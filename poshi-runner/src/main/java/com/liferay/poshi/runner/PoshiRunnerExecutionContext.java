@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import com.liferay.poshi.runner.logger.SummaryLogger;
+import com.liferay.poshi.runner.selenium.SeleniumUtil;
+import com.liferay.poshi.runner.selenium.WebDriverUtil;
+import com.liferay.poshi.runner.util.EmailCommands;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Holds the runner state of a single test execution, so that several tests
+ * can run concurrently in one JVM against the same loaded {@link
+ * PoshiRunnerContext}. Threads without a bound context use a shared default
+ * context.
+ *
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerExecutionContext {
+
+	public static PoshiRunnerExecutionContext getCurrent() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			_poshiRunnerExecutionContexts.get();
+
+		if (poshiRunnerExecutionContext == null) {
+			return _defaultPoshiRunnerExecutionContext;
+		}
+
+		return poshiRunnerExecutionContext;
+	}
+
+	public static void setCurrent(
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext) {
+
+		if (poshiRunnerExecutionContext == null) {
+			_poshiRunnerExecutionContexts.remove();
+		}
+		else {
+			_poshiRunnerExecutionContexts.set(poshiRunnerExecutionContext);
+		}
+	}
+
+	/**
+	 * Returns a callable that runs the given callable with the current
+	 * execution context bound to whichever thread calls it.
+	 */
+	public static <T> Callable<T> wrap(final Callable<T> callable) {
+		final PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			getCurrent();
+
+		return new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				PoshiRunnerExecutionContext previousExecutionContext =
+					_poshiRunnerExecutionContexts.get();
+
+				setCurrent(poshiRunnerExecutionContext);
+
+				try {
+					return callable.call();
+				}
+				finally {
+					setCurrent(previousExecutionContext);
+				}
+			}
+
+		};
+	}
+
+	public EmailCommands getEmailCommands() {
+		return _emailCommands;
+	}
+
+	public List<String> getErrorTimestamps() {
+		return _errorTimestamps;
+	}
+
+	public List<Exception> getJavaScriptExceptions() {
+		return _javaScriptExceptions;
+	}
+
+	public List<Exception> getLiferayExceptions() {
+		return _liferayExceptions;
+	}
+
+	public PoshiRunnerStackTraceUtil getPoshiRunnerStackTraceUtil() {
+		return _poshiRunnerStackTraceUtil;
+	}
+
+	public PoshiRunnerVariablesUtil getPoshiRunnerVariablesUtil() {
+		return _poshiRunnerVariablesUtil;
+	}
+
+	public SeleniumUtil getSeleniumUtil() {
+		return _seleniumUtil;
+	}
+
+	public SummaryLogger getSummaryLogger() {
+		return _summaryLogger;
+	}
+
+	public String getTestCaseNamespacedClassCommandName() {
+		return _testCaseNamespacedClassCommandName;
+	}
+
+	public WebDriverUtil getWebDriverUtil() {
+		return _webDriverUtil;
+	}
+
+	public void setTestCaseNamespacedClassCommandName(
+		String testCaseNamespacedClassCommandName) {
+
+		_testCaseNamespacedClassCommandName =
+			testCaseNamespacedClassCommandName;
+	}
+
+	private static final PoshiRunnerExecutionContext
+		_defaultPoshiRunnerExecutionContext = new PoshiRunnerExecutionContext();
+	private static final ThreadLocal<PoshiRunnerExecutionContext>
+		_poshiRunnerExecutionContexts = new ThreadLocal<>();
+
+	private final EmailCommands _emailCommands = new EmailCommands();
+	private final List<String> _errorTimestamps = Collections.synchronizedList(
+		new ArrayList<String>());
+	private final List<Exception> _javaScriptExceptions =
+		Collections.synchronizedList(new ArrayList<Exception>());
+	private final List<Exception> _liferayExceptions =
+		Collections.synchronizedList(new ArrayList<Exception>());
+	private final PoshiRunnerStackTraceUtil _poshiRunnerStackTraceUtil =
+		new PoshiRunnerStackTraceUtil();
+	private final PoshiRunnerVariablesUtil _poshiRunnerVariablesUtil =
+		new PoshiRunnerVariablesUtil();
+	private final SeleniumUtil _seleniumUtil = new SeleniumUtil();
+	private final SummaryLogger _summaryLogger = new SummaryLogger();
+	private volatile String _testCaseNamespacedClassCommandName;
+	private final WebDriverUtil _webDriverUtil = new WebDriverUtil();
+
+}
@@ -19,6 +19,8 @@ import com.liferay.poshi.runner.logger.PoshiLogger;
 import com.liferay.poshi.runner.logger.SummaryLogger;
 import com.liferay.poshi.runner.selenium.LiferaySelenium;
 import com.liferay.poshi.runner.selenium.LiferaySeleniumHelper;
+import com.liferay.poshi.runner.selenium.SeleniumCommandExecutor;
+import com.liferay.poshi.runner.selenium.SeleniumCommandFuture;
 import com.liferay.poshi.runner.selenium.SeleniumUtil;
 import com.liferay.poshi.runner.util.FileUtil;
 import com.liferay.poshi.runner.util.GetterUtil;
@@ -32,8 +34,7 @@ import groovy.lang.Binding;
 
 import groovy.util.GroovyScriptEngine;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -41,9 +42,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
@@ -162,71 +160,81 @@ public class PoshiRunnerExecutor {
 	}
 
 	public void parseElement(Element element) throws Exception {
-		List<Element> childElements = element.elements();
+		PoshiRunnerInstruction poshiRunnerInstruction =
+			PoshiRunnerInstruction.compile(element);
 
-		for (Element childElement : childElements) {
-			String childElementName = childElement.getName();
+		for (PoshiRunnerInstruction childInstruction :
+				poshiRunnerInstruction.getChildInstructions()) {
 
-			if (childElementName.equals("echo") ||
-				childElementName.equals("description")) {
+			Element childElement = childInstruction.getElement();
 
-				runEchoElement(childElement);
-			}
-			else if (childElementName.equals("execute")) {
-				if (childElement.attributeValue("function") != null) {
-					runFunctionExecuteElement(childElement);
-				}
-				else if (childElement.attributeValue("groovy-script") != null) {
+			switch (childInstruction.getType()) {
+				case COMMAND_VAR:
+					runCommandVarElement(childElement, true);
+
+					break;
+				case ECHO:
+					runEchoElement(childElement);
+
+					break;
+				case EXECUTE_FUNCTION:
+					_runFunctionExecuteInstruction(childInstruction);
+
+					break;
+				case EXECUTE_GROOVY_SCRIPT:
 					runGroovyScriptElement(childElement);
-				}
-				else if (childElement.attributeValue("macro") != null) {
-					runMacroExecuteElement(childElement, "macro");
-				}
-				else if ((childElement.attributeValue("macro-desktop") !=
-							null) &&
-						 !PropsValues.MOBILE_BROWSER) {
 
-					runMacroExecuteElement(childElement, "macro-desktop");
-				}
-				else if ((childElement.attributeValue("macro-mobile") !=
-							null) &&
-						 PropsValues.MOBILE_BROWSER) {
+					break;
+				case EXECUTE_MACRO:
+				case EXECUTE_MACRO_DESKTOP:
+				case EXECUTE_MACRO_MOBILE:
+					_runMacroExecuteInstruction(
+						childInstruction,
+						childInstruction.getNamespacedClassCommandName());
 
-					runMacroExecuteElement(childElement, "macro-mobile");
-				}
-				else if (childElement.attributeValue("selenium") != null) {
-					runSeleniumElement(childElement);
-				}
-				else if (childElement.attributeValue("test-case") != null) {
-					runTestCaseExecuteElement(childElement);
-				}
-				else if (childElement.attributeValue("method") != null) {
+					break;
+				case EXECUTE_METHOD:
 					runMethodExecuteElement(childElement);
-				}
-			}
-			else if (childElementName.equals("if")) {
-				runIfElement(childElement);
-			}
-			else if (childElementName.equals("fail")) {
-				runFailElement(childElement);
-			}
-			else if (childElementName.equals("for")) {
-				runForElement(childElement);
-			}
-			else if (childElementName.equals("return")) {
-				runReturnElement(childElement);
-			}
-			else if (childElementName.equals("take-screenshot")) {
-				runTakeScreenshotElement(childElement);
-			}
-			else if (childElementName.equals("task")) {
-				runTaskElement(childElement);
-			}
-			else if (childElementName.equals("var")) {
-				runCommandVarElement(childElement, true);
-			}
-			else if (childElementName.equals("while")) {
-				runWhileElement(childElement);
+
+					break;
+				case EXECUTE_SELENIUM:
+					_runSeleniumInstruction(childInstruction);
+
+					break;
+				case EXECUTE_TEST_CASE:
+					_runTestCaseExecuteInstruction(childInstruction);
+
+					break;
+				case FAIL:
+					runFailElement(childElement);
+
+					break;
+				case FOR:
+					runForElement(childElement);
+
+					break;
+				case IF:
+					runIfElement(childElement);
+
+					break;
+				case RETURN:
+					runReturnElement(childElement);
+
+					break;
+				case TAKE_SCREENSHOT:
+					runTakeScreenshotElement(childElement);
+
+					break;
+				case TASK:
+					runTaskElement(childElement);
+
+					break;
+				case WHILE:
+					runWhileElement(childElement);
+
+					break;
+				default:
+					break;
 			}
 		}
 	}
@@ -438,165 +446,8 @@ public class PoshiRunnerExecutor {
 	public void runFunctionExecuteElement(Element executeElement)
 		throws Exception {
 
-		if (_functionExecuteElement == null) {
-			_functionExecuteElement = executeElement;
-		}
-
-		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
-
-		List<Element> executeVarElements = executeElement.elements("var");
-
-		for (Element executeVarElement : executeVarElements) {
-			runExecuteVarElement(executeVarElement, false);
-		}
-
-		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
-
-		String namespacedClassCommandName = executeElement.attributeValue(
-			"function");
-
-		String classCommandName =
-			PoshiRunnerGetterUtil.
-				getClassCommandNameFromNamespacedClassCommandName(
-					namespacedClassCommandName);
-
-		String className =
-			PoshiRunnerGetterUtil.getClassNameFromNamespacedClassCommandName(
-				classCommandName);
-
-		Exception exception = null;
-
-		int locatorCount = PoshiRunnerContext.getFunctionLocatorCount(
-			className,
-			PoshiRunnerStackTraceUtil.getCurrentNamespace(
-				namespacedClassCommandName));
-
-		for (int i = 1; i <= locatorCount; i++) {
-			String locator = executeElement.attributeValue("locator" + i);
-
-			if (locator == null) {
-				locator = PoshiRunnerVariablesUtil.getStringFromCommandMap(
-					"locator" + i);
-			}
-
-			if (locator != null) {
-				Matcher matcher = _locatorKeyPattern.matcher(locator);
-
-				if (matcher.find() && !locator.contains("/")) {
-					String pathClassName =
-						PoshiRunnerVariablesUtil.getReplacedCommandVarsString(
-							PoshiRunnerGetterUtil.
-								getClassNameFromNamespacedClassCommandName(
-									locator));
-
-					String locatorKey =
-						PoshiRunnerVariablesUtil.getReplacedCommandVarsString(
-							PoshiRunnerGetterUtil.
-								getCommandNameFromNamespacedClassCommandName(
-									locator));
-
-					PoshiRunnerVariablesUtil.putIntoExecuteMap(
-						"locator-key" + i, locatorKey);
-
-					locator = PoshiRunnerContext.getPathLocator(
-						pathClassName + "#" + locatorKey,
-						PoshiRunnerGetterUtil.
-							getNamespaceFromNamespacedClassCommandName(
-								locator));
-
-					if (locator == null) {
-						exception = new Exception(
-							"No such locator key " + pathClassName + "#" +
-								locatorKey);
-					}
-
-					locator =
-						(String)PoshiRunnerVariablesUtil.replaceExecuteVars(
-							locator);
-				}
-
-				PoshiRunnerVariablesUtil.putIntoExecuteMap(
-					"locator" + i, locator);
-			}
-
-			String value = executeElement.attributeValue("value" + i);
-
-			if (value == null) {
-				value = PoshiRunnerVariablesUtil.getStringFromCommandMap(
-					"value" + i);
-			}
-
-			if (value != null) {
-				PoshiRunnerVariablesUtil.putIntoExecuteMap("value" + i, value);
-			}
-		}
-
-		if (_functionExecuteElement == executeElement) {
-			SummaryLogger.startSummary(_functionExecuteElement);
-		}
-
-		_poshiLogger.startCommand(executeElement);
-
-		PoshiRunnerStackTraceUtil.pushStackTrace(executeElement);
-
-		Element commandElement = PoshiRunnerContext.getFunctionCommandElement(
-			classCommandName,
-			PoshiRunnerStackTraceUtil.getCurrentNamespace(
-				namespacedClassCommandName));
-
-		try {
-			if (exception != null) {
-				throw exception;
-			}
-
-			runFunctionCommandElement(commandElement);
-		}
-		catch (Throwable t) {
-			String warningMessage = _getWarningFromThrowable(t);
-
-			if (warningMessage != null) {
-				_functionWarningMessage = warningMessage;
-			}
-			else {
-				PoshiRunnerStackTraceUtil.popStackTrace();
-
-				if (_functionExecuteElement == executeElement) {
-					PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
-
-					SummaryLogger.failSummary(
-						_functionExecuteElement, t.getMessage(),
-						_poshiLogger.getDetailsLinkId());
-
-					_poshiLogger.failCommand(_functionExecuteElement);
-
-					_functionExecuteElement = null;
-					_functionWarningMessage = null;
-				}
-
-				throw t;
-			}
-		}
-
-		PoshiRunnerStackTraceUtil.popStackTrace();
-
-		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
-
-		if (_functionExecuteElement == executeElement) {
-			if (_functionWarningMessage != null) {
-				SummaryLogger.warnSummary(
-					_functionExecuteElement, _functionWarningMessage);
-
-				_poshiLogger.warnCommand(_functionExecuteElement);
-			}
-			else {
-				SummaryLogger.passSummary(executeElement);
-
-				_poshiLogger.passCommand(executeElement);
-			}
-
-			_functionExecuteElement = null;
-			_functionWarningMessage = null;
-		}
+		_runFunctionExecuteInstruction(
+			PoshiRunnerInstruction.compile(executeElement));
 	}
 
 	public void runGroovyScriptElement(Element executeElement)
@@ -752,109 +603,46 @@ public class PoshiRunnerExecutor {
 	public void runMacroExecuteElement(Element executeElement, String macroType)
 		throws Exception {
 
-		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
-
-		String namespacedClassCommandName = executeElement.attributeValue(
-			macroType);
-
-		String classCommandName =
-			PoshiRunnerGetterUtil.
-				getClassCommandNameFromNamespacedClassCommandName(
-					namespacedClassCommandName);
+		_runMacroExecuteInstruction(
+			PoshiRunnerInstruction.compile(executeElement),
+			executeElement.attributeValue(macroType));
+	}
 
-		List<Element> executeVarElements = executeElement.elements("var");
+	public void runMethodExecuteElement(Element executeElement)
+		throws Exception {
 
-		for (Element executeVarElement : executeVarElements) {
-			runExecuteVarElement(executeVarElement, false);
-		}
+		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
 
-		PoshiRunnerStackTraceUtil.pushStackTrace(executeElement);
+		List<String> args = new ArrayList<>();
 
-		String namespace = PoshiRunnerStackTraceUtil.getCurrentNamespace(
-			namespacedClassCommandName);
+		List<Element> argElements = executeElement.elements("arg");
 
-		SummaryLogger.startSummary(executeElement);
+		for (Element argElement : argElements) {
+			args.add(argElement.attributeValue("value"));
+		}
 
-		Element commandElement = PoshiRunnerContext.getMacroCommandElement(
-			classCommandName, namespace);
+		String className = executeElement.attributeValue("class");
+		String methodName = executeElement.attributeValue("method");
 
 		try {
-			runMacroCommandElement(commandElement, namespacedClassCommandName);
+			Object returnValue = PoshiRunnerGetterUtil.getMethodReturnValue(
+				args, className, methodName, null);
 
 			Element returnElement = executeElement.element("return");
 
 			if (returnElement != null) {
-				if (_macroReturnValue == null) {
-					throw new RuntimeException(
-						"No value was returned from macro command '" +
-							namespacedClassCommandName + "'");
-				}
-
-				String returnName = returnElement.attributeValue("name");
-
-				if (PoshiRunnerVariablesUtil.containsKeyInStaticMap(
-						returnName)) {
-
-					PoshiRunnerVariablesUtil.putIntoStaticMap(
-						returnName, _macroReturnValue);
-				}
-
 				PoshiRunnerVariablesUtil.putIntoCommandMap(
-					returnName, _macroReturnValue);
-
-				_macroReturnValue = null;
+					returnElement.attributeValue("name"), returnValue);
 			}
-		}
-		catch (Exception exception) {
-			SummaryLogger.failSummary(
-				executeElement, exception.getMessage(),
-				_poshiLogger.getDetailsLinkId());
 
-			throw exception;
+			_poshiLogger.logExternalMethodCommand(
+				executeElement, args, returnValue);
 		}
+		catch (Throwable t) {
+			_poshiLogger.updateStatus(executeElement, "fail");
 
-		SummaryLogger.passSummary(executeElement);
-
-		PoshiRunnerStackTraceUtil.popStackTrace();
-
-		_poshiLogger.updateStatus(executeElement, "pass");
-	}
-
-	public void runMethodExecuteElement(Element executeElement)
-		throws Exception {
-
-		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
-
-		List<String> args = new ArrayList<>();
-
-		List<Element> argElements = executeElement.elements("arg");
-
-		for (Element argElement : argElements) {
-			args.add(argElement.attributeValue("value"));
-		}
-
-		String className = executeElement.attributeValue("class");
-		String methodName = executeElement.attributeValue("method");
-
-		try {
-			Object returnValue = PoshiRunnerGetterUtil.getMethodReturnValue(
-				args, className, methodName, null);
-
-			Element returnElement = executeElement.element("return");
-
-			if (returnElement != null) {
-				PoshiRunnerVariablesUtil.putIntoCommandMap(
-					returnElement.attributeValue("name"), returnValue);
-			}
-
-			_poshiLogger.logExternalMethodCommand(
-				executeElement, args, returnValue);
-		}
-		catch (Throwable t) {
-			_poshiLogger.updateStatus(executeElement, "fail");
-
-			throw t;
-		}
+			throw t;
+		}
 
 		_poshiLogger.updateStatus(executeElement, "pass");
 	}
@@ -934,95 +722,7 @@ public class PoshiRunnerExecutor {
 	}
 
 	public void runSeleniumElement(Element executeElement) throws Exception {
-		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
-
-		List<String> arguments = new ArrayList<>();
-		List<Class<?>> parameterClasses = new ArrayList<>();
-
-		String selenium = executeElement.attributeValue("selenium");
-
-		int parameterCount = PoshiRunnerContext.getSeleniumParameterCount(
-			selenium);
-
-		for (int i = 0; i < parameterCount; i++) {
-			String argument = executeElement.attributeValue(
-				"argument" + (i + 1));
-
-			if (argument == null) {
-				if (i == 0) {
-					if (selenium.equals("assertConfirmation") ||
-						selenium.equals("assertConsoleTextNotPresent") ||
-						selenium.equals("assertConsoleTextPresent") ||
-						selenium.equals("assertHTMLSourceTextNotPresent") ||
-						selenium.equals("assertHTMLSourceTextPresent") ||
-						selenium.equals("assertLocation") ||
-						selenium.equals("assertNotLocation") ||
-						selenium.equals("assertPartialConfirmation") ||
-						selenium.equals("assertPartialLocation") ||
-						selenium.equals("assertTextNotPresent") ||
-						selenium.equals("assertTextPresent") ||
-						selenium.equals("isConsoleTextNotPresent") ||
-						selenium.equals("isConsoleTextPresent") ||
-						selenium.equals("scrollBy") ||
-						selenium.equals("waitForConfirmation") ||
-						selenium.equals("waitForConsoleTextNotPresent") ||
-						selenium.equals("waitForConsoleTextPresent") ||
-						selenium.equals("waitForTextNotPresent") ||
-						selenium.equals("waitForTextPresent")) {
-
-						argument =
-							PoshiRunnerVariablesUtil.getStringFromCommandMap(
-								"value1");
-					}
-					else {
-						argument =
-							PoshiRunnerVariablesUtil.getStringFromCommandMap(
-								"locator1");
-					}
-				}
-				else if (i == 1) {
-					argument = PoshiRunnerVariablesUtil.getStringFromCommandMap(
-						"value1");
-
-					if (selenium.equals("clickAt")) {
-						argument = "";
-					}
-				}
-				else if (i == 2) {
-					if (selenium.equals("assertCssValue")) {
-						argument =
-							PoshiRunnerVariablesUtil.getStringFromCommandMap(
-								"value1");
-					}
-					else {
-						argument =
-							PoshiRunnerVariablesUtil.getStringFromCommandMap(
-								"locator2");
-					}
-				}
-			}
-			else {
-				argument =
-					PoshiRunnerVariablesUtil.getReplacedCommandVarsString(
-						argument);
-			}
-
-			arguments.add(argument);
-
-			parameterClasses.add(String.class);
-		}
-
-		_poshiLogger.logSeleniumCommand(executeElement, arguments);
-
-		LiferaySelenium liferaySelenium = SeleniumUtil.getSelenium();
-
-		Class<?> clazz = liferaySelenium.getClass();
-
-		Method method = clazz.getMethod(
-			selenium, parameterClasses.toArray(new Class<?>[0]));
-
-		_returnObject = invokeLiferaySeleniumMethod(
-			method, arguments.toArray(new String[0]));
+		_runSeleniumInstruction(PoshiRunnerInstruction.compile(executeElement));
 	}
 
 	public void runTakeScreenshotElement(Element element) throws Exception {
@@ -1083,25 +783,8 @@ public class PoshiRunnerExecutor {
 	public void runTestCaseExecuteElement(Element executeElement)
 		throws Exception {
 
-		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
-
-		String namespacedClassCommandName = executeElement.attributeValue(
-			"test-case");
-
-		PoshiRunnerStackTraceUtil.pushStackTrace(executeElement);
-
-		String namespace =
-			PoshiRunnerGetterUtil.getNamespaceFromNamespacedClassCommandName(
-				namespacedClassCommandName);
-
-		Element commandElement = PoshiRunnerContext.getTestCaseCommandElement(
-			namespacedClassCommandName, namespace);
-
-		runTestCaseCommandElement(commandElement, namespacedClassCommandName);
-
-		PoshiRunnerStackTraceUtil.popStackTrace();
-
-		_poshiLogger.updateStatus(executeElement, "pass");
+		_runTestCaseExecuteInstruction(
+			PoshiRunnerInstruction.compile(executeElement));
 	}
 
 	public void runWhileElement(Element element) throws Exception {
@@ -1148,30 +831,29 @@ public class PoshiRunnerExecutor {
 			Callable<?> callable, String description, long timeoutSeconds)
 		throws Exception {
 
-		ExecutorService executorService = Executors.newSingleThreadExecutor();
-
-		Future<?> future = executorService.submit(callable);
-
-		executorService.shutdown();
+		SeleniumCommandFuture<?> seleniumCommandFuture =
+			SeleniumCommandExecutor.submit(callable);
 
 		try {
-			return future.get(timeoutSeconds, TimeUnit.SECONDS);
+			return seleniumCommandFuture.get(timeoutSeconds, TimeUnit.SECONDS);
 		}
 		catch (ExecutionException executionException) {
-			if (PropsValues.DEBUG_STACKTRACE) {
-				throw executionException;
-			}
-
 			Throwable throwable = executionException.getCause();
 
 			if (throwable instanceof Error) {
 				throw (Error)throwable;
 			}
 
+			if (PropsValues.DEBUG_STACKTRACE ||
+				!(throwable instanceof Exception)) {
+
+				throw executionException;
+			}
+
 			throw (Exception)throwable;
 		}
 		catch (InterruptedException | TimeoutException exception) {
-			future.cancel(true);
+			seleniumCommandFuture.cancel(true);
 
 			if (exception instanceof TimeoutException) {
 				System.out.println(
@@ -1182,25 +864,30 @@ public class PoshiRunnerExecutor {
 			throw new Exception(
 				"An error occurred while executing " + description, exception);
 		}
+		finally {
+			PoshiRunnerMetricsUtil.recordLatency(
+				"selenium", description,
+				seleniumCommandFuture.getRunningMillis());
+		}
 	}
 
-	protected Object invokeLiferaySeleniumMethod(Method method, Object... args)
+	protected Object invokeLiferaySeleniumMethod(
+			MethodHandle methodHandle, String methodName, String... args)
 		throws Exception {
 
 		LiferaySelenium liferaySelenium = SeleniumUtil.getSelenium();
 
-		String methodName = method.getName();
-
 		Callable<Object> task = new Callable<Object>() {
 
 			public Object call() throws Exception {
 				try {
-					return method.invoke(liferaySelenium, args);
-				}
-				catch (InvocationTargetException invocationTargetException) {
-					Throwable throwable = invocationTargetException.getCause();
+					try {
+						return (Object)methodHandle.invokeExact(
+							liferaySelenium, args);
+					}
+					catch (StaleElementReferenceException
+								staleElementReferenceException) {
 
-					if (throwable instanceof StaleElementReferenceException) {
 						StringBuilder sb = new StringBuilder();
 
 						sb.append("\nElement turned stale while running ");
@@ -1211,37 +898,22 @@ public class PoshiRunnerExecutor {
 
 						System.out.println(sb.toString());
 
-						try {
-							return method.invoke(liferaySelenium, args);
-						}
-						catch (Exception exception) {
-							throwable = exception.getCause();
-
-							if (PropsValues.DEBUG_STACKTRACE) {
-								throw new Exception(
-									throwable.getMessage(), exception);
-							}
+						return (Object)methodHandle.invokeExact(
+							liferaySelenium, args);
+					}
+				}
+				catch (Throwable throwable) {
+					if (throwable instanceof Error) {
+						throw (Error)throwable;
+					}
 
-							if (throwable instanceof Error) {
-								throw (Error)throwable;
-							}
+					if (PropsValues.DEBUG_STACKTRACE ||
+						!(throwable instanceof Exception)) {
 
-							throw (Exception)throwable;
-						}
-					}
-					else {
-						if (PropsValues.DEBUG_STACKTRACE) {
-							throw new Exception(
-								throwable.getMessage(),
-								invocationTargetException);
-						}
-
-						if (throwable instanceof Error) {
-							throw (Error)throwable;
-						}
-
-						throw (Exception)throwable;
+						throw new Exception(throwable.getMessage(), throwable);
 					}
+
+					throw (Exception)throwable;
 				}
 			}
 
@@ -1355,6 +1027,314 @@ public class PoshiRunnerExecutor {
 		return null;
 	}
 
+	private void _runFunctionExecuteInstruction(
+			PoshiRunnerInstruction poshiRunnerInstruction)
+		throws Exception {
+
+		Element executeElement = poshiRunnerInstruction.getElement();
+
+		if (_functionExecuteElement == null) {
+			_functionExecuteElement = executeElement;
+		}
+
+		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
+
+		for (Element executeVarElement :
+				poshiRunnerInstruction.getVarElements()) {
+
+			runExecuteVarElement(executeVarElement, false);
+		}
+
+		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
+
+		String namespacedClassCommandName =
+			poshiRunnerInstruction.getNamespacedClassCommandName();
+
+		Exception exception = null;
+
+		int locatorCount = poshiRunnerInstruction.getLocatorCount(
+			PoshiRunnerStackTraceUtil.getCurrentNamespace(
+				namespacedClassCommandName));
+
+		for (int i = 1; i <= locatorCount; i++) {
+			String locator = executeElement.attributeValue("locator" + i);
+
+			if (locator == null) {
+				locator = PoshiRunnerVariablesUtil.getStringFromCommandMap(
+					"locator" + i);
+			}
+
+			if (locator != null) {
+				Matcher matcher = _locatorKeyPattern.matcher(locator);
+
+				if (matcher.find() && !locator.contains("/")) {
+					String pathClassName =
+						PoshiRunnerVariablesUtil.getReplacedCommandVarsString(
+							PoshiRunnerGetterUtil.
+								getClassNameFromNamespacedClassCommandName(
+									locator));
+
+					String locatorKey =
+						PoshiRunnerVariablesUtil.getReplacedCommandVarsString(
+							PoshiRunnerGetterUtil.
+								getCommandNameFromNamespacedClassCommandName(
+									locator));
+
+					PoshiRunnerVariablesUtil.putIntoExecuteMap(
+						"locator-key" + i, locatorKey);
+
+					locator = PoshiRunnerContext.getPathLocator(
+						pathClassName + "#" + locatorKey,
+						PoshiRunnerGetterUtil.
+							getNamespaceFromNamespacedClassCommandName(
+								locator));
+
+					if (locator == null) {
+						exception = new Exception(
+							"No such locator key " + pathClassName + "#" +
+								locatorKey);
+					}
+
+					locator =
+						(String)PoshiRunnerVariablesUtil.replaceExecuteVars(
+							locator);
+				}
+
+				PoshiRunnerVariablesUtil.putIntoExecuteMap(
+					"locator" + i, locator);
+			}
+
+			String value = executeElement.attributeValue("value" + i);
+
+			if (value == null) {
+				value = PoshiRunnerVariablesUtil.getStringFromCommandMap(
+					"value" + i);
+			}
+
+			if (value != null) {
+				PoshiRunnerVariablesUtil.putIntoExecuteMap("value" + i, value);
+			}
+		}
+
+		if (_functionExecuteElement == executeElement) {
+			SummaryLogger.startSummary(_functionExecuteElement);
+		}
+
+		_poshiLogger.startCommand(executeElement);
+
+		PoshiRunnerStackTraceUtil.pushStackTrace(executeElement);
+
+		Element commandElement = poshiRunnerInstruction.getCommandElement(
+			PoshiRunnerStackTraceUtil.getCurrentNamespace(
+				namespacedClassCommandName));
+
+		long start = System.currentTimeMillis();
+
+		try {
+			if (exception != null) {
+				throw exception;
+			}
+
+			runFunctionCommandElement(commandElement);
+		}
+		catch (Throwable t) {
+			String warningMessage = _getWarningFromThrowable(t);
+
+			if (warningMessage != null) {
+				_functionWarningMessage = warningMessage;
+			}
+			else {
+				PoshiRunnerStackTraceUtil.popStackTrace();
+
+				if (_functionExecuteElement == executeElement) {
+					PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
+
+					SummaryLogger.failSummary(
+						_functionExecuteElement, t.getMessage(),
+						_poshiLogger.getDetailsLinkId());
+
+					_poshiLogger.failCommand(_functionExecuteElement);
+
+					_functionExecuteElement = null;
+					_functionWarningMessage = null;
+				}
+
+				throw t;
+			}
+		}
+		finally {
+			PoshiRunnerMetricsUtil.recordLatency(
+				"function", namespacedClassCommandName,
+				System.currentTimeMillis() - start);
+		}
+
+		PoshiRunnerStackTraceUtil.popStackTrace();
+
+		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
+
+		if (_functionExecuteElement == executeElement) {
+			if (_functionWarningMessage != null) {
+				SummaryLogger.warnSummary(
+					_functionExecuteElement, _functionWarningMessage);
+
+				_poshiLogger.warnCommand(_functionExecuteElement);
+			}
+			else {
+				SummaryLogger.passSummary(executeElement);
+
+				_poshiLogger.passCommand(executeElement);
+			}
+
+			_functionExecuteElement = null;
+			_functionWarningMessage = null;
+		}
+	}
+
+	private void _runMacroExecuteInstruction(
+			PoshiRunnerInstruction poshiRunnerInstruction,
+			String namespacedClassCommandName)
+		throws Exception {
+
+		Element executeElement = poshiRunnerInstruction.getElement();
+
+		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
+
+		for (Element executeVarElement :
+				poshiRunnerInstruction.getVarElements()) {
+
+			runExecuteVarElement(executeVarElement, false);
+		}
+
+		PoshiRunnerStackTraceUtil.pushStackTrace(executeElement);
+
+		String namespace = PoshiRunnerStackTraceUtil.getCurrentNamespace(
+			namespacedClassCommandName);
+
+		SummaryLogger.startSummary(executeElement);
+
+		Element commandElement = poshiRunnerInstruction.getCommandElement(
+			namespace);
+
+		long start = System.currentTimeMillis();
+
+		try {
+			runMacroCommandElement(commandElement, namespacedClassCommandName);
+
+			Element returnElement = poshiRunnerInstruction.getReturnElement();
+
+			if (returnElement != null) {
+				if (_macroReturnValue == null) {
+					throw new RuntimeException(
+						"No value was returned from macro command '" +
+							namespacedClassCommandName + "'");
+				}
+
+				String returnName = returnElement.attributeValue("name");
+
+				if (PoshiRunnerVariablesUtil.containsKeyInStaticMap(
+						returnName)) {
+
+					PoshiRunnerVariablesUtil.putIntoStaticMap(
+						returnName, _macroReturnValue);
+				}
+
+				PoshiRunnerVariablesUtil.putIntoCommandMap(
+					returnName, _macroReturnValue);
+
+				_macroReturnValue = null;
+			}
+		}
+		catch (Exception exception) {
+			SummaryLogger.failSummary(
+				executeElement, exception.getMessage(),
+				_poshiLogger.getDetailsLinkId());
+
+			throw exception;
+		}
+		finally {
+			PoshiRunnerMetricsUtil.recordLatency(
+				"macro", namespacedClassCommandName,
+				System.currentTimeMillis() - start);
+		}
+
+		SummaryLogger.passSummary(executeElement);
+
+		PoshiRunnerStackTraceUtil.popStackTrace();
+
+		_poshiLogger.updateStatus(executeElement, "pass");
+	}
+
+	private void _runSeleniumInstruction(
+			PoshiRunnerInstruction poshiRunnerInstruction)
+		throws Exception {
+
+		Element executeElement = poshiRunnerInstruction.getElement();
+
+		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
+
+		MethodHandle methodHandle =
+			poshiRunnerInstruction.getSeleniumMethodHandle();
+
+		String[] seleniumArguments =
+			poshiRunnerInstruction.getSeleniumArguments();
+		String[] seleniumDefaultArgumentNames =
+			poshiRunnerInstruction.getSeleniumDefaultArgumentNames();
+
+		List<String> arguments = new ArrayList<>(seleniumArguments.length);
+
+		for (int i = 0; i < seleniumArguments.length; i++) {
+			String argument = seleniumArguments[i];
+
+			if (argument == null) {
+				if (seleniumDefaultArgumentNames[i] != null) {
+					argument = PoshiRunnerVariablesUtil.getStringFromCommandMap(
+						seleniumDefaultArgumentNames[i]);
+				}
+			}
+			else {
+				argument =
+					PoshiRunnerVariablesUtil.getReplacedCommandVarsString(
+						argument);
+			}
+
+			arguments.add(argument);
+		}
+
+		_poshiLogger.logSeleniumCommand(executeElement, arguments);
+
+		_returnObject = invokeLiferaySeleniumMethod(
+			methodHandle,
+			executeElement.attributeValue("selenium"),
+			arguments.toArray(new String[0]));
+	}
+
+	private void _runTestCaseExecuteInstruction(
+			PoshiRunnerInstruction poshiRunnerInstruction)
+		throws Exception {
+
+		Element executeElement = poshiRunnerInstruction.getElement();
+
+		PoshiRunnerStackTraceUtil.setCurrentElement(executeElement);
+
+		String namespacedClassCommandName =
+			poshiRunnerInstruction.getNamespacedClassCommandName();
+
+		PoshiRunnerStackTraceUtil.pushStackTrace(executeElement);
+
+		String namespace =
+			PoshiRunnerGetterUtil.getNamespaceFromNamespacedClassCommandName(
+				namespacedClassCommandName);
+
+		Element commandElement = poshiRunnerInstruction.getCommandElement(
+			namespace);
+
+		runTestCaseCommandElement(commandElement, namespacedClassCommandName);
+
+		PoshiRunnerStackTraceUtil.popStackTrace();
+
+		_poshiLogger.updateStatus(executeElement, "pass");
+	}
+
 	private static final Pattern _locatorKeyPattern = Pattern.compile(
 		"\\S#\\S");
 	private static final Pattern _variablePattern = Pattern.compile(
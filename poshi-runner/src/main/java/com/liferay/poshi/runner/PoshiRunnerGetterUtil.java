@@ -17,6 +17,7 @@ package com.liferay.poshi.runner;
 import com.google.common.reflect.ClassPath;
 
 import com.liferay.poshi.runner.elements.PoshiElement;
+import com.liferay.poshi.runner.elements.PoshiFileCacheUtil;
 import com.liferay.poshi.runner.elements.PoshiNode;
 import com.liferay.poshi.runner.elements.PoshiNodeFactory;
 import com.liferay.poshi.runner.prose.PoshiProseDefinition;
@@ -28,30 +29,36 @@ import com.liferay.poshi.runner.util.GetterUtil;
 import com.liferay.poshi.runner.util.OSDetector;
 import com.liferay.poshi.runner.util.PropsUtil;
 import com.liferay.poshi.runner.util.PropsValues;
-import com.liferay.poshi.runner.util.StringUtil;
 import com.liferay.poshi.runner.util.Validator;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringReader;
+import java.io.Reader;
 
 import java.net.URL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.dom4j.Document;
 import org.dom4j.DocumentException;
+import org.dom4j.DocumentFactory;
 import org.dom4j.Element;
+import org.dom4j.io.SAXContentHandler;
 import org.dom4j.io.SAXReader;
 
+import org.xml.sax.Attributes;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.AttributesImpl;
+
 /**
  * @author Karen Dang
  * @author Michael Hashimoto
@@ -376,130 +383,23 @@ public class PoshiRunnerGetterUtil {
 		throws Exception {
 
 		String fileContent = FileUtil.read(url);
-		String filePath = url.getFile();
-
-		if (fileContent.endsWith("}") &&
-			(filePath.endsWith(".function") || filePath.endsWith(".macro") ||
-			 filePath.endsWith(".testcase"))) {
-
-			PoshiNode<?, ?> poshiNode = PoshiNodeFactory.newPoshiNodeFromFile(
-				url);
 
-			if (poshiNode instanceof PoshiElement) {
-				return (Element)poshiNode;
-			}
+		if (!addLineNumbers) {
+			return _getRootElement(fileContent, url, addLineNumbers);
 		}
 
-		if (filePath.endsWith(".prose")) {
-			PoshiProseDefinition poshiProseDefinition =
-				new PoshiProseDefinition(
-					getFileNameFromFilePath(filePath), fileContent);
-
-			fileContent = Dom4JUtil.format(poshiProseDefinition.toElement());
-		}
-
-		BufferedReader bufferedReader = new BufferedReader(
-			new StringReader(fileContent));
-
-		boolean cdata = false;
-		String line = null;
-		int lineNumber = 1;
-		StringBuilder sb = new StringBuilder();
-
-		while ((line = bufferedReader.readLine()) != null) {
-			Matcher matcher = _tagPattern.matcher(line);
-
-			if (line.contains("<![CDATA[") || cdata) {
-				if (line.contains("]]>")) {
-					cdata = false;
-				}
-				else {
-					cdata = true;
-				}
-
-				if (line.contains("<![CDATA[") && matcher.find() &&
-					addLineNumbers) {
-
-					for (String reservedTag : _reservedTags) {
-						if (line.contains("<" + reservedTag)) {
-							line = StringUtil.replace(
-								line, matcher.group(),
-								matcher.group() + " line-number=\"" +
-									lineNumber + "\"");
+		Element rootElement = PoshiFileCacheUtil.getRootElement(
+			url, fileContent);
 
-							break;
-						}
-					}
-				}
-			}
-			else if (matcher.find()) {
-				boolean tagIsReservedTag = false;
-
-				for (String reservedTag : _reservedTags) {
-					if (line.contains("<" + reservedTag)) {
-						if (addLineNumbers) {
-							line = StringUtil.replace(
-								line, matcher.group(),
-								matcher.group() + " line-number=\"" +
-									lineNumber + "\"");
-						}
-
-						tagIsReservedTag = true;
-
-						break;
-					}
-				}
-
-				if (!tagIsReservedTag) {
-					int x = line.indexOf("<");
-
-					int y = line.indexOf(" ", x);
-
-					if (y == -1) {
-						y = line.indexOf(">");
-
-						if (y == -1) {
-							y = line.indexOf(">");
-						}
-					}
-
-					String tagName = line.substring(x + 1, y);
-
-					throw new Exception(
-						"Invalid \"" + tagName + "\" tag\n" + filePath + ":" +
-							lineNumber);
-				}
-			}
-
-			sb.append(line);
-
-			if (cdata) {
-				sb.append("\n");
-			}
-
-			lineNumber++;
+		if (rootElement != null) {
+			return rootElement;
 		}
 
-		String content = sb.toString();
-
-		InputStream inputStream = new ByteArrayInputStream(
-			content.getBytes("UTF-8"));
+		rootElement = _getRootElement(fileContent, url, addLineNumbers);
 
-		SAXReader saxReader = new SAXReader();
+		PoshiFileCacheUtil.storeRootElement(url, fileContent, rootElement);
 
-		Document document = null;
-
-		try {
-			document = saxReader.read(inputStream);
-		}
-		catch (DocumentException documentException) {
-			throw new Exception(
-				documentException.getMessage() + "\nInvalid syntax in " +
-					filePath,
-				documentException);
-		}
-
-		return document.getRootElement();
+		return rootElement;
 	}
 
 	public static String getUtilityClassName(String simpleClassName) {
@@ -581,6 +481,59 @@ public class PoshiRunnerGetterUtil {
 		return false;
 	}
 
+	private static Element _getRootElement(
+			String fileContent, URL url, boolean addLineNumbers)
+		throws Exception {
+
+		String filePath = url.getFile();
+
+		if (fileContent.endsWith("}") &&
+			(filePath.endsWith(".function") || filePath.endsWith(".macro") ||
+			 filePath.endsWith(".testcase"))) {
+
+			PoshiNode<?, ?> poshiNode = PoshiNodeFactory.newPoshiNodeFromFile(
+				url);
+
+			if (poshiNode instanceof PoshiElement) {
+				return (Element)poshiNode;
+			}
+		}
+
+		if (filePath.endsWith(".prose")) {
+			PoshiProseDefinition poshiProseDefinition =
+				new PoshiProseDefinition(
+					getFileNameFromFilePath(filePath), fileContent);
+
+			fileContent = Dom4JUtil.format(poshiProseDefinition.toElement());
+		}
+
+		SAXReader saxReader = new PoshiSAXReader(filePath, addLineNumbers);
+
+		Document document = null;
+
+		try {
+			document = saxReader.read(new PoshiXMLReader(fileContent));
+		}
+		catch (DocumentException documentException) {
+			Throwable throwable = documentException.getNestedException();
+
+			if (throwable instanceof SAXException) {
+				SAXException saxException = (SAXException)throwable;
+
+				if (saxException.getException() != null) {
+					throw saxException.getException();
+				}
+			}
+
+			throw new Exception(
+				documentException.getMessage() + "\nInvalid syntax in " +
+					filePath,
+				documentException);
+		}
+
+		return document.getRootElement();
+	}
+
 	private static final Pattern _locatorKeyPattern = Pattern.compile(
 		"(?<namespace>[\\w]+\\.)?[\\w]+#[A-Z0-9_]+");
 	private static final Pattern _namespacedClassCommandNamePattern =
@@ -589,14 +542,14 @@ public class PoshiRunnerGetterUtil {
 				"(\\w+(\\-\\w+)*|\\$\\{\\w+\\}|\\w+|\\s*\\w+)*))?");
 	private static final Pattern _parameterPattern = Pattern.compile(
 		"('([^'\\\\]|\\\\.)*'|[^',\\s]+)");
-	private static final List<String> _reservedTags = Arrays.asList(
-		"and", "arg", "body", "case", "command", "condition", "contains",
-		"default", "definition", "description", "echo", "else", "elseif",
-		"equals", "execute", "fail", "for", "if", "head", "html", "isset",
-		"not", "off", "on", "or", "property", "prose", "return", "set-up",
-		"table", "take-screenshot", "task", "tbody", "td", "tear-down", "thead",
-		"then", "title", "tr", "var", "while");
-	private static final Pattern _tagPattern = Pattern.compile("<[a-z\\-]+");
+	private static final Set<String> _reservedTags = new HashSet<>(
+		Arrays.asList(
+			"and", "arg", "body", "case", "command", "condition", "contains",
+			"default", "definition", "description", "echo", "else", "elseif",
+			"equals", "execute", "fail", "for", "if", "head", "html", "isset",
+			"not", "off", "on", "or", "property", "prose", "return", "set-up",
+			"table", "take-screenshot", "task", "tbody", "td", "tear-down",
+			"thead", "then", "title", "tr", "var", "while"));
 
 	private static final Map<String, String> _utilityClassMap =
 		new TreeMap<String, String>() {
@@ -621,4 +574,254 @@ public class PoshiRunnerGetterUtil {
 	private static final Pattern _variablePattern = Pattern.compile(
 		"\\$\\{([^}]*)\\}");
 
+	private static class PoshiContentHandler extends SAXContentHandler {
+
+		public PoshiContentHandler(
+			DocumentFactory documentFactory, String filePath,
+			boolean addLineNumbers) {
+
+			super(documentFactory);
+
+			_filePath = filePath;
+			_addLineNumbers = addLineNumbers;
+		}
+
+		@Override
+		public void characters(char[] chars, int start, int length)
+			throws SAXException {
+
+			if (_cdata) {
+				super.characters(chars, start, length);
+
+				return;
+			}
+
+			String text = _removeNewLines(chars, start, length);
+
+			super.characters(text.toCharArray(), 0, text.length());
+		}
+
+		@Override
+		public void comment(char[] chars, int start, int length)
+			throws SAXException {
+
+			String text = _removeNewLines(chars, start, length);
+
+			super.comment(text.toCharArray(), 0, text.length());
+		}
+
+		@Override
+		public void endCDATA() throws SAXException {
+			_cdata = false;
+
+			super.endCDATA();
+		}
+
+		@Override
+		public void setDocumentLocator(Locator locator) {
+			_locator = locator;
+
+			super.setDocumentLocator(locator);
+		}
+
+		@Override
+		public void startCDATA() throws SAXException {
+			_cdata = true;
+
+			super.startCDATA();
+		}
+
+		@Override
+		public void startElement(
+				String namespaceURI, String localName, String qualifiedName,
+				Attributes attributes)
+			throws SAXException {
+
+			int lineNumber = _locator.getLineNumber();
+
+			if (!_reservedTags.contains(qualifiedName)) {
+				throw new SAXException(
+					new Exception(
+						"Invalid \"" + qualifiedName + "\" tag\n" + _filePath +
+							":" + lineNumber));
+			}
+
+			if (_addLineNumbers && (lineNumber > _lineNumber)) {
+				AttributesImpl attributesImpl = new AttributesImpl();
+
+				attributesImpl.addAttribute(
+					"", "line-number", "line-number", "CDATA",
+					String.valueOf(lineNumber));
+
+				for (int i = 0; i < attributes.getLength(); i++) {
+					attributesImpl.addAttribute(
+						attributes.getURI(i), attributes.getLocalName(i),
+						attributes.getQName(i), attributes.getType(i),
+						attributes.getValue(i));
+				}
+
+				attributes = attributesImpl;
+			}
+
+			_lineNumber = lineNumber;
+
+			super.startElement(
+				namespaceURI, localName, qualifiedName, attributes);
+		}
+
+		private String _removeNewLines(char[] chars, int start, int length) {
+			StringBuilder sb = new StringBuilder(length);
+
+			for (int i = start; i < (start + length); i++) {
+				if (chars[i] != '\n') {
+					sb.append(chars[i]);
+				}
+			}
+
+			return sb.toString();
+		}
+
+		private final boolean _addLineNumbers;
+		private boolean _cdata;
+		private final String _filePath;
+		private int _lineNumber;
+		private Locator _locator;
+
+	}
+
+	private static class PoshiSAXReader extends SAXReader {
+
+		public PoshiSAXReader(String filePath, boolean addLineNumbers) {
+			_filePath = filePath;
+			_addLineNumbers = addLineNumbers;
+		}
+
+		@Override
+		protected SAXContentHandler createContentHandler(XMLReader xmlReader) {
+			return new PoshiContentHandler(
+				getDocumentFactory(), _filePath, _addLineNumbers);
+		}
+
+		private final boolean _addLineNumbers;
+		private final String _filePath;
+
+	}
+
+	/**
+	 * Moves the line breaks found inside of markup to just after the closing
+	 * bracket, so that the parser reports the line an element starts on and
+	 * attribute values match the previously joined lines.
+	 */
+	private static class PoshiXMLReader extends Reader {
+
+		public PoshiXMLReader(String content) {
+			_content = content;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public int read(char[] chars, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+
+			int count = 0;
+
+			while (count < length) {
+				int c = _read();
+
+				if (c == -1) {
+					break;
+				}
+
+				chars[offset + count] = (char)c;
+
+				count++;
+			}
+
+			if (count == 0) {
+				return -1;
+			}
+
+			return count;
+		}
+
+		private int _read() {
+			while (true) {
+				if ((_newLineCount > 0) && !_markup) {
+					_newLineCount--;
+
+					return '\n';
+				}
+
+				if (_index >= _content.length()) {
+					return -1;
+				}
+
+				char c = _content.charAt(_index);
+
+				if (_cdata) {
+					if (_content.startsWith("]]>", _index)) {
+						_cdata = false;
+					}
+				}
+				else if (_comment) {
+					if (_content.startsWith("-->", _index)) {
+						_comment = false;
+					}
+				}
+				else if (_markup) {
+					if (_quote != 0) {
+						if (c == _quote) {
+							_quote = 0;
+						}
+					}
+					else if ((c == '"') || (c == '\'')) {
+						_quote = c;
+					}
+					else if (c == '>') {
+						_markup = false;
+					}
+
+					if ((c == '\n') || (c == '\r')) {
+						if (c == '\n') {
+							_newLineCount++;
+						}
+
+						_index++;
+
+						continue;
+					}
+				}
+				else if (c == '<') {
+					if (_content.startsWith("<![CDATA[", _index)) {
+						_cdata = true;
+					}
+					else if (_content.startsWith("<!--", _index)) {
+						_comment = true;
+					}
+					else {
+						_markup = true;
+					}
+				}
+
+				_index++;
+
+				return c;
+			}
+		}
+
+		private boolean _cdata;
+		private boolean _comment;
+		private final String _content;
+		private int _index;
+		private boolean _markup;
+		private int _newLineCount;
+		private char _quote;
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,391 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import com.liferay.poshi.runner.util.Dom4JUtil;
+import com.liferay.poshi.runner.util.PropsValues;
+
+import java.lang.invoke.MethodHandle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dom4j.Element;
+
+/**
+ * Holds the parts of a Poshi element that do not change between runs, such as
+ * the instruction type, the called class command name, the resolved Selenium
+ * method and the called command elements, so that they are only computed the
+ * first time the element is executed.
+ *
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerInstruction {
+
+	public static void clear() {
+		_poshiRunnerInstructions.clear();
+	}
+
+	public static PoshiRunnerInstruction compile(Element element) {
+		PoshiRunnerInstruction poshiRunnerInstruction =
+			_poshiRunnerInstructions.get(element);
+
+		if (poshiRunnerInstruction != null) {
+			return poshiRunnerInstruction;
+		}
+
+		poshiRunnerInstruction = new PoshiRunnerInstruction(element);
+
+		PoshiRunnerInstruction existingPoshiRunnerInstruction =
+			_poshiRunnerInstructions.putIfAbsent(
+				element, poshiRunnerInstruction);
+
+		if (existingPoshiRunnerInstruction != null) {
+			return existingPoshiRunnerInstruction;
+		}
+
+		return poshiRunnerInstruction;
+	}
+
+	public List<PoshiRunnerInstruction> getChildInstructions() {
+		List<PoshiRunnerInstruction> childInstructions = _childInstructions;
+
+		if (childInstructions != null) {
+			return childInstructions;
+		}
+
+		childInstructions = new ArrayList<>();
+
+		List<Element> childElements = _element.elements();
+
+		for (Element childElement : childElements) {
+			PoshiRunnerInstruction childInstruction = compile(childElement);
+
+			if (childInstruction.getType() != Type.UNKNOWN) {
+				childInstructions.add(childInstruction);
+			}
+		}
+
+		childInstructions = Collections.unmodifiableList(childInstructions);
+
+		_childInstructions = childInstructions;
+
+		return childInstructions;
+	}
+
+	public String getClassCommandName() {
+		return _classCommandName;
+	}
+
+	public String getClassName() {
+		return _className;
+	}
+
+	public Element getCommandElement(String namespace) {
+		Element commandElement = _commandElements.get(namespace);
+
+		if (commandElement != null) {
+			return commandElement;
+		}
+
+		if (_type == Type.EXECUTE_FUNCTION) {
+			commandElement = PoshiRunnerContext.getFunctionCommandElement(
+				_classCommandName, namespace);
+		}
+		else if ((_type == Type.EXECUTE_MACRO) ||
+				 (_type == Type.EXECUTE_MACRO_DESKTOP) ||
+				 (_type == Type.EXECUTE_MACRO_MOBILE)) {
+
+			commandElement = PoshiRunnerContext.getMacroCommandElement(
+				_classCommandName, namespace);
+		}
+		else if (_type == Type.EXECUTE_TEST_CASE) {
+			commandElement = PoshiRunnerContext.getTestCaseCommandElement(
+				_namespacedClassCommandName, namespace);
+		}
+
+		if (commandElement != null) {
+			_commandElements.put(namespace, commandElement);
+		}
+
+		return commandElement;
+	}
+
+	public Element getElement() {
+		return _element;
+	}
+
+	public int getLocatorCount(String namespace) {
+		Integer locatorCount = _locatorCounts.get(namespace);
+
+		if (locatorCount == null) {
+			locatorCount = PoshiRunnerContext.getFunctionLocatorCount(
+				_className, namespace);
+
+			_locatorCounts.put(namespace, locatorCount);
+		}
+
+		return locatorCount;
+	}
+
+	public String getNamespacedClassCommandName() {
+		return _namespacedClassCommandName;
+	}
+
+	public Element getReturnElement() {
+		return _returnElement;
+	}
+
+	public String[] getSeleniumArguments() {
+		return _seleniumArguments;
+	}
+
+	public String[] getSeleniumDefaultArgumentNames() {
+		return _seleniumDefaultArgumentNames;
+	}
+
+	public MethodHandle getSeleniumMethodHandle() {
+		if (_seleniumMethodHandle == null) {
+			throw new RuntimeException(
+				"Unable to find Selenium method " +
+					_element.attributeValue("selenium"));
+		}
+
+		return _seleniumMethodHandle;
+	}
+
+	public Type getType() {
+		return _type;
+	}
+
+	public List<Element> getVarElements() {
+		return _varElements;
+	}
+
+	public enum Type {
+
+		COMMAND_VAR, ECHO, EXECUTE_FUNCTION, EXECUTE_GROOVY_SCRIPT,
+		EXECUTE_MACRO, EXECUTE_MACRO_DESKTOP, EXECUTE_MACRO_MOBILE,
+		EXECUTE_METHOD, EXECUTE_SELENIUM, EXECUTE_TEST_CASE, FAIL, FOR, IF,
+		RETURN, TAKE_SCREENSHOT, TASK, UNKNOWN, WHILE
+
+	}
+
+	private static String _getSeleniumDefaultArgumentName(
+		String selenium, int index) {
+
+		if (index == 0) {
+			if (_valueFirstSeleniumCommandNames.contains(selenium)) {
+				return "value1";
+			}
+
+			return "locator1";
+		}
+		else if (index == 1) {
+			return "value1";
+		}
+		else if (index == 2) {
+			if (selenium.equals("assertCssValue")) {
+				return "value1";
+			}
+
+			return "locator2";
+		}
+
+		return null;
+	}
+
+	private static Type _getType(Element element) {
+		String elementName = element.getName();
+
+		if (elementName.equals("condition")) {
+			if (element.attributeValue("function") != null) {
+				return Type.EXECUTE_FUNCTION;
+			}
+			else if (element.attributeValue("selenium") != null) {
+				return Type.EXECUTE_SELENIUM;
+			}
+		}
+		else if (elementName.equals("echo") ||
+				 elementName.equals("description")) {
+
+			return Type.ECHO;
+		}
+		else if (elementName.equals("execute")) {
+			if (element.attributeValue("function") != null) {
+				return Type.EXECUTE_FUNCTION;
+			}
+			else if (element.attributeValue("groovy-script") != null) {
+				return Type.EXECUTE_GROOVY_SCRIPT;
+			}
+			else if (element.attributeValue("macro") != null) {
+				return Type.EXECUTE_MACRO;
+			}
+			else if ((element.attributeValue("macro-desktop") != null) &&
+					 !PropsValues.MOBILE_BROWSER) {
+
+				return Type.EXECUTE_MACRO_DESKTOP;
+			}
+			else if ((element.attributeValue("macro-mobile") != null) &&
+					 PropsValues.MOBILE_BROWSER) {
+
+				return Type.EXECUTE_MACRO_MOBILE;
+			}
+			else if (element.attributeValue("selenium") != null) {
+				return Type.EXECUTE_SELENIUM;
+			}
+			else if (element.attributeValue("test-case") != null) {
+				return Type.EXECUTE_TEST_CASE;
+			}
+			else if (element.attributeValue("method") != null) {
+				return Type.EXECUTE_METHOD;
+			}
+		}
+		else if (elementName.equals("fail")) {
+			return Type.FAIL;
+		}
+		else if (elementName.equals("for")) {
+			return Type.FOR;
+		}
+		else if (elementName.equals("if")) {
+			return Type.IF;
+		}
+		else if (elementName.equals("return")) {
+			return Type.RETURN;
+		}
+		else if (elementName.equals("take-screenshot")) {
+			return Type.TAKE_SCREENSHOT;
+		}
+		else if (elementName.equals("task")) {
+			return Type.TASK;
+		}
+		else if (elementName.equals("var")) {
+			return Type.COMMAND_VAR;
+		}
+		else if (elementName.equals("while")) {
+			return Type.WHILE;
+		}
+
+		return Type.UNKNOWN;
+	}
+
+	private PoshiRunnerInstruction(Element element) {
+		_element = element;
+
+		_type = _getType(element);
+
+		if (_type == Type.EXECUTE_FUNCTION) {
+			_initClassCommandName(element.attributeValue("function"));
+		}
+		else if (_type == Type.EXECUTE_MACRO) {
+			_initClassCommandName(element.attributeValue("macro"));
+		}
+		else if (_type == Type.EXECUTE_MACRO_DESKTOP) {
+			_initClassCommandName(element.attributeValue("macro-desktop"));
+		}
+		else if (_type == Type.EXECUTE_MACRO_MOBILE) {
+			_initClassCommandName(element.attributeValue("macro-mobile"));
+		}
+		else if (_type == Type.EXECUTE_SELENIUM) {
+			_initSeleniumMethodHandle(element.attributeValue("selenium"));
+		}
+		else if (_type == Type.EXECUTE_TEST_CASE) {
+			_initClassCommandName(element.attributeValue("test-case"));
+		}
+
+		_returnElement = element.element("return");
+		_varElements = Collections.unmodifiableList(
+			Dom4JUtil.toElementList(element.elements("var")));
+	}
+
+	private void _initClassCommandName(String namespacedClassCommandName) {
+		_namespacedClassCommandName = namespacedClassCommandName;
+
+		_classCommandName =
+			PoshiRunnerGetterUtil.
+				getClassCommandNameFromNamespacedClassCommandName(
+					namespacedClassCommandName);
+
+		_className =
+			PoshiRunnerGetterUtil.getClassNameFromNamespacedClassCommandName(
+				_classCommandName);
+	}
+
+	private void _initSeleniumMethodHandle(String selenium) {
+		_seleniumMethodHandle = PoshiRunnerContext.getSeleniumMethodHandle(
+			selenium);
+
+		if (_seleniumMethodHandle == null) {
+			return;
+		}
+
+		int parameterCount = PoshiRunnerContext.getSeleniumParameterCount(
+			selenium);
+
+		_seleniumArguments = new String[parameterCount];
+		_seleniumDefaultArgumentNames = new String[parameterCount];
+
+		for (int i = 0; i < parameterCount; i++) {
+			_seleniumArguments[i] = _element.attributeValue(
+				"argument" + (i + 1));
+			_seleniumDefaultArgumentNames[i] = _getSeleniumDefaultArgumentName(
+				selenium, i);
+		}
+
+		if ((parameterCount > 1) && (_seleniumArguments[1] == null) &&
+			selenium.equals("clickAt")) {
+
+			_seleniumArguments[1] = "";
+		}
+	}
+
+	private static final Map<Element, PoshiRunnerInstruction>
+		_poshiRunnerInstructions = new ConcurrentHashMap<>();
+	private static final Set<String> _valueFirstSeleniumCommandNames =
+		new HashSet<>(
+			Arrays.asList(
+				"assertConfirmation", "assertConsoleTextNotPresent",
+				"assertConsoleTextPresent", "assertHTMLSourceTextNotPresent",
+				"assertHTMLSourceTextPresent", "assertLocation",
+				"assertNotLocation", "assertPartialConfirmation",
+				"assertPartialLocation", "assertTextNotPresent",
+				"assertTextPresent", "isConsoleTextNotPresent",
+				"isConsoleTextPresent", "scrollBy", "waitForConfirmation",
+				"waitForConsoleTextNotPresent", "waitForConsoleTextPresent",
+				"waitForTextNotPresent", "waitForTextPresent"));
+
+	private volatile List<PoshiRunnerInstruction> _childInstructions;
+	private String _classCommandName;
+	private String _className;
+	private final Map<String, Element> _commandElements =
+		new ConcurrentHashMap<>();
+	private final Element _element;
+	private final Map<String, Integer> _locatorCounts =
+		new ConcurrentHashMap<>();
+	private String _namespacedClassCommandName;
+	private final Element _returnElement;
+	private String[] _seleniumArguments;
+	private String[] _seleniumDefaultArgumentNames;
+	private MethodHandle _seleniumMethodHandle;
+	private final Type _type;
+	private final List<Element> _varElements;
+
+}
@@ -0,0 +1,399 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import com.liferay.poshi.runner.selenium.LatencyHistogram;
+import com.liferay.poshi.runner.selenium.SeleniumCommandExecutor;
+import com.liferay.poshi.runner.util.FileUtil;
+import com.liferay.poshi.runner.util.PropsValues;
+import com.liferay.poshi.runner.util.StringUtil;
+import com.liferay.poshi.runner.util.Validator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Collects the wall time of tests, macros, functions, and Selenium commands
+ * so it can be exported as JSON or OpenMetrics text at the end of a run.
+ * Selenium time is split into wait and action time by command name only, so
+ * implicit waits inside other commands count as action time.
+ *
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerMetricsUtil {
+
+	public static final String[] TYPES = {
+		"test", "macro", "function", "selenium"
+	};
+
+	public static void clear() {
+		_latencyHistograms.clear();
+
+		SeleniumCommandExecutor.clearLatencyHistograms();
+	}
+
+	public static Map<String, LatencyHistogram> getLatencyHistograms(
+		String type) {
+
+		if (type.equals("selenium")) {
+			return SeleniumCommandExecutor.getLatencyHistograms();
+		}
+
+		Map<String, LatencyHistogram> latencyHistograms =
+			_latencyHistograms.get(type);
+
+		if (latencyHistograms == null) {
+			return Collections.emptyMap();
+		}
+
+		return Collections.unmodifiableMap(
+			new TreeMap<String, LatencyHistogram>(latencyHistograms));
+	}
+
+	public static long getSeleniumActionMillis() {
+		return _getSeleniumMillis(false);
+	}
+
+	public static long getSeleniumWaitMillis() {
+		return _getSeleniumMillis(true);
+	}
+
+	public static boolean isWaitCommand(String commandName) {
+		for (String waitCommandName : _WAIT_COMMAND_NAMES) {
+			if (waitCommandName.endsWith("*")) {
+				String prefix = waitCommandName.substring(
+					0, waitCommandName.length() - 1);
+
+				if (commandName.startsWith(prefix)) {
+					return true;
+				}
+			}
+			else if (commandName.equals(waitCommandName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public static Map<String, Long> readTestDurations(String fileName)
+		throws Exception {
+
+		Map<String, Long> testDurations = new HashMap<>();
+
+		if (!FileUtil.exists(fileName)) {
+			return testDurations;
+		}
+
+		JSONObject jsonObject = new JSONObject(FileUtil.read(fileName));
+
+		for (String name : jsonObject.keySet()) {
+			testDurations.put(name, jsonObject.getLong(name));
+		}
+
+		return testDurations;
+	}
+
+	public static void recordLatency(String type, String name, long millis) {
+		if (type.equals("selenium")) {
+			SeleniumCommandExecutor.recordLatency(name, millis);
+
+			return;
+		}
+
+		Map<String, LatencyHistogram> latencyHistograms =
+			_latencyHistograms.get(type);
+
+		if (latencyHistograms == null) {
+			latencyHistograms = new ConcurrentHashMap<>();
+
+			Map<String, LatencyHistogram> existingLatencyHistograms =
+				_latencyHistograms.putIfAbsent(type, latencyHistograms);
+
+			if (existingLatencyHistograms != null) {
+				latencyHistograms = existingLatencyHistograms;
+			}
+		}
+
+		LatencyHistogram latencyHistogram = latencyHistograms.get(name);
+
+		if (latencyHistogram == null) {
+			latencyHistogram = new LatencyHistogram();
+
+			LatencyHistogram existingLatencyHistogram =
+				latencyHistograms.putIfAbsent(name, latencyHistogram);
+
+			if (existingLatencyHistogram != null) {
+				latencyHistogram = existingLatencyHistogram;
+			}
+		}
+
+		latencyHistogram.record(millis);
+	}
+
+	public static String toJSON() {
+		JSONObject jsonObject = new JSONObject();
+
+		for (String type : TYPES) {
+			JSONObject typeJSONObject = new JSONObject();
+
+			Map<String, LatencyHistogram> latencyHistograms =
+				getLatencyHistograms(type);
+
+			for (Map.Entry<String, LatencyHistogram> entry :
+					latencyHistograms.entrySet()) {
+
+				typeJSONObject.put(
+					entry.getKey(), _toJSONObject(entry.getValue()));
+			}
+
+			jsonObject.put(type, typeJSONObject);
+		}
+
+		JSONObject loadJSONObject = new JSONObject();
+
+		Map<String, Long> loadDurations = PoshiRunnerContext.getLoadDurations();
+
+		for (Map.Entry<String, Long> entry : loadDurations.entrySet()) {
+			loadJSONObject.put(entry.getKey(), entry.getValue());
+		}
+
+		jsonObject.put("load", loadJSONObject);
+
+		JSONObject seleniumTimeJSONObject = new JSONObject();
+
+		seleniumTimeJSONObject.put("actionMillis", getSeleniumActionMillis());
+		seleniumTimeJSONObject.put("waitMillis", getSeleniumWaitMillis());
+
+		JSONArray waitCommandNamesJSONArray = new JSONArray();
+
+		for (String waitCommandName : _WAIT_COMMAND_NAMES) {
+			waitCommandNamesJSONArray.put(waitCommandName);
+		}
+
+		seleniumTimeJSONObject.put(
+			"waitCommandNames", waitCommandNamesJSONArray);
+
+		jsonObject.put("seleniumTime", seleniumTimeJSONObject);
+
+		return jsonObject.toString();
+	}
+
+	public static String toOpenMetrics() {
+		StringBuilder sb = new StringBuilder();
+
+		long[] bucketUpperBounds = LatencyHistogram.getBucketUpperBounds();
+
+		for (String type : TYPES) {
+			Map<String, LatencyHistogram> latencyHistograms =
+				getLatencyHistograms(type);
+
+			if (latencyHistograms.isEmpty()) {
+				continue;
+			}
+
+			String metricName = "poshi_" + type + "_duration_milliseconds";
+
+			sb.append("# TYPE ");
+			sb.append(metricName);
+			sb.append(" histogram\n");
+
+			for (Map.Entry<String, LatencyHistogram> entry :
+					latencyHistograms.entrySet()) {
+
+				String label = "name=\"" + _escapeLabel(entry.getKey()) + "\"";
+
+				LatencyHistogram latencyHistogram = entry.getValue();
+
+				long[] bucketCounts = latencyHistogram.getBucketCounts();
+
+				long cumulativeCount = 0;
+
+				for (int i = 0; i < bucketUpperBounds.length; i++) {
+					cumulativeCount += bucketCounts[i];
+
+					String upperBound = "+Inf";
+
+					if (bucketUpperBounds[i] != Long.MAX_VALUE) {
+						upperBound = String.valueOf(bucketUpperBounds[i]);
+					}
+
+					_appendSample(
+						sb, metricName + "_bucket",
+						label + ",le=\"" + upperBound + "\"", cumulativeCount);
+				}
+
+				_appendSample(
+					sb, metricName + "_count", label,
+					latencyHistogram.getCount());
+				_appendSample(
+					sb, metricName + "_sum", label,
+					latencyHistogram.getTotalMillis());
+			}
+		}
+
+		sb.append("# TYPE poshi_load_duration_milliseconds gauge\n");
+
+		Map<String, Long> loadDurations = PoshiRunnerContext.getLoadDurations();
+
+		for (Map.Entry<String, Long> entry : loadDurations.entrySet()) {
+			_appendSample(
+				sb, "poshi_load_duration_milliseconds",
+				"phase=\"" + _escapeLabel(entry.getKey()) + "\"",
+				entry.getValue());
+		}
+
+		sb.append("# TYPE poshi_selenium_time_milliseconds counter\n");
+		sb.append("# HELP poshi_selenium_time_milliseconds Time spent in ");
+		sb.append("Selenium commands. Commands named ");
+		sb.append(StringUtil.join(_WAIT_COMMAND_NAMES, ", "));
+		sb.append(" count as wait time and all other commands count as ");
+		sb.append("action time, including implicit waits inside them.\n");
+
+		_appendSample(
+			sb, "poshi_selenium_time_milliseconds_total", "kind=\"action\"",
+			getSeleniumActionMillis());
+		_appendSample(
+			sb, "poshi_selenium_time_milliseconds_total", "kind=\"wait\"",
+			getSeleniumWaitMillis());
+
+		sb.append("# EOF\n");
+
+		return sb.toString();
+	}
+
+	public static synchronized void updateTestDurations(String fileName)
+		throws Exception {
+
+		Map<String, Long> testDurations = new TreeMap<>(
+			readTestDurations(fileName));
+
+		Map<String, LatencyHistogram> latencyHistograms = getLatencyHistograms(
+			"test");
+
+		for (Map.Entry<String, LatencyHistogram> entry :
+				latencyHistograms.entrySet()) {
+
+			LatencyHistogram latencyHistogram = entry.getValue();
+
+			long count = latencyHistogram.getCount();
+
+			if (count == 0) {
+				continue;
+			}
+
+			long duration = latencyHistogram.getTotalMillis() / count;
+
+			Long previousDuration = testDurations.get(entry.getKey());
+
+			if (previousDuration != null) {
+				duration = Math.round(
+					(_TEST_DURATION_WEIGHT * duration) +
+						((1 - _TEST_DURATION_WEIGHT) * previousDuration));
+			}
+
+			testDurations.put(entry.getKey(), duration);
+		}
+
+		JSONObject jsonObject = new JSONObject();
+
+		for (Map.Entry<String, Long> entry : testDurations.entrySet()) {
+			jsonObject.put(entry.getKey(), entry.getValue());
+		}
+
+		FileUtil.write(fileName, jsonObject.toString());
+	}
+
+	public static synchronized void writeMetrics() throws Exception {
+		if (Validator.isNull(PropsValues.TEST_POSHI_METRICS_FILE_NAME)) {
+			return;
+		}
+
+		String content = null;
+
+		if (PropsValues.TEST_POSHI_METRICS_FORMAT.equals("openmetrics")) {
+			content = toOpenMetrics();
+		}
+		else {
+			content = toJSON();
+		}
+
+		FileUtil.write(PropsValues.TEST_POSHI_METRICS_FILE_NAME, content);
+	}
+
+	private static void _appendSample(
+		StringBuilder sb, String metricName, String label, long value) {
+
+		sb.append(metricName);
+		sb.append("{");
+		sb.append(label);
+		sb.append("} ");
+		sb.append(value);
+		sb.append("\n");
+	}
+
+	private static String _escapeLabel(String label) {
+		label = StringUtil.replace(label, "\\", "\\\\");
+		label = StringUtil.replace(label, "\"", "\\\"");
+
+		return StringUtil.replace(label, "\n", "\\n");
+	}
+
+	private static long _getSeleniumMillis(boolean wait) {
+		long millis = 0;
+
+		Map<String, LatencyHistogram> latencyHistograms =
+			SeleniumCommandExecutor.getLatencyHistograms();
+
+		for (Map.Entry<String, LatencyHistogram> entry :
+				latencyHistograms.entrySet()) {
+
+			if (isWaitCommand(entry.getKey()) == wait) {
+				LatencyHistogram latencyHistogram = entry.getValue();
+
+				millis += latencyHistogram.getTotalMillis();
+			}
+		}
+
+		return millis;
+	}
+
+	private static JSONObject _toJSONObject(LatencyHistogram latencyHistogram) {
+		JSONObject jsonObject = new JSONObject();
+
+		jsonObject.put("count", latencyHistogram.getCount());
+		jsonObject.put("maxMillis", latencyHistogram.getMaxMillis());
+		jsonObject.put("p50Millis", latencyHistogram.getPercentileMillis(50));
+		jsonObject.put("p90Millis", latencyHistogram.getPercentileMillis(90));
+		jsonObject.put("p99Millis", latencyHistogram.getPercentileMillis(99));
+		jsonObject.put("totalMillis", latencyHistogram.getTotalMillis());
+
+		return jsonObject;
+	}
+
+	private static final double _TEST_DURATION_WEIGHT = 0.3;
+
+	private static final String[] _WAIT_COMMAND_NAMES = {"pause", "waitFor*"};
+
+	private static final Map<String, Map<String, LatencyHistogram>>
+		_latencyHistograms = new ConcurrentHashMap<>();
+
+}
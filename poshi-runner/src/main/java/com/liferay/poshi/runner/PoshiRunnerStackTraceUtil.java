@@ -16,7 +16,10 @@ package com.liferay.poshi.runner;
 
 import com.liferay.poshi.runner.util.Validator;
 
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.dom4j.Element;
 
@@ -27,21 +30,128 @@ import org.dom4j.Element;
 public final class PoshiRunnerStackTraceUtil {
 
 	public static void emptyStackTrace() {
+		_getPoshiRunnerStackTraceUtil()._emptyStackTrace();
+	}
+
+	public static int getCallSiteId() {
+		return _getPoshiRunnerStackTraceUtil()._getCallSiteId();
+	}
+
+	public static String getCurrentFilePath() {
+		return _getPoshiRunnerStackTraceUtil()._getCurrentFilePath();
+	}
+
+	public static String getCurrentNamespace() {
+		return _getPoshiRunnerStackTraceUtil()._getCurrentNamespace();
+	}
+
+	public static String getCurrentNamespace(
+		String namespacedClassCommandName) {
+
+		return _getPoshiRunnerStackTraceUtil()._getCurrentNamespace(
+			namespacedClassCommandName);
+	}
+
+	public static String getStackTrace(String msg) {
+		return _getPoshiRunnerStackTraceUtil()._getStackTrace(msg);
+	}
+
+	public static void popStackTrace() {
+		_getPoshiRunnerStackTraceUtil()._popStackTrace();
+	}
+
+	public static void printStackTrace() {
+		_getPoshiRunnerStackTraceUtil()._printStackTrace();
+	}
+
+	public static void printStackTrace(String msg) {
+		_getPoshiRunnerStackTraceUtil()._printStackTrace(msg);
+	}
+
+	public static void pushStackTrace(Element element) throws Exception {
+		_getPoshiRunnerStackTraceUtil()._pushStackTrace(element);
+	}
+
+	public static void setCurrentElement(Element currentElement) {
+		_getPoshiRunnerStackTraceUtil()._setCurrentElement(currentElement);
+	}
+
+	public static void startStackTrace(
+		String classCommandName, String classType) {
+
+		_getPoshiRunnerStackTraceUtil()._startStackTrace(
+			classCommandName, classType);
+	}
+
+	private static <K> int _getId(Map<K, Integer> ids, K key) {
+		Integer id = ids.get(key);
+
+		if (id == null) {
+			Integer newId = _idCounter.incrementAndGet();
+
+			id = ids.putIfAbsent(key, newId);
+
+			if (id == null) {
+				id = newId;
+			}
+		}
+
+		return id;
+	}
+
+	private static PoshiRunnerStackTraceUtil _getPoshiRunnerStackTraceUtil() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getPoshiRunnerStackTraceUtil();
+	}
+
+	private void _emptyStackTrace() {
 		while (!_stackTrace.isEmpty()) {
 			_stackTrace.pop();
 		}
 	}
 
-	public static String getCurrentFilePath() {
-		return _filePaths.peek();
+	private int _getCallSiteId() {
+		return _getCallSiteId(
+			PoshiRunnerGetterUtil.getLineNumber(_currentElement));
 	}
 
-	public static String getCurrentNamespace() {
+	private int _getCallSiteId(int lineNumber) {
+		int callSiteId = 0;
+
+		if (!_stackTrace.isEmpty()) {
+			StackTraceFrame stackTraceFrame = _stackTrace.peek();
+
+			callSiteId = stackTraceFrame.getCallSiteId();
+		}
+
+		FilePath filePath = _filePaths.peek();
+
+		if (filePath.isFunction()) {
+			return callSiteId;
+		}
+
+		long fileLineKey =
+			((long)filePath.getFilePathId() << 32) | (lineNumber & 0xFFFFFFFFL);
+
+		int fileLineId = _getId(_fileLineIds, fileLineKey);
+
+		return _getId(_callSiteIds, ((long)callSiteId << 32) | fileLineId);
+	}
+
+	private String _getCurrentFilePath() {
+		FilePath filePath = _filePaths.peek();
+
+		return filePath.getFilePath();
+	}
+
+	private String _getCurrentNamespace() {
 		if (_filePaths.isEmpty()) {
 			return PoshiRunnerContext.getDefaultNamespace();
 		}
 
-		String filePath = getCurrentFilePath();
+		String filePath = _getCurrentFilePath();
 
 		int x = filePath.indexOf("[");
 
@@ -49,9 +159,7 @@ public final class PoshiRunnerStackTraceUtil {
 			filePath.substring(0, x));
 	}
 
-	public static String getCurrentNamespace(
-		String namespacedClassCommandName) {
-
+	private String _getCurrentNamespace(String namespacedClassCommandName) {
 		String defaultNamespace = PoshiRunnerContext.getDefaultNamespace();
 
 		String namespace =
@@ -59,37 +167,13 @@ public final class PoshiRunnerStackTraceUtil {
 				namespacedClassCommandName);
 
 		if (Validator.isNull(namespace) || namespace.equals(defaultNamespace)) {
-			namespace = getCurrentNamespace();
+			namespace = _getCurrentNamespace();
 		}
 
 		return namespace;
 	}
 
-	public static String getSimpleStackTrace() {
-		StringBuilder sb = new StringBuilder();
-
-		for (String filePath : _stackTrace) {
-			if (filePath.contains(".function")) {
-				continue;
-			}
-
-			sb.append(PoshiRunnerGetterUtil.getFileNameFromFilePath(filePath));
-		}
-
-		String currentFilePath = _filePaths.peek();
-
-		if (!currentFilePath.contains(".function")) {
-			sb.append(
-				PoshiRunnerGetterUtil.getFileNameFromFilePath(currentFilePath));
-
-			sb.append(":");
-			sb.append(PoshiRunnerGetterUtil.getLineNumber(_currentElement));
-		}
-
-		return sb.toString();
-	}
-
-	public static String getStackTrace(String msg) {
+	private String _getStackTrace(String msg) {
 		StringBuilder sb = new StringBuilder();
 
 		sb.append("\nBUILD FAILED:");
@@ -99,16 +183,14 @@ public final class PoshiRunnerStackTraceUtil {
 			sb.append(msg);
 		}
 
-		Stack<String> stackTrace = (Stack<String>)_stackTrace.clone();
-
 		sb.append("\n");
-		sb.append(_filePaths.peek());
+		sb.append(_getCurrentFilePath());
 		sb.append(":");
 		sb.append(PoshiRunnerGetterUtil.getLineNumber(_currentElement));
 
-		while (!stackTrace.isEmpty()) {
+		for (int i = _stackTrace.size() - 1; i >= 0; i--) {
 			sb.append("\n");
-			sb.append(stackTrace.pop());
+			sb.append(_stackTrace.get(i));
 		}
 
 		sb.append("\n");
@@ -116,23 +198,57 @@ public final class PoshiRunnerStackTraceUtil {
 		return sb.toString();
 	}
 
-	public static void popStackTrace() {
+	private void _popStackTrace() {
 		_filePaths.pop();
 		_stackTrace.pop();
 	}
 
-	public static void printStackTrace() {
-		printStackTrace(null);
+	private void _printStackTrace() {
+		_printStackTrace(null);
 	}
 
-	public static void printStackTrace(String msg) {
-		System.out.println(getStackTrace(msg));
+	private void _printStackTrace(String msg) {
+		System.out.println(_getStackTrace(msg));
 	}
 
-	public static void pushStackTrace(Element element) throws Exception {
+	private void _pushFilePath(
+		String namespacedClassCommandName, String classType) {
+
+		String classCommandName =
+			PoshiRunnerGetterUtil.
+				getClassCommandNameFromNamespacedClassCommandName(
+					namespacedClassCommandName);
+
+		String className =
+			PoshiRunnerGetterUtil.getClassNameFromNamespacedClassCommandName(
+				classCommandName);
+
+		String fileExtension =
+			PoshiRunnerGetterUtil.getFileExtensionFromClassType(classType);
+
+		String filePath = PoshiRunnerContext.getFilePathFromFileName(
+			className + "." + fileExtension,
+			_getCurrentNamespace(namespacedClassCommandName));
+
+		if (classType.equals("test-case") && (filePath == null)) {
+			filePath = PoshiRunnerContext.getFilePathFromFileName(
+				className + ".prose",
+				_getCurrentNamespace(namespacedClassCommandName));
+		}
+
+		String commandName =
+			PoshiRunnerGetterUtil.getCommandNameFromNamespacedClassCommandName(
+				namespacedClassCommandName);
+
+		_filePaths.push(new FilePath(filePath + "[" + commandName + "]"));
+	}
+
+	private void _pushStackTrace(Element element) throws Exception {
+		int lineNumber = PoshiRunnerGetterUtil.getLineNumber(element);
+
 		_stackTrace.push(
-			_filePaths.peek() + ":" +
-				PoshiRunnerGetterUtil.getLineNumber(element));
+			new StackTraceFrame(
+				_filePaths.peek(), lineNumber, _getCallSiteId(lineNumber)));
 
 		String namespacedClassCommandName = null;
 		String classType = null;
@@ -172,7 +288,7 @@ public final class PoshiRunnerStackTraceUtil {
 			classType = "test-case";
 		}
 		else {
-			printStackTrace();
+			_printStackTrace();
 
 			throw new Exception(
 				"Missing (function|macro|macro-desktop|macro-mobile" +
@@ -182,50 +298,76 @@ public final class PoshiRunnerStackTraceUtil {
 		_pushFilePath(namespacedClassCommandName, classType);
 	}
 
-	public static void setCurrentElement(Element currentElement) {
+	private void _setCurrentElement(Element currentElement) {
 		_currentElement = currentElement;
 	}
 
-	public static void startStackTrace(
-		String classCommandName, String classType) {
-
+	private void _startStackTrace(String classCommandName, String classType) {
 		_pushFilePath(classCommandName, classType);
 	}
 
-	private static void _pushFilePath(
-		String namespacedClassCommandName, String classType) {
+	private static final Map<Long, Integer> _callSiteIds =
+		new ConcurrentHashMap<>();
+	private static final Map<Long, Integer> _fileLineIds =
+		new ConcurrentHashMap<>();
+	private static final Map<String, Integer> _filePathIds =
+		new ConcurrentHashMap<>();
+	private static final AtomicInteger _idCounter = new AtomicInteger();
 
-		String classCommandName =
-			PoshiRunnerGetterUtil.
-				getClassCommandNameFromNamespacedClassCommandName(
-					namespacedClassCommandName);
+	private Element _currentElement;
+	private final Stack<FilePath> _filePaths = new Stack<>();
+	private final Stack<StackTraceFrame> _stackTrace = new Stack<>();
 
-		String className =
-			PoshiRunnerGetterUtil.getClassNameFromNamespacedClassCommandName(
-				classCommandName);
+	private static class FilePath {
 
-		String fileExtension =
-			PoshiRunnerGetterUtil.getFileExtensionFromClassType(classType);
+		public FilePath(String filePath) {
+			_filePath = filePath;
 
-		String filePath = PoshiRunnerContext.getFilePathFromFileName(
-			className + "." + fileExtension,
-			getCurrentNamespace(namespacedClassCommandName));
+			_filePathId = _getId(_filePathIds, filePath);
+			_function = filePath.contains(".function");
+		}
 
-		if (classType.equals("test-case") && (filePath == null)) {
-			filePath = PoshiRunnerContext.getFilePathFromFileName(
-				className + ".prose",
-				getCurrentNamespace(namespacedClassCommandName));
+		public String getFilePath() {
+			return _filePath;
 		}
 
-		String commandName =
-			PoshiRunnerGetterUtil.getCommandNameFromNamespacedClassCommandName(
-				namespacedClassCommandName);
+		public int getFilePathId() {
+			return _filePathId;
+		}
+
+		public boolean isFunction() {
+			return _function;
+		}
+
+		private final String _filePath;
+		private final int _filePathId;
+		private final boolean _function;
 
-		_filePaths.push(filePath + "[" + commandName + "]");
 	}
 
-	private static Element _currentElement;
-	private static final Stack<String> _filePaths = new Stack<>();
-	private static final Stack<String> _stackTrace = new Stack<>();
+	private static class StackTraceFrame {
+
+		public StackTraceFrame(
+			FilePath filePath, int lineNumber, int callSiteId) {
+
+			_filePath = filePath;
+			_lineNumber = lineNumber;
+			_callSiteId = callSiteId;
+		}
+
+		public int getCallSiteId() {
+			return _callSiteId;
+		}
+
+		@Override
+		public String toString() {
+			return _filePath.getFilePath() + ":" + _lineNumber;
+		}
+
+		private final int _callSiteId;
+		private final FilePath _filePath;
+		private final int _lineNumber;
+
+	}
 
 }
\ No newline at end of file
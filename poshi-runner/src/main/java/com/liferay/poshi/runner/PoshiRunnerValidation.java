@@ -52,6 +52,8 @@ public class PoshiRunnerValidation {
 	}
 
 	public static void main(String[] args) throws Exception {
+		PoshiRunnerContext.setLazyLoading(false);
+
 		PoshiRunnerContext.readFiles();
 
 		Set<String> uniqueErrorPaths =
@@ -66,7 +68,7 @@ public class PoshiRunnerValidation {
 		validate();
 	}
 
-	public static void validate() throws Exception {
+	public static synchronized void validate() throws Exception {
 		for (String filePath : PoshiRunnerContext.getFilePaths()) {
 			if (OSDetector.isWindows()) {
 				filePath = StringUtil.replace(filePath, "/", "\\");
@@ -79,6 +81,12 @@ public class PoshiRunnerValidation {
 			String namespace = PoshiRunnerContext.getNamespaceFromFilePath(
 				filePath);
 
+			if (PoshiRunnerContext.isLazyRootElement(
+					classType, className, namespace)) {
+
+				continue;
+			}
+
 			if (classType.equals("function")) {
 				Element element = PoshiRunnerContext.getFunctionRootElement(
 					className, namespace);
@@ -110,12 +118,47 @@ public class PoshiRunnerValidation {
 		}
 	}
 
-	public static void validate(String testName) throws Exception {
+	public static synchronized void validate(String testName)
+		throws Exception {
+
 		validateTestName(testName);
 
 		validate();
 	}
 
+	public static synchronized void validateLazyRootElement(
+			Element element, String filePath)
+		throws Exception {
+
+		Set<Exception> exceptions = new HashSet<>(_exceptions);
+
+		_exceptions.clear();
+
+		try {
+			String classType = PoshiRunnerGetterUtil.getClassTypeFromFilePath(
+				filePath);
+
+			if (classType.equals("function")) {
+				validateFunctionFile(element, filePath);
+			}
+			else if (classType.equals("macro")) {
+				validateMacroFile(element, filePath);
+			}
+			else if (classType.equals("path")) {
+				validatePathFile(element, filePath);
+			}
+
+			if (!_exceptions.isEmpty()) {
+				_throwExceptions();
+			}
+		}
+		finally {
+			_exceptions.clear();
+
+			_exceptions.addAll(exceptions);
+		}
+	}
+
 	protected static String getPrimaryAttributeName(
 		Element element, List<String> multiplePrimaryAttributeNames,
 		List<String> primaryAttributeNames, String filePath) {
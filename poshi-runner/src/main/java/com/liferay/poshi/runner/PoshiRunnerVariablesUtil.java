@@ -14,9 +14,11 @@
 
 package com.liferay.poshi.runner;
 
-import com.liferay.poshi.runner.util.StringUtil;
+import com.liferay.poshi.runner.util.CacheUtil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 import java.util.regex.Matcher;
@@ -29,37 +31,127 @@ import java.util.regex.Pattern;
 public class PoshiRunnerVariablesUtil {
 
 	public static void clear() {
-		_commandMap.clear();
-		_commandMapStack.clear();
-		_executeMap.clear();
-		_staticMap.clear();
+		_getPoshiRunnerVariablesUtil()._clear();
 	}
 
 	public static boolean containsKeyInCommandMap(String key) {
-		return _commandMap.containsKey(replaceCommandVars(key));
+		return _getPoshiRunnerVariablesUtil()._containsKeyInCommandMap(key);
 	}
 
 	public static boolean containsKeyInExecuteMap(String key) {
-		return _executeMap.containsKey(replaceCommandVars(key));
+		return _getPoshiRunnerVariablesUtil()._containsKeyInExecuteMap(key);
 	}
 
 	public static boolean containsKeyInStaticMap(String key) {
-		return _staticMap.containsKey(replaceCommandVars(key));
+		return _getPoshiRunnerVariablesUtil()._containsKeyInStaticMap(key);
 	}
 
 	public static String getReplacedCommandVarsString(String token) {
+		return _getPoshiRunnerVariablesUtil()._getReplacedCommandVarsString(
+			token);
+	}
+
+	public static String getStringFromCommandMap(String key) {
+		return _getPoshiRunnerVariablesUtil()._getStringFromCommandMap(key);
+	}
+
+	public static String getStringFromExecuteMap(String key) {
+		return _getPoshiRunnerVariablesUtil()._getStringFromExecuteMap(key);
+	}
+
+	public static String getStringFromStaticMap(String key) {
+		return _getPoshiRunnerVariablesUtil()._getStringFromStaticMap(key);
+	}
+
+	public static Object getValueFromCommandMap(String key) {
+		return _getPoshiRunnerVariablesUtil()._getValueFromCommandMap(key);
+	}
+
+	public static Object getValueFromExecuteMap(String key) {
+		return _getPoshiRunnerVariablesUtil()._getValueFromExecuteMap(key);
+	}
+
+	public static Object getValueFromStaticMap(String key) {
+		return _getPoshiRunnerVariablesUtil()._getValueFromStaticMap(key);
+	}
+
+	public static void popCommandMap() {
+		_getPoshiRunnerVariablesUtil()._popCommandMap();
+	}
+
+	public static void pushCommandMap() {
+		_getPoshiRunnerVariablesUtil()._pushCommandMap();
+	}
+
+	public static void putIntoCommandMap(String key, Object value) {
+		_getPoshiRunnerVariablesUtil()._putIntoCommandMap(key, value);
+	}
+
+	public static void putIntoExecuteMap(String key, Object value) {
+		_getPoshiRunnerVariablesUtil()._putIntoExecuteMap(key, value);
+	}
+
+	public static void putIntoStaticMap(String key, Object value) {
+		_getPoshiRunnerVariablesUtil()._putIntoStaticMap(key, value);
+	}
+
+	public static Object replaceCommandVars(String token) {
+		return _getPoshiRunnerVariablesUtil()._replaceCommandVars(token);
+	}
+
+	public static Object replaceExecuteVars(String token) {
+		return _getPoshiRunnerVariablesUtil()._replaceExecuteVars(token);
+	}
+
+	public static Object replaceStaticVars(String token) {
+		return _getPoshiRunnerVariablesUtil()._replaceStaticVars(token);
+	}
+
+	private static PoshiRunnerVariablesUtil _getPoshiRunnerVariablesUtil() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getPoshiRunnerVariablesUtil();
+	}
+
+	private void _clear() {
+		_commandMap.clear();
+		_commandMapStack.clear();
+		_executeMap.clear();
+		_staticMap.clear();
+	}
+
+	private boolean _containsKeyInCommandMap(String key) {
+		key = (String)_replaceCommandVars(key);
+
+		if (_staticMap.containsKey(key)) {
+			return true;
+		}
+
+		return _commandMap.containsKey(key);
+	}
+
+	private boolean _containsKeyInExecuteMap(String key) {
+		return _executeMap.containsKey(_replaceCommandVars(key));
+	}
+
+	private boolean _containsKeyInStaticMap(String key) {
+		return _staticMap.containsKey(_replaceCommandVars(key));
+	}
+
+	private String _getReplacedCommandVarsString(String token) {
 		if (token == null) {
 			return null;
 		}
 
-		Object tokenObject = replaceCommandVars(token);
+		Object tokenObject = _replaceCommandVars(token);
 
 		return tokenObject.toString();
 	}
 
-	public static String getStringFromCommandMap(String key) {
-		if (containsKeyInCommandMap((String)replaceCommandVars(key))) {
-			Object object = getValueFromCommandMap(key);
+	private String _getStringFromCommandMap(String key) {
+		if (_containsKeyInCommandMap((String)_replaceCommandVars(key))) {
+			Object object = _getValueFromCommandMap(key);
 
 			return object.toString();
 		}
@@ -67,9 +159,9 @@ public class PoshiRunnerVariablesUtil {
 		return null;
 	}
 
-	public static String getStringFromExecuteMap(String key) {
-		if (containsKeyInExecuteMap((String)replaceCommandVars(key))) {
-			Object object = getValueFromExecuteMap(key);
+	private String _getStringFromExecuteMap(String key) {
+		if (_containsKeyInExecuteMap((String)_replaceCommandVars(key))) {
+			Object object = _getValueFromExecuteMap(key);
 
 			return object.toString();
 		}
@@ -77,9 +169,9 @@ public class PoshiRunnerVariablesUtil {
 		return null;
 	}
 
-	public static String getStringFromStaticMap(String key) {
-		if (containsKeyInStaticMap((String)replaceStaticVars(key))) {
-			Object object = getValueFromExecuteMap(key);
+	private String _getStringFromStaticMap(String key) {
+		if (_containsKeyInStaticMap((String)_replaceStaticVars(key))) {
+			Object object = _getValueFromExecuteMap(key);
 
 			return object.toString();
 		}
@@ -87,132 +179,247 @@ public class PoshiRunnerVariablesUtil {
 		return null;
 	}
 
-	public static Object getValueFromCommandMap(String key) {
-		return _commandMap.get(replaceCommandVars(key));
+	private Object _getValueFromCommandMap(String key) {
+		key = (String)_replaceCommandVars(key);
+
+		if (_staticMap.containsKey(key)) {
+			return _staticMap.get(key);
+		}
+
+		return _commandMap.get(key);
 	}
 
-	public static Object getValueFromExecuteMap(String key) {
-		return _executeMap.get(replaceCommandVars(key));
+	private Object _getValueFromExecuteMap(String key) {
+		return _executeMap.get(_replaceCommandVars(key));
 	}
 
-	public static Object getValueFromStaticMap(String key) {
-		return _staticMap.get(replaceCommandVars(key));
+	private Object _getValueFromStaticMap(String key) {
+		return _staticMap.get(_replaceCommandVars(key));
 	}
 
-	public static void popCommandMap() {
+	private void _popCommandMap() {
 		_commandMap = _commandMapStack.pop();
 
-		_commandMap.putAll(_staticMap);
-
-		_executeMap = new HashMap<>();
+		_executeMap.clear();
 	}
 
-	public static void pushCommandMap() {
+	private void _pushCommandMap() {
 		_commandMapStack.push(_commandMap);
 
 		_commandMap = _executeMap;
 
-		_commandMap.putAll(_staticMap);
-
 		_executeMap = new HashMap<>();
 	}
 
-	public static void putIntoCommandMap(String key, Object value) {
+	private void _putIntoCommandMap(String key, Object value) {
 		if (value instanceof String) {
 			_commandMap.put(
-				(String)replaceCommandVars(key),
-				replaceCommandVars((String)value));
+				(String)_replaceCommandVars(key),
+				_replaceCommandVars((String)value));
 		}
 		else {
-			_commandMap.put((String)replaceCommandVars(key), value);
+			_commandMap.put((String)_replaceCommandVars(key), value);
 		}
 
-		if (containsKeyInStaticMap(key)) {
-			putIntoStaticMap(key, value);
+		if (_containsKeyInStaticMap(key)) {
+			_putIntoStaticMap(key, value);
 		}
 	}
 
-	public static void putIntoExecuteMap(String key, Object value) {
+	private void _putIntoExecuteMap(String key, Object value) {
 		if (value instanceof String) {
 			_executeMap.put(
-				(String)replaceCommandVars(key),
-				replaceCommandVars((String)value));
+				(String)_replaceCommandVars(key),
+				_replaceCommandVars((String)value));
 		}
 		else {
-			_executeMap.put((String)replaceCommandVars(key), value);
+			_executeMap.put((String)_replaceCommandVars(key), value);
 		}
 	}
 
-	public static void putIntoStaticMap(String key, Object value) {
+	private void _putIntoStaticMap(String key, Object value) {
 		if (value instanceof String) {
 			_staticMap.put(
-				(String)replaceCommandVars(key),
-				replaceCommandVars((String)value));
+				(String)_replaceCommandVars(key),
+				_replaceCommandVars((String)value));
 		}
 		else {
-			_staticMap.put((String)replaceCommandVars(key), value);
+			_staticMap.put((String)_replaceCommandVars(key), value);
 		}
 	}
 
-	public static Object replaceCommandVars(String token) {
-		Matcher matcher = _pattern.matcher(token);
+	private Object _replaceCommandVars(String token) {
+		return _replaceVars(token, _staticMap, _commandMap);
+	}
+
+	private Object _replaceExecuteVars(String token) {
+		return _replaceVars(token, null, _executeMap);
+	}
+
+	private Object _replaceStaticVars(String token) {
+		return _replaceVars(token, null, _staticMap);
+	}
 
-		if (matcher.matches() && _commandMap.containsKey(matcher.group(1))) {
-			return getValueFromCommandMap(matcher.group(1));
+	private Object _replaceVars(
+		String token, Map<String, Object> sharedMap,
+		Map<String, Object> map) {
+
+		if (!token.contains("${")) {
+			return token;
 		}
 
-		matcher.reset();
+		VariableTemplate variableTemplate = _variableTemplates.get(token);
 
-		while (matcher.find() && _commandMap.containsKey(matcher.group(1))) {
-			String varValue = getStringFromCommandMap(matcher.group(1));
+		if (variableTemplate == null) {
+			variableTemplate = new VariableTemplate(token);
 
-			token = StringUtil.replace(token, matcher.group(), varValue);
+			_variableTemplates.put(token, variableTemplate);
 		}
 
-		return token;
+		return variableTemplate.replaceVars(sharedMap, map);
 	}
 
-	public static Object replaceExecuteVars(String token) {
-		Matcher matcher = _pattern.matcher(token);
+	private static final int _VARIABLE_TEMPLATES_MAX_SIZE = 10000;
 
-		if (matcher.matches() && _executeMap.containsKey(matcher.group(1))) {
-			return getValueFromExecuteMap(matcher.group(1));
+	private static final Pattern _pattern = Pattern.compile("\\$\\{([^}]*)\\}");
+	private static final Map<String, VariableTemplate> _variableTemplates =
+		CacheUtil.createLRUMap(_VARIABLE_TEMPLATES_MAX_SIZE);
+
+	private Map<String, Object> _commandMap = new HashMap<>();
+	private final Stack<Map<String, Object>> _commandMapStack = new Stack<>();
+	private Map<String, Object> _executeMap = new HashMap<>();
+	private final Map<String, Object> _staticMap = new HashMap<>();
+
+	/**
+	 * Splits a token into literal and variable segments once, so that
+	 * replacing its variables is a single pass over the segments.
+	 */
+	private static class VariableTemplate {
+
+		public VariableTemplate(String token) {
+			_token = token;
+
+			List<String> segments = new ArrayList<>();
+			List<String> segmentVarNames = new ArrayList<>();
+			List<String> varNames = new ArrayList<>();
+
+			Matcher matcher = _pattern.matcher(token);
+
+			int index = 0;
+
+			while (matcher.find()) {
+				if (matcher.start() > index) {
+					segments.add(token.substring(index, matcher.start()));
+					segmentVarNames.add(null);
+				}
+
+				segments.add(matcher.group());
+				segmentVarNames.add(matcher.group(1));
+				varNames.add(matcher.group(1));
+
+				index = matcher.end();
+			}
+
+			if (index < token.length()) {
+				segments.add(token.substring(index));
+				segmentVarNames.add(null);
+			}
+
+			_segments = segments.toArray(new String[0]);
+			_varNames = varNames.toArray(new String[0]);
+
+			_segmentVarIndexes = new int[_segments.length];
+
+			for (int i = 0; i < _segments.length; i++) {
+				String segmentVarName = segmentVarNames.get(i);
+
+				if (segmentVarName == null) {
+					_segmentVarIndexes[i] = -1;
+				}
+				else {
+					_segmentVarIndexes[i] = varNames.indexOf(segmentVarName);
+				}
+			}
+
+			if ((_segments.length == 1) && (_varNames.length == 1)) {
+				_wholeVarName = _varNames[0];
+			}
+			else {
+				_wholeVarName = null;
+			}
 		}
 
-		matcher.reset();
+		public Object replaceVars(
+			Map<String, Object> sharedMap, Map<String, Object> map) {
 
-		while (matcher.find() && _executeMap.containsKey(matcher.group(1))) {
-			String varValue = getStringFromExecuteMap(matcher.group(1));
+			if (_wholeVarName != null) {
+				Map<String, Object> varMap = _getMap(
+					_wholeVarName, sharedMap, map);
 
-			token = StringUtil.replace(token, matcher.group(), varValue);
-		}
+				if (varMap != null) {
+					return varMap.get(_wholeVarName);
+				}
+			}
 
-		return token;
-	}
+			int replacedVarCount = 0;
 
-	public static Object replaceStaticVars(String token) {
-		Matcher matcher = _pattern.matcher(token);
+			while ((replacedVarCount < _varNames.length) &&
+				   (_getMap(_varNames[replacedVarCount], sharedMap, map) !=
+					   null)) {
+
+				replacedVarCount++;
+			}
 
-		if (matcher.matches() && _staticMap.containsKey(matcher.group(1))) {
-			return getValueFromStaticMap(matcher.group(1));
+			if (replacedVarCount == 0) {
+				return _token;
+			}
+
+			StringBuilder sb = new StringBuilder(_token.length());
+
+			for (int i = 0; i < _segments.length; i++) {
+				int segmentVarIndex = _segmentVarIndexes[i];
+
+				if ((segmentVarIndex != -1) &&
+					(segmentVarIndex < replacedVarCount)) {
+
+					String varName = _varNames[segmentVarIndex];
+
+					Map<String, Object> varMap = _getMap(
+						varName, sharedMap, map);
+
+					Object value = varMap.get(varName);
+
+					sb.append(value.toString());
+				}
+				else {
+					sb.append(_segments[i]);
+				}
+			}
+
+			return sb.toString();
 		}
 
-		matcher.reset();
+		private Map<String, Object> _getMap(
+			String varName, Map<String, Object> sharedMap,
+			Map<String, Object> map) {
+
+			if ((sharedMap != null) && sharedMap.containsKey(varName)) {
+				return sharedMap;
+			}
 
-		while (matcher.find() && _staticMap.containsKey(matcher.group(1))) {
-			String varValue = getStringFromStaticMap(matcher.group(1));
+			if (map.containsKey(varName)) {
+				return map;
+			}
 
-			token = StringUtil.replace(token, matcher.group(), varValue);
+			return null;
 		}
 
-		return token;
-	}
+		private final int[] _segmentVarIndexes;
+		private final String[] _segments;
+		private final String _token;
+		private final String[] _varNames;
+		private final String _wholeVarName;
 
-	private static Map<String, Object> _commandMap = new HashMap<>();
-	private static final Stack<Map<String, Object>> _commandMapStack =
-		new Stack<>();
-	private static Map<String, Object> _executeMap = new HashMap<>();
-	private static final Pattern _pattern = Pattern.compile("\\$\\{([^}]*)\\}");
-	private static final Map<String, Object> _staticMap = new HashMap<>();
+	}
 
 }
\ No newline at end of file
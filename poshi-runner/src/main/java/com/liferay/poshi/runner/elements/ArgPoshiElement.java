@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.dom4j.Attribute;
@@ -83,6 +84,11 @@ public class ArgPoshiElement extends PoshiElement {
 		return null;
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -101,4 +107,7 @@ public class ArgPoshiElement extends PoshiElement {
 
 	private static final String _ELEMENT_NAME = "arg";
 
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("\"");
+
 }
\ No newline at end of file
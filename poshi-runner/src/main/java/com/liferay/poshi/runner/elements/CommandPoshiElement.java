@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -172,6 +173,11 @@ public class CommandPoshiElement extends PoshiElement {
 		return getPoshiScriptKeyword() + " " + attributeValue("name");
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -191,5 +197,7 @@ public class CommandPoshiElement extends PoshiElement {
 		"^" + BLOCK_NAME_ANNOTATION_REGEX + _POSHI_SCRIPT_KEYWORD_REGEX +
 			"[\\s]*([\\w]*)",
 		Pattern.DOTALL);
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("@", "function", "macro", "test");
 
 }
\ No newline at end of file
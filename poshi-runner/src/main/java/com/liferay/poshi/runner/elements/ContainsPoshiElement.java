@@ -17,6 +17,8 @@ package com.liferay.poshi.runner.elements;
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 import com.liferay.poshi.runner.util.StringUtil;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -86,6 +88,11 @@ public class ContainsPoshiElement extends PoshiElement {
 		return _ELEMENT_NAME;
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -102,5 +109,7 @@ public class ContainsPoshiElement extends PoshiElement {
 
 	private static final Pattern _conditionPattern = Pattern.compile(
 		"^" + _ELEMENT_NAME + "\\(\"(.*)\"[\\s]*,[\\s]*\"(.*)\"\\)$");
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList(_ELEMENT_NAME);
 
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import com.liferay.poshi.runner.util.Dom4JUtil;
 
 import java.net.URL;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -200,6 +201,11 @@ public class DefinitionPoshiElement extends PoshiElement {
 		return fileExtension;
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	protected boolean isElementType(String poshiScript) {
 		return isValidPoshiScriptBlock(_blockNamePattern, poshiScript);
 	}
@@ -215,6 +221,8 @@ public class DefinitionPoshiElement extends PoshiElement {
 	private static final Pattern _blockNamePattern = Pattern.compile(
 		"^" + BLOCK_NAME_ANNOTATION_REGEX + _POSHI_SCRIPT_KEYWORD,
 		Pattern.DOTALL);
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("@", _POSHI_SCRIPT_KEYWORD);
 
 	private URL _url;
 	private Boolean _validPoshiXML;
@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.dom4j.Attribute;
@@ -102,6 +103,11 @@ public class DescriptionPoshiElement extends PoshiElement {
 		return "description";
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -116,4 +122,6 @@ public class DescriptionPoshiElement extends PoshiElement {
 
 	private static final String _ELEMENT_NAME = "description";
 
+	private static final List<String> _poshiScriptPrefixes = Arrays.asList("@");
+
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.liferay.poshi.runner.elements;
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 import com.liferay.poshi.runner.util.StringUtil;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -84,6 +85,11 @@ public class ElseIfPoshiElement extends IfPoshiElement {
 		return "else if";
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	protected static final Pattern blockNamePattern;
 
 	private boolean _isElementType(
@@ -106,6 +112,9 @@ public class ElseIfPoshiElement extends IfPoshiElement {
 
 	private static final String _POSHI_SCRIPT_KEYWORD_REGEX;
 
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("else");
+
 	static {
 		_POSHI_SCRIPT_KEYWORD_REGEX = StringUtil.replace(
 			_POSHI_SCRIPT_KEYWORD, " ", "[\\s]*");
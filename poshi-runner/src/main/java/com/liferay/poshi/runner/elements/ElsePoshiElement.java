@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -82,6 +83,11 @@ public class ElsePoshiElement extends ThenPoshiElement {
 		return "else";
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	protected static final Pattern blockNamePattern;
 
 	private boolean _isElementType(
@@ -98,6 +104,9 @@ public class ElsePoshiElement extends ThenPoshiElement {
 
 	private static final String _POSHI_SCRIPT_KEYWORD;
 
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList(_ELEMENT_NAME);
+
 	static {
 		_POSHI_SCRIPT_KEYWORD = _ELEMENT_NAME;
 
@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -109,6 +110,11 @@ public class EqualsPoshiElement extends PoshiElement {
 		return _conditionPattern;
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -136,5 +142,7 @@ public class EqualsPoshiElement extends PoshiElement {
 
 	private static final Pattern _conditionPattern = Pattern.compile(
 		"^[\\(]*\"[\\s\\S]*\"[\\s]*==[\\s]*\"[\\s\\S]*\"[\\)]*$");
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("(", "\"");
 
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -72,6 +73,11 @@ public class FailPoshiElement extends EchoPoshiElement {
 		return "fail";
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(String poshiScript) {
 		return isValidPoshiScriptStatement(_statementPattern, poshiScript);
 	}
@@ -80,6 +86,8 @@ public class FailPoshiElement extends EchoPoshiElement {
 
 	private static final String _POSHI_SCRIPT_KEYWORD = _ELEMENT_NAME;
 
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList(_POSHI_SCRIPT_KEYWORD);
 	private static final Pattern _statementPattern = Pattern.compile(
 		"^" + _POSHI_SCRIPT_KEYWORD + PARAMETER_REGEX + STATEMENT_END_REGEX);
 
@@ -19,6 +19,7 @@ import com.liferay.poshi.runner.util.Dom4JUtil;
 
 import java.io.IOException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -133,6 +134,11 @@ public class ForPoshiElement extends PoshiElement {
 		return sb.toString();
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	protected void initTypeAttributeName(Element element) {
 		if (element.attribute("list") != null) {
 			typeAttributeName = "list";
@@ -181,5 +187,7 @@ public class ForPoshiElement extends PoshiElement {
 		Pattern.DOTALL);
 	private static final Pattern _blockParameterPattern = Pattern.compile(
 		"var[\\s]*([\\w]*)[\\s]*:[\\s]*([\\w]*)[\\s]*\"(.*)\"");
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList(_POSHI_SCRIPT_KEYWORD);
 
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -165,6 +166,11 @@ public class IfPoshiElement extends PoshiElement {
 		return getName();
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	protected static final Pattern blockNamePattern;
 
 	private boolean _isElementType(
@@ -193,6 +199,9 @@ public class IfPoshiElement extends PoshiElement {
 
 	private static final String _POSHI_SCRIPT_KEYWORD = _ELEMENT_NAME;
 
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList(_POSHI_SCRIPT_KEYWORD);
+
 	static {
 		blockNamePattern = Pattern.compile(
 			"^" + _POSHI_SCRIPT_KEYWORD + BLOCK_NAME_PARAMETER_REGEX,
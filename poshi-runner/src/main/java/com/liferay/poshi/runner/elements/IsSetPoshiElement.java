@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -91,6 +92,11 @@ public class IsSetPoshiElement extends PoshiElement {
 		return _conditionPattern;
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -103,5 +109,7 @@ public class IsSetPoshiElement extends PoshiElement {
 
 	private static final Pattern _conditionPattern = Pattern.compile(
 		"^" + _POSHI_SCRIPT_KEYWORD + "\\([\\w]*\\)$");
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList(_POSHI_SCRIPT_KEYWORD);
 
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -110,6 +111,11 @@ public class NotPoshiElement extends PoshiElement {
 		return _conditionPattern;
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -120,5 +126,7 @@ public class NotPoshiElement extends PoshiElement {
 
 	private static final Pattern _conditionPattern = Pattern.compile(
 		"^(![\\s\\S]*|\"[\\s\\S]*\"[\\s]*!=[\\s]*\"[\\s\\S]*\")$");
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("!", "\"");
 
 }
\ No newline at end of file
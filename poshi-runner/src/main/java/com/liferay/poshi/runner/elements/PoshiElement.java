@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.PoshiRunnerContext;
 import com.liferay.poshi.runner.PoshiRunnerGetterUtil;
+import com.liferay.poshi.runner.script.PoshiScriptLexer;
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 import com.liferay.poshi.runner.script.UnbalancedCodeException;
 import com.liferay.poshi.runner.util.Dom4JUtil;
@@ -582,6 +583,10 @@ public abstract class PoshiElement
 		return poshiParentElement.getPoshiScriptKeyword();
 	}
 
+	protected List<String> getPoshiScriptPrefixes() {
+		return null;
+	}
+
 	protected List<String> getPoshiScriptSnippets(
 		String poshiScriptBlockContent) {
 
@@ -591,117 +596,33 @@ public abstract class PoshiElement
 	protected List<String> getPoshiScriptSnippets(
 		String poshiScriptBlockContent, boolean splitElseBlocks) {
 
-		StringBuilder sb = new StringBuilder();
-
 		List<String> poshiScriptSnippets = new ArrayList<>();
 
-		int index = 0;
-		boolean skipBalanceCheck = false;
-		Stack<Integer> storedIndices = new Stack<>();
-
-		for (char c : poshiScriptBlockContent.toCharArray()) {
-			sb.append(c);
+		PoshiScriptLexer poshiScriptLexer = new PoshiScriptLexer(
+			poshiScriptBlockContent);
 
-			String poshiScriptSnippet = sb.toString();
-
-			String trimmedPoshiScriptSnippet = poshiScriptSnippet.trim();
-
-			if (trimmedPoshiScriptSnippet.startsWith("//")) {
-				if (c == '\n') {
-					poshiScriptSnippet = poshiScriptSnippet.substring(
-						0, poshiScriptSnippet.length() - 1);
-
-					poshiScriptSnippets.add(poshiScriptSnippet);
-
-					sb.setLength(0);
-
-					sb.append(c);
-				}
+		String poshiScriptSnippet = poshiScriptLexer.nextSnippet();
 
-				continue;
-			}
+		while (poshiScriptSnippet != null) {
+			if (poshiScriptLexer.isStatement() && splitElseBlocks &&
+				(isValidPoshiScriptBlock(
+					ElseIfPoshiElement.blockNamePattern, poshiScriptSnippet) ||
+				 isValidPoshiScriptBlock(
+					 ElsePoshiElement.blockNamePattern, poshiScriptSnippet))) {
 
-			if (trimmedPoshiScriptSnippet.startsWith("/*")) {
-				if (trimmedPoshiScriptSnippet.endsWith("*/")) {
-					poshiScriptSnippets.add(poshiScriptSnippet);
+				int lastIndex = poshiScriptSnippets.size() - 1;
 
-					sb.setLength(0);
-				}
+				String lastPoshiScriptSnippet = poshiScriptSnippets.get(
+					lastIndex);
 
-				continue;
-			}
-
-			index++;
-
-			if (c == '\'') {
-				if (storedIndices.isEmpty()) {
-					storedIndices.push(index);
-				}
-				else if (storedIndices.peek() == (index - 1)) {
-					storedIndices.push(index);
-				}
-
-				if ((storedIndices.size() == 3) ||
-					(storedIndices.size() == 6)) {
-
-					skipBalanceCheck = !skipBalanceCheck;
-				}
-
-				if (storedIndices.size() > 6) {
-					throw new RuntimeException(
-						"Invalid multiline string: \n" + poshiScriptSnippet);
-				}
+				poshiScriptSnippets.set(
+					lastIndex, lastPoshiScriptSnippet + poshiScriptSnippet);
 			}
 			else {
-				storedIndices.clear();
-			}
-
-			if (skipBalanceCheck) {
-				continue;
-			}
-
-			if ((c != '}') && (c != ';')) {
-				continue;
-			}
-
-			if (trimmedPoshiScriptSnippet.startsWith("var") && (c != ';')) {
-				continue;
-			}
-
-			if (isBalancedPoshiScript(poshiScriptSnippet)) {
-				if (splitElseBlocks &&
-					(isValidPoshiScriptBlock(
-						ElseIfPoshiElement.blockNamePattern,
-						poshiScriptSnippet) ||
-					 isValidPoshiScriptBlock(
-						 ElsePoshiElement.blockNamePattern,
-						 poshiScriptSnippet))) {
-
-					int lastIndex = poshiScriptSnippets.size() - 1;
-
-					String lastPoshiScriptSnippet = poshiScriptSnippets.get(
-						lastIndex);
-
-					poshiScriptSnippets.set(
-						lastIndex, lastPoshiScriptSnippet + poshiScriptSnippet);
-
-					sb.setLength(0);
-
-					continue;
-				}
-
 				poshiScriptSnippets.add(poshiScriptSnippet);
-
-				sb.setLength(0);
 			}
-		}
-
-		String poshiScriptSnippet = sb.toString();
-
-		poshiScriptSnippet = poshiScriptSnippet.trim();
 
-		if (!poshiScriptSnippet.isEmpty()) {
-			poshiScriptSnippets.add(poshiScriptSnippet);
+			poshiScriptSnippet = poshiScriptLexer.nextSnippet();
 		}
 
 		return poshiScriptSnippets;
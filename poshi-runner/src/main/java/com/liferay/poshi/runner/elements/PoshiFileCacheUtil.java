@@ -0,0 +1,602 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.elements;
+
+import com.liferay.poshi.runner.PoshiRunnerContext;
+import com.liferay.poshi.runner.util.PropsValues;
+import com.liferay.poshi.runner.util.StringUtil;
+import com.liferay.poshi.runner.util.Validator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.lang.reflect.Constructor;
+
+import java.net.URL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.ProtectionDomain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dom4j.Attribute;
+import org.dom4j.CDATA;
+import org.dom4j.Comment;
+import org.dom4j.Element;
+import org.dom4j.Node;
+import org.dom4j.Text;
+import org.dom4j.tree.DefaultCDATA;
+import org.dom4j.tree.DefaultComment;
+import org.dom4j.tree.DefaultElement;
+import org.dom4j.tree.DefaultText;
+
+/**
+ * Stores parsed Poshi root elements on disk so that unchanged files do not
+ * have to be parsed again by later runs. Entries are keyed by the file URL and
+ * are only reused when the content hash and the hash of the Poshi Runner build
+ * match the ones they were written with. Poshi Script entries must also match
+ * the set of function file names, since it decides how execute statements are
+ * parsed.
+ *
+ * @author Kenji Heigel
+ */
+public class PoshiFileCacheUtil {
+
+	public static Element getRootElement(URL url, String content) {
+		if (!isEnabled()) {
+			return null;
+		}
+
+		return getRootElement(
+			new File(PropsValues.TEST_POSHI_FILE_CACHE_DIR_NAME),
+			_RUNNER_VERSION, url, content);
+	}
+
+	public static boolean isEnabled() {
+		return Validator.isNotNull(PropsValues.TEST_POSHI_FILE_CACHE_DIR_NAME);
+	}
+
+	public static void storeRootElement(
+		URL url, String content, Element rootElement) {
+
+		if (!isEnabled()) {
+			return;
+		}
+
+		storeRootElement(
+			new File(PropsValues.TEST_POSHI_FILE_CACHE_DIR_NAME),
+			_RUNNER_VERSION, url, content, rootElement);
+	}
+
+	protected static Element getRootElement(
+		File cacheDir, String runnerVersion, URL url, String content) {
+
+		File cacheFile = _getCacheFile(cacheDir, url);
+
+		if (!cacheFile.exists()) {
+			return null;
+		}
+
+		try (InputStream inputStream = new BufferedInputStream(
+				new FileInputStream(cacheFile))) {
+
+			DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+			if ((dataInputStream.readInt() != _CACHE_FORMAT_VERSION) ||
+				!runnerVersion.equals(_readString(dataInputStream)) ||
+				!_getContentHash(content).equals(
+					_readString(dataInputStream)) ||
+				!_getDependencyHash(content).equals(
+					_readString(dataInputStream))) {
+
+				return null;
+			}
+
+			return readRootElement(dataInputStream, url);
+		}
+		catch (Exception exception) {
+			System.out.println(
+				"Unable to read cached Poshi file " + url.getFile() + ": " +
+					exception.getMessage());
+
+			return null;
+		}
+	}
+
+	protected static void storeRootElement(
+		File cacheDir, String runnerVersion, URL url, String content,
+		Element rootElement) {
+
+		if (PoshiNodeFactory.hasPoshiScriptParserException(url)) {
+			return;
+		}
+
+		File cacheFile = _getCacheFile(cacheDir, url);
+
+		File tempFile = null;
+
+		try {
+			cacheDir.mkdirs();
+
+			tempFile = File.createTempFile(
+				cacheFile.getName(), ".tmp", cacheDir);
+
+			try (OutputStream outputStream = new BufferedOutputStream(
+					new FileOutputStream(tempFile))) {
+
+				DataOutputStream dataOutputStream = new DataOutputStream(
+					outputStream);
+
+				dataOutputStream.writeInt(_CACHE_FORMAT_VERSION);
+
+				_writeString(dataOutputStream, runnerVersion);
+				_writeString(dataOutputStream, _getContentHash(content));
+				_writeString(dataOutputStream, _getDependencyHash(content));
+
+				writeRootElement(dataOutputStream, rootElement);
+			}
+
+			Files.move(
+				tempFile.toPath(), cacheFile.toPath(),
+				StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (Exception exception) {
+			System.out.println(
+				"Unable to cache Poshi file " + url.getFile() + ": " +
+					exception.getMessage());
+
+			if ((tempFile != null) && tempFile.exists()) {
+				tempFile.delete();
+			}
+		}
+	}
+
+	protected static Element readRootElement(InputStream inputStream, URL url)
+		throws Exception {
+
+		DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+		Node node = _readNode(dataInputStream, url);
+
+		if (!(node instanceof Element)) {
+			throw new IOException("Cached root node is not an element");
+		}
+
+		return (Element)node;
+	}
+
+	protected static void writeRootElement(
+			OutputStream outputStream, Element rootElement)
+		throws IOException {
+
+		DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+
+		_writeNode(dataOutputStream, rootElement);
+
+		dataOutputStream.flush();
+	}
+
+	private static File _getCacheFile(File cacheDir, URL url) {
+		return new File(cacheDir, _getContentHash(url.toString()) + ".cache");
+	}
+
+	private static String _getContentHash(String content) {
+		MessageDigest messageDigest = _getMessageDigest();
+
+		return _toHexString(
+			messageDigest.digest(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String _getDependencyHash(String content) {
+		if (!content.endsWith("}")) {
+			return "";
+		}
+
+		Set<String> functionFileNames =
+			PoshiRunnerContext.getFunctionFileNames();
+
+		List<String> sortedFunctionFileNames;
+
+		synchronized (functionFileNames) {
+			sortedFunctionFileNames = new ArrayList<>(functionFileNames);
+		}
+
+		Collections.sort(sortedFunctionFileNames);
+
+		return _getContentHash(
+			StringUtil.join(
+				sortedFunctionFileNames.toArray(new String[0]), ","));
+	}
+
+	private static MessageDigest _getMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new RuntimeException(noSuchAlgorithmException);
+		}
+	}
+
+	private static String _getRunnerVersion() {
+		try {
+			ProtectionDomain protectionDomain =
+				PoshiFileCacheUtil.class.getProtectionDomain();
+
+			CodeSource codeSource = protectionDomain.getCodeSource();
+
+			URL url = codeSource.getLocation();
+
+			final Path path = Paths.get(url.toURI());
+
+			final MessageDigest messageDigest = _getMessageDigest();
+
+			if (Files.isRegularFile(path)) {
+				_updateMessageDigest(messageDigest, path);
+
+				return _toHexString(messageDigest.digest());
+			}
+
+			final List<Path> paths = new ArrayList<>();
+
+			Files.walkFileTree(
+				path,
+				new SimpleFileVisitor<Path>() {
+
+					@Override
+					public FileVisitResult visitFile(
+						Path filePath,
+						BasicFileAttributes basicFileAttributes) {
+
+						paths.add(filePath);
+
+						return FileVisitResult.CONTINUE;
+					}
+
+				});
+
+			Collections.sort(paths);
+
+			for (Path filePath : paths) {
+				String relativePath = String.valueOf(path.relativize(filePath));
+
+				messageDigest.update(
+					relativePath.getBytes(StandardCharsets.UTF_8));
+
+				_updateMessageDigest(messageDigest, filePath);
+			}
+
+			return _toHexString(messageDigest.digest());
+		}
+		catch (Exception exception) {
+			System.out.println(
+				"Unable to hash the Poshi Runner build, cached Poshi files " +
+					"will not be reused: " + exception.getMessage());
+
+			return UUID.randomUUID().toString();
+		}
+	}
+
+	private static Node _newNode(String className) throws Exception {
+		Class<?> clazz = Class.forName(className);
+
+		if (!PoshiNode.class.isAssignableFrom(clazz)) {
+			throw new IOException("Unexpected cached node type " + className);
+		}
+
+		Constructor<?> constructor = clazz.getDeclaredConstructor();
+
+		return (Node)constructor.newInstance();
+	}
+
+	private static Node _readNode(DataInputStream dataInputStream, URL url)
+		throws Exception {
+
+		byte nodeType = dataInputStream.readByte();
+
+		if (nodeType == _NODE_TYPE_CDATA) {
+			String text = _readString(dataInputStream);
+
+			if (!dataInputStream.readBoolean()) {
+				return new DefaultCDATA(text);
+			}
+
+			PoshiCDATA poshiCDATA = new PoshiCDATA(text);
+
+			poshiCDATA.setPoshiScript(_readString(dataInputStream));
+
+			return poshiCDATA;
+		}
+
+		if (nodeType == _NODE_TYPE_COMMENT) {
+			String className = _readString(dataInputStream);
+			String text = _readString(dataInputStream);
+
+			if (className == null) {
+				return new DefaultComment(text);
+			}
+
+			PoshiComment poshiComment = (PoshiComment)_newNode(className);
+
+			poshiComment.setPoshiScript(_readString(dataInputStream));
+			poshiComment.setText(text);
+
+			return poshiComment;
+		}
+
+		if (nodeType == _NODE_TYPE_TEXT) {
+			return new DefaultText(_readString(dataInputStream));
+		}
+
+		if (nodeType != _NODE_TYPE_ELEMENT) {
+			throw new IOException("Unknown cached node type " + nodeType);
+		}
+
+		String className = _readString(dataInputStream);
+		String name = _readString(dataInputStream);
+
+		Element element = null;
+
+		if (className == null) {
+			element = new DefaultElement(name);
+		}
+		else {
+			PoshiElement poshiElement = (PoshiElement)_newNode(className);
+
+			poshiElement.setName(name);
+			poshiElement.setPoshiScript(_readString(dataInputStream));
+
+			if (poshiElement instanceof DefinitionPoshiElement) {
+				poshiElement.setFilePath(url);
+			}
+
+			element = poshiElement;
+		}
+
+		int attributeCount = dataInputStream.readInt();
+
+		for (int i = 0; i < attributeCount; i++) {
+			String attributeName = _readString(dataInputStream);
+			String attributeValue = _readString(dataInputStream);
+
+			if (element instanceof PoshiElement) {
+				element.add(
+					new PoshiElementAttribute(
+						attributeName, attributeValue,
+						_readString(dataInputStream)));
+			}
+			else {
+				element.addAttribute(attributeName, attributeValue);
+			}
+		}
+
+		int nodeCount = dataInputStream.readInt();
+
+		for (int i = 0; i < nodeCount; i++) {
+			element.add(_readNode(dataInputStream, url));
+		}
+
+		if (element instanceof ForPoshiElement) {
+			ForPoshiElement forPoshiElement = (ForPoshiElement)element;
+
+			forPoshiElement.initTypeAttributeName(element);
+		}
+		else if (element instanceof VarPoshiElement) {
+			VarPoshiElement varPoshiElement = (VarPoshiElement)element;
+
+			varPoshiElement.initValueAttributeName(element);
+		}
+
+		return element;
+	}
+
+	private static String _readString(DataInputStream dataInputStream)
+		throws IOException {
+
+		int length = dataInputStream.readInt();
+
+		if (length == -1) {
+			return null;
+		}
+
+		byte[] bytes = new byte[length];
+
+		dataInputStream.readFully(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String _toHexString(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+			sb.append(Character.forDigit(b & 0xf, 16));
+		}
+
+		return sb.toString();
+	}
+
+	private static void _updateMessageDigest(
+			MessageDigest messageDigest, Path path)
+		throws IOException {
+
+		try (InputStream inputStream = Files.newInputStream(path)) {
+			byte[] bytes = new byte[8192];
+
+			int length = 0;
+
+			while ((length = inputStream.read(bytes)) != -1) {
+				messageDigest.update(bytes, 0, length);
+			}
+		}
+	}
+
+	private static void _writeNode(
+			DataOutputStream dataOutputStream, Node node)
+		throws IOException {
+
+		if (node instanceof CDATA) {
+			dataOutputStream.writeByte(_NODE_TYPE_CDATA);
+
+			_writeString(dataOutputStream, node.getText());
+
+			if (node instanceof PoshiCDATA) {
+				PoshiCDATA poshiCDATA = (PoshiCDATA)node;
+
+				dataOutputStream.writeBoolean(true);
+
+				_writeString(dataOutputStream, poshiCDATA.getPoshiScript());
+			}
+			else {
+				dataOutputStream.writeBoolean(false);
+			}
+
+			return;
+		}
+
+		if (node instanceof Comment) {
+			dataOutputStream.writeByte(_NODE_TYPE_COMMENT);
+
+			if (node instanceof PoshiComment) {
+				PoshiComment poshiComment = (PoshiComment)node;
+
+				Class<?> clazz = poshiComment.getClass();
+
+				_writeString(dataOutputStream, clazz.getName());
+				_writeString(dataOutputStream, node.getText());
+				_writeString(dataOutputStream, poshiComment.getPoshiScript());
+			}
+			else {
+				_writeString(dataOutputStream, null);
+				_writeString(dataOutputStream, node.getText());
+			}
+
+			return;
+		}
+
+		if (node instanceof Text) {
+			dataOutputStream.writeByte(_NODE_TYPE_TEXT);
+
+			_writeString(dataOutputStream, node.getText());
+
+			return;
+		}
+
+		if (!(node instanceof Element)) {
+			throw new IOException(
+				"Unable to cache node type " + node.getNodeTypeName());
+		}
+
+		Element element = (Element)node;
+
+		dataOutputStream.writeByte(_NODE_TYPE_ELEMENT);
+
+		if (element instanceof PoshiElement) {
+			PoshiElement poshiElement = (PoshiElement)element;
+
+			Class<?> clazz = poshiElement.getClass();
+
+			_writeString(dataOutputStream, clazz.getName());
+			_writeString(dataOutputStream, element.getName());
+			_writeString(dataOutputStream, poshiElement.getPoshiScript());
+		}
+		else {
+			_writeString(dataOutputStream, null);
+			_writeString(dataOutputStream, element.getName());
+		}
+
+		dataOutputStream.writeInt(element.attributeCount());
+
+		for (int i = 0; i < element.attributeCount(); i++) {
+			Attribute attribute = element.attribute(i);
+
+			_writeString(dataOutputStream, attribute.getName());
+			_writeString(dataOutputStream, attribute.getValue());
+
+			if (element instanceof PoshiElement) {
+				String poshiScript = null;
+
+				if (attribute instanceof PoshiElementAttribute) {
+					PoshiElementAttribute poshiElementAttribute =
+						(PoshiElementAttribute)attribute;
+
+					poshiScript = poshiElementAttribute.getPoshiScript();
+				}
+
+				_writeString(dataOutputStream, poshiScript);
+			}
+		}
+
+		dataOutputStream.writeInt(element.nodeCount());
+
+		for (int i = 0; i < element.nodeCount(); i++) {
+			_writeNode(dataOutputStream, element.node(i));
+		}
+	}
+
+	private static void _writeString(
+			DataOutputStream dataOutputStream, String string)
+		throws IOException {
+
+		if (string == null) {
+			dataOutputStream.writeInt(-1);
+
+			return;
+		}
+
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+		dataOutputStream.writeInt(bytes.length);
+
+		dataOutputStream.write(bytes);
+	}
+
+	private static final int _CACHE_FORMAT_VERSION = 2;
+
+	private static final byte _NODE_TYPE_CDATA = 1;
+
+	private static final byte _NODE_TYPE_COMMENT = 2;
+
+	private static final byte _NODE_TYPE_ELEMENT = 3;
+
+	private static final byte _NODE_TYPE_TEXT = 4;
+
+	private static final String _RUNNER_VERSION = _getRunnerVersion();
+
+}
@@ -31,7 +31,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.dom4j.Comment;
 import org.dom4j.Document;
@@ -191,6 +193,72 @@ public abstract class PoshiNodeFactory {
 		return new DefinitionPoshiElement();
 	}
 
+	private static List<PoshiElement> _getPoshiElements(String poshiScript) {
+		String poshiScriptToken = _getPoshiScriptToken(poshiScript);
+
+		List<PoshiElement> poshiElements = _poshiElementsMap.get(
+			poshiScriptToken);
+
+		if (poshiElements != null) {
+			return poshiElements;
+		}
+
+		poshiElements = new ArrayList<>();
+
+		for (PoshiElement poshiElement : _poshiElements) {
+			List<String> poshiScriptPrefixes =
+				poshiElement.getPoshiScriptPrefixes();
+
+			if (poshiScriptPrefixes == null) {
+				poshiElements.add(poshiElement);
+
+				continue;
+			}
+
+			for (String poshiScriptPrefix : poshiScriptPrefixes) {
+				if (poshiScriptToken.startsWith(poshiScriptPrefix)) {
+					poshiElements.add(poshiElement);
+
+					break;
+				}
+			}
+		}
+
+		_poshiElementsMap.put(poshiScriptToken, poshiElements);
+
+		return poshiElements;
+	}
+
+	private static String _getPoshiScriptToken(String poshiScript) {
+		poshiScript = poshiScript.trim();
+
+		if (poshiScript.isEmpty()) {
+			return poshiScript;
+		}
+
+		int i = 0;
+
+		while ((i < poshiScript.length()) &&
+			   _isWordCharacter(poshiScript.charAt(i))) {
+
+			i++;
+		}
+
+		if (i == 0) {
+			return poshiScript.substring(0, 1);
+		}
+
+		return poshiScript.substring(0, i);
+	}
+
+	private static boolean _isWordCharacter(char c) {
+		if (Character.isLetterOrDigit(c) || (c == '_')) {
+			return true;
+		}
+
+		return false;
+	}
+
 	private static PoshiComment _newPoshiComment(Comment comment) {
 		for (PoshiComment poshiComment : _poshiComments) {
 			PoshiComment newPoshiComment = poshiComment.clone(comment);
@@ -233,7 +301,7 @@ public abstract class PoshiNodeFactory {
 			PoshiElement parentPoshiElement, String poshiScript)
 		throws PoshiScriptParserException {
 
-		for (PoshiElement poshiElement : _poshiElements) {
+		for (PoshiElement poshiElement : _getPoshiElements(poshiScript)) {
 			PoshiElement newPoshiElement = poshiElement.clone(
 				parentPoshiElement, poshiScript);
 
@@ -248,6 +316,8 @@ public abstract class PoshiNodeFactory {
 	private static final DefinitionPoshiElement _definitionPoshiElement;
 	private static final List<PoshiComment> _poshiComments = new ArrayList<>();
 	private static final List<PoshiElement> _poshiElements = new ArrayList<>();
+	private static final Map<String, List<PoshiElement>> _poshiElementsMap =
+		new ConcurrentHashMap<>();
 	private static boolean _validatePoshiScript = true;
 
 	static {
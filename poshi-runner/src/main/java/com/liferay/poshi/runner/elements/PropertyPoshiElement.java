@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -69,6 +70,11 @@ public class PropertyPoshiElement extends VarPoshiElement {
 		super(_ELEMENT_NAME, parentPoshiElement, poshiScript);
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(String poshiScript) {
 		return isValidPoshiScriptStatement(_statementPattern, poshiScript);
 	}
@@ -77,6 +83,8 @@ public class PropertyPoshiElement extends VarPoshiElement {
 
 	private static final String _POSHI_SCRIPT_KEYWORD = _ELEMENT_NAME;
 
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList(_POSHI_SCRIPT_KEYWORD);
 	private static final Pattern _statementPattern = Pattern.compile(
 		"^" + _POSHI_SCRIPT_KEYWORD + "[\\s]*[\\w\\.-]*" + ASSIGNMENT_REGEX +
 			".*" + STATEMENT_END_REGEX);
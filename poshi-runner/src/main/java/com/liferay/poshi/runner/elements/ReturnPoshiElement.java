@@ -18,6 +18,7 @@ import com.liferay.poshi.runner.script.PoshiScriptParserException;
 import com.liferay.poshi.runner.util.RegexUtil;
 import com.liferay.poshi.runner.util.StringUtil;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -122,6 +123,11 @@ public class ReturnPoshiElement extends PoshiElement {
 		return sb.toString();
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -144,6 +150,9 @@ public class ReturnPoshiElement extends PoshiElement {
 
 	private static final String _ELEMENT_NAME = "return";
 
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("return", "var");
+
 	private Pattern _returnPattern = Pattern.compile(
 		"^return[\\s]*\"[\\s\\S]*\"[\\s]*;$");
 
@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -72,6 +73,11 @@ public class SetUpPoshiElement extends CommandPoshiElement {
 		return "setUp";
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -89,5 +95,7 @@ public class SetUpPoshiElement extends CommandPoshiElement {
 	private static final Pattern _blockNamePattern = Pattern.compile(
 		"^" + BLOCK_NAME_ANNOTATION_REGEX + _POSHI_SCRIPT_KEYWORD,
 		Pattern.DOTALL);
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("@", _POSHI_SCRIPT_KEYWORD);
 
 }
\ No newline at end of file
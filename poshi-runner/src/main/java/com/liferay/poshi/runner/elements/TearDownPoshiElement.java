@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -80,6 +81,11 @@ public class TearDownPoshiElement extends CommandPoshiElement {
 		return "tearDown";
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -97,5 +103,7 @@ public class TearDownPoshiElement extends CommandPoshiElement {
 	private static final Pattern _blockNamePattern = Pattern.compile(
 		"^" + BLOCK_NAME_ANNOTATION_REGEX + _POSHI_SCRIPT_KEYWORD,
 		Pattern.DOTALL);
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("@", _POSHI_SCRIPT_KEYWORD);
 
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.poshi.runner.elements;
 
 import com.liferay.poshi.runner.script.PoshiScriptParserException;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.dom4j.Attribute;
@@ -114,6 +115,11 @@ public class ThenPoshiElement extends PoshiElement {
 		return "then";
 	}
 
+	@Override
+	protected List<String> getPoshiScriptPrefixes() {
+		return _poshiScriptPrefixes;
+	}
+
 	private boolean _isElementType(
 		PoshiElement parentPoshiElement, String poshiScript) {
 
@@ -136,4 +142,7 @@ public class ThenPoshiElement extends PoshiElement {
 
 	private static final String _ELEMENT_NAME = "then";
 
+	private static final List<String> _poshiScriptPrefixes =
+		Arrays.asList("else", "if", "while");
+
 }
\ No newline at end of file
@@ -26,6 +26,11 @@ import com.liferay.poshi.runner.util.HtmlUtil;
 import com.liferay.poshi.runner.util.StringUtil;
 import com.liferay.poshi.runner.util.Validator;
 
+import java.io.IOException;
+import java.io.Writer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,12 +42,18 @@ import org.dom4j.Element;
  */
 public final class CommandLogger {
 
-	public CommandLogger() {
+	public CommandLogger() throws IOException {
 		_commandLogLoggerElement = new LoggerElement("commandLog");
 
 		_commandLogLoggerElement.setAttribute("data-logid", "01");
 		_commandLogLoggerElement.setClassName("collapse command-log");
 		_commandLogLoggerElement.setName("ul");
+
+		_loggerElementWriter = new LoggerElementWriter("command-log");
+	}
+
+	public void close() throws IOException {
+		_loggerElementWriter.close();
 	}
 
 	public void failCommand(Element element, SyntaxLogger syntaxLogger)
@@ -62,10 +73,6 @@ public final class CommandLogger {
 		}
 	}
 
-	public String getCommandLogText() {
-		return _commandLogLoggerElement.toString();
-	}
-
 	public int getDetailsLinkId() {
 		return _detailsLinkId - 1;
 	}
@@ -83,10 +90,10 @@ public final class CommandLogger {
 			_getExternalMethodLineLoggerElement(
 				element, arguments, returnValue));
 
-		_commandLogLoggerElement.addChildLoggerElement(lineGroupLoggerElement);
+		_addLineGroupLoggerElement();
 
 		LoggerElement scriptLoggerElement = syntaxLogger.getSyntaxLoggerElement(
-			PoshiRunnerStackTraceUtil.getSimpleStackTrace());
+			PoshiRunnerStackTraceUtil.getCallSiteId());
 
 		_linkLoggerElements(scriptLoggerElement);
 	}
@@ -97,8 +104,7 @@ public final class CommandLogger {
 		try {
 			lineGroupLoggerElement = _getMessageGroupLoggerElement(element);
 
-			_commandLogLoggerElement.addChildLoggerElement(
-				lineGroupLoggerElement);
+			_addLineGroupLoggerElement();
 		}
 		catch (Throwable t) {
 			throw new PoshiRunnerLoggerException(t.getMessage(), t);
@@ -111,8 +117,7 @@ public final class CommandLogger {
 		LoggerElement dividerLineLoggerElement = _getDividerLineLoggerElement(
 			namespacedClassCommandName);
 
-		_commandLogLoggerElement.addChildLoggerElement(
-			dividerLineLoggerElement);
+		_loggerElements.add(dividerLineLoggerElement);
 	}
 
 	public void logSeleniumCommand(Element element, List<String> arguments) {
@@ -145,8 +150,7 @@ public final class CommandLogger {
 
 			lineGroupLoggerElement = _getLineGroupLoggerElement(element);
 
-			_commandLogLoggerElement.addChildLoggerElement(
-				lineGroupLoggerElement);
+			_addLineGroupLoggerElement();
 		}
 		catch (Throwable t) {
 			throw new PoshiRunnerLoggerException(t.getMessage(), t);
@@ -164,8 +168,7 @@ public final class CommandLogger {
 
 			lineGroupLoggerElement = _getMessageGroupLoggerElement(element);
 
-			_commandLogLoggerElement.addChildLoggerElement(
-				lineGroupLoggerElement);
+			_addLineGroupLoggerElement();
 
 			_commandElement = null;
 
@@ -193,8 +196,38 @@ public final class CommandLogger {
 		}
 	}
 
+	public void writeCommandLog(Writer writer) throws IOException {
+		_commandLogLoggerElement.writeStartTag(writer);
+
+		_loggerElementWriter.transferTo(writer);
+
+		for (LoggerElement loggerElement : _loggerElements) {
+			loggerElement.write(writer);
+		}
+
+		_commandLogLoggerElement.writeEndTag(writer);
+	}
+
 	protected LoggerElement lineGroupLoggerElement;
 
+	private void _addLineGroupLoggerElement() throws IOException {
+		_loggerElements.add(lineGroupLoggerElement);
+
+		Iterator<LoggerElement> iterator = _loggerElements.iterator();
+
+		while (iterator.hasNext()) {
+			LoggerElement loggerElement = iterator.next();
+
+			if (loggerElement == lineGroupLoggerElement) {
+				break;
+			}
+
+			_loggerElementWriter.write(loggerElement);
+
+			iterator.remove();
+		}
+	}
+
 	private void _failLineGroupLoggerElement(
 			LoggerElement lineGroupLoggerElement)
 		throws Exception {
@@ -707,5 +740,7 @@ public final class CommandLogger {
 	private final LoggerElement _commandLogLoggerElement;
 	private int _detailsLinkId;
 	private int _functionLinkId;
+	private final LoggerElementWriter _loggerElementWriter;
+	private final List<LoggerElement> _loggerElements = new ArrayList<>();
 
 }
\ No newline at end of file
@@ -14,12 +14,17 @@
 
 package com.liferay.poshi.runner.logger;
 
+import com.liferay.poshi.runner.util.CacheUtil;
 import com.liferay.poshi.runner.util.StringUtil;
 import com.liferay.poshi.runner.util.Validator;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,7 +43,17 @@ public class LoggerElement {
 	}
 
 	public void addChildLoggerElement(LoggerElement childLoggerElement) {
-		_childLoggerElements.add(childLoggerElement);
+		if (_childLoggerElements == null) {
+			_childLoggerElements = new LoggerElement[2];
+		}
+		else if (_childLoggerElementsCount == _childLoggerElements.length) {
+			_childLoggerElements = Arrays.copyOf(
+				_childLoggerElements, _childLoggerElementsCount * 2);
+		}
+
+		_childLoggerElements[_childLoggerElementsCount] = childLoggerElement;
+
+		_childLoggerElementsCount++;
 	}
 
 	public void addClassName(String className) {
@@ -48,38 +63,41 @@ public class LoggerElement {
 	public LoggerElement copy() {
 		LoggerElement loggerElement = new LoggerElement();
 
-		List<LoggerElement> childLoggerElements = loggerElements();
-
-		for (LoggerElement childLoggerElement : childLoggerElements) {
-			loggerElement.addChildLoggerElement(childLoggerElement.copy());
+		for (int i = 0; i < _childLoggerElementsCount; i++) {
+			loggerElement.addChildLoggerElement(_childLoggerElements[i].copy());
 		}
 
-		List<String> attributeNames = getAttributeNames();
-
-		for (String attributeName : attributeNames) {
-			loggerElement.setAttribute(
-				attributeName, getAttributeValue(attributeName));
+		if (_attributes != null) {
+			loggerElement._attributes = Arrays.copyOf(
+				_attributes, _attributes.length);
+			loggerElement._attributesCount = _attributesCount;
 		}
 
-		loggerElement.setClassName(getClassName());
-		loggerElement.setName(getName());
-		loggerElement.setText(getText());
+		loggerElement._className = _className;
+		loggerElement._name = _name;
+		loggerElement._text = _text;
 
 		return loggerElement;
 	}
 
 	public List<String> getAttributeNames() {
-		List<String> attributeNames = new ArrayList<>();
+		List<String> attributeNames = new ArrayList<>(_attributesCount);
 
-		for (String attributeName : _attributes.keySet()) {
-			attributeNames.add(attributeName);
+		for (int i = 0; i < _attributesCount; i++) {
+			attributeNames.add(_attributes[i * 2]);
 		}
 
 		return attributeNames;
 	}
 
 	public String getAttributeValue(String key) {
-		return _attributes.get(key);
+		int index = _getAttributeIndex(key);
+
+		if (index == -1) {
+			return null;
+		}
+
+		return _attributes[index + 1];
 	}
 
 	public String getClassName() {
@@ -99,26 +117,25 @@ public class LoggerElement {
 	}
 
 	public LoggerElement loggerElement(String name) {
-		List<LoggerElement> loggerElements = loggerElements(name);
+		for (int i = 0; i < _childLoggerElementsCount; i++) {
+			LoggerElement childLoggerElement = _childLoggerElements[i];
 
-		if (!loggerElements.isEmpty()) {
-			return loggerElements.get(0);
+			if (Objects.equals(childLoggerElement.getName(), name)) {
+				return childLoggerElement;
+			}
 		}
 
 		return null;
 	}
 
 	public LoggerElement loggerElement(String name, String className) {
-		List<LoggerElement> loggerElements = loggerElements(name);
-
-		for (LoggerElement loggerElement : loggerElements) {
-			String childLoggerElementClassName = loggerElement.getClassName();
+		for (int i = 0; i < _childLoggerElementsCount; i++) {
+			LoggerElement childLoggerElement = _childLoggerElements[i];
 
-			List<String> childLoggerElementClassNames = Arrays.asList(
-				StringUtil.split(childLoggerElementClassName, " "));
+			if (Objects.equals(childLoggerElement.getName(), name) &&
+				childLoggerElement._hasClassName(className)) {
 
-			if (childLoggerElementClassNames.contains(className)) {
-				return loggerElement;
+				return childLoggerElement;
 			}
 		}
 
@@ -126,13 +143,20 @@ public class LoggerElement {
 	}
 
 	public List<LoggerElement> loggerElements() {
-		return _childLoggerElements;
+		if (_childLoggerElementsCount == 0) {
+			return Collections.emptyList();
+		}
+
+		return Arrays.asList(
+			Arrays.copyOf(_childLoggerElements, _childLoggerElementsCount));
 	}
 
 	public List<LoggerElement> loggerElements(String name) {
 		List<LoggerElement> childLoggerElements = new ArrayList<>();
 
-		for (LoggerElement childLoggerElement : _childLoggerElements) {
+		for (int i = 0; i < _childLoggerElementsCount; i++) {
+			LoggerElement childLoggerElement = _childLoggerElements[i];
+
 			if (Objects.equals(childLoggerElement.getName(), name)) {
 				childLoggerElements.add(childLoggerElement);
 			}
@@ -142,17 +166,23 @@ public class LoggerElement {
 	}
 
 	public void removeChildLoggerElements(String name) {
-		List<LoggerElement> childLoggerElements = new ArrayList<>();
+		int count = 0;
 
-		for (LoggerElement childLoggerElement : _childLoggerElements) {
-			if (Objects.equals(childLoggerElement.getName(), name)) {
-				childLoggerElements.add(childLoggerElement);
+		for (int i = 0; i < _childLoggerElementsCount; i++) {
+			LoggerElement childLoggerElement = _childLoggerElements[i];
+
+			if (!Objects.equals(childLoggerElement.getName(), name)) {
+				_childLoggerElements[count] = childLoggerElement;
+
+				count++;
 			}
 		}
 
-		for (LoggerElement childLoggerElement : childLoggerElements) {
-			_childLoggerElements.remove(childLoggerElement);
+		for (int i = count; i < _childLoggerElementsCount; i++) {
+			_childLoggerElements[i] = null;
 		}
+
+		_childLoggerElementsCount = count;
 	}
 
 	public void removeClassName(String className) {
@@ -164,11 +194,29 @@ public class LoggerElement {
 	}
 
 	public void setAttribute(String attributeName, String attributeValue) {
-		_attributes.put(attributeName, attributeValue);
+		int index = _getAttributeIndex(attributeName);
+
+		if (index != -1) {
+			_attributes[index + 1] = attributeValue;
+
+			return;
+		}
+
+		if (_attributes == null) {
+			_attributes = new String[4];
+		}
+		else if ((_attributesCount * 2) == _attributes.length) {
+			_attributes = Arrays.copyOf(_attributes, _attributes.length * 2);
+		}
+
+		_attributes[_attributesCount * 2] = attributeName;
+		_attributes[(_attributesCount * 2) + 1] = attributeValue;
+
+		_attributesCount++;
 	}
 
 	public void setClassName(String className) {
-		_className = _fixClassName(className);
+		_className = _getClassName(className);
 	}
 
 	public void setID(String id) {
@@ -185,73 +233,126 @@ public class LoggerElement {
 
 	@Override
 	public String toString() {
-		StringBuilder sb = new StringBuilder();
+		StringWriter stringWriter = new StringWriter();
 
-		sb.append("<");
-		sb.append(_name);
+		try {
+			write(stringWriter);
+		}
+		catch (IOException ioException) {
+			throw new RuntimeException(ioException);
+		}
+
+		return stringWriter.toString();
+	}
 
-		for (Map.Entry<String, String> entry : _attributes.entrySet()) {
-			sb.append(" ");
-			sb.append(entry.getKey());
-			sb.append("=\"");
-			sb.append(entry.getValue());
-			sb.append("\"");
+	public void write(Writer writer) throws IOException {
+		writeStartTag(writer);
+
+		if (Validator.isNotNull(_text)) {
+			writer.write(_text);
+		}
+
+		for (int i = 0; i < _childLoggerElementsCount; i++) {
+			_childLoggerElements[i].write(writer);
+		}
+
+		writeEndTag(writer);
+	}
+
+	public void writeEndTag(Writer writer) throws IOException {
+		writer.write("</");
+		writer.write(_name);
+		writer.write(">");
+	}
+
+	public void writeStartTag(Writer writer) throws IOException {
+		writer.write("<");
+		writer.write(_name);
+
+		for (int i = 0; i < _attributesCount; i++) {
+			writer.write(" ");
+			writer.write(_attributes[i * 2]);
+			writer.write("=\"");
+			writer.write(_attributes[(i * 2) + 1]);
+			writer.write("\"");
 		}
 
 		if (Validator.isNotNull(_className)) {
-			sb.append(" class=\"");
-			sb.append(_className);
-			sb.append("\"");
+			writer.write(" class=\"");
+			writer.write(_className);
+			writer.write("\"");
 		}
 
 		if (Validator.isNotNull(_id)) {
-			sb.append(" id=\"");
-			sb.append(_id);
-			sb.append("\"");
+			writer.write(" id=\"");
+			writer.write(_id);
+			writer.write("\"");
 		}
 
-		sb.append(">");
+		writer.write(">");
+	}
 
-		boolean hasChildren = false;
+	private static String _fixClassName(String className) {
+		String[] classNames = StringUtil.split(className, " ");
 
-		if (_childLoggerElements.size() > 0) {
-			hasChildren = true;
-		}
+		Arrays.sort(classNames);
 
-		boolean hasText = Validator.isNotNull(_text);
+		return StringUtil.join(classNames, " ");
+	}
 
-		if (hasChildren || hasText) {
-			if (hasText) {
-				sb.append(_text);
-			}
+	private static String _getClassName(String className) {
+		String fixedClassName = _classNames.get(className);
 
-			if (hasChildren) {
-				for (LoggerElement childLoggerElement : _childLoggerElements) {
-					sb.append(childLoggerElement.toString());
-				}
-			}
+		if (fixedClassName == null) {
+			fixedClassName = _fixClassName(className);
+
+			_classNames.put(className, fixedClassName);
 		}
 
-		sb.append("</");
-		sb.append(_name);
-		sb.append(">");
+		return fixedClassName;
+	}
+
+	private int _getAttributeIndex(String attributeName) {
+		for (int i = 0; i < _attributesCount; i++) {
+			if (Objects.equals(_attributes[i * 2], attributeName)) {
+				return i * 2;
+			}
+		}
 
-		return sb.toString();
+		return -1;
 	}
 
-	private String _fixClassName(String className) {
-		String[] classNames = StringUtil.split(className, " ");
+	private boolean _hasClassName(String className) {
+		int index = _className.indexOf(className);
 
-		Arrays.sort(classNames);
+		while (index != -1) {
+			int endIndex = index + className.length();
 
-		return StringUtil.join(classNames, " ");
+			if (((index == 0) || (_className.charAt(index - 1) == ' ')) &&
+				((endIndex == _className.length()) ||
+				 (_className.charAt(endIndex) == ' '))) {
+
+				return true;
+			}
+
+			index = _className.indexOf(className, endIndex);
+		}
+
+		return false;
 	}
 
-	private final Map<String, String> _attributes = new HashMap<>();
-	private final List<LoggerElement> _childLoggerElements = new ArrayList<>();
+	private static final int _CLASS_NAMES_MAX_SIZE = 10000;
+
+	private static final Map<String, String> _classNames =
+		CacheUtil.createLRUMap(_CLASS_NAMES_MAX_SIZE);
+
+	private String[] _attributes;
+	private int _attributesCount;
+	private LoggerElement[] _childLoggerElements;
+	private int _childLoggerElementsCount;
 	private String _className = "";
 	private String _id;
 	private String _name = "div";
 	private String _text = "";
 
-}
\ No newline at end of file
+}
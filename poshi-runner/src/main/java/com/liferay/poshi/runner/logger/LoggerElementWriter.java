@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.logger;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * @author Kenji Heigel
+ */
+public class LoggerElementWriter {
+
+	public LoggerElementWriter(String prefix) throws IOException {
+		_file = File.createTempFile(prefix, ".html");
+
+		_writer = new BufferedWriter(
+			new OutputStreamWriter(
+				new FileOutputStream(_file), StandardCharsets.UTF_8));
+	}
+
+	public void close() throws IOException {
+		_writer.close();
+
+		_file.delete();
+	}
+
+	public void transferTo(Writer writer) throws IOException {
+		_writer.flush();
+
+		try (Reader reader = new InputStreamReader(
+				new FileInputStream(_file), StandardCharsets.UTF_8)) {
+
+			IOUtils.copy(reader, writer);
+		}
+	}
+
+	public void write(LoggerElement loggerElement) throws IOException {
+		loggerElement.write(_writer);
+	}
+
+	private final File _file;
+	private final Writer _writer;
+
+}
@@ -24,10 +24,17 @@ import com.liferay.poshi.runner.util.GetterUtil;
 import com.liferay.poshi.runner.util.PropsValues;
 import com.liferay.poshi.runner.util.StringUtil;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 
 import java.net.URL;
 
+import java.nio.charset.StandardCharsets;
+
 import java.util.List;
 
 import org.dom4j.Element;
@@ -50,17 +57,6 @@ public class PoshiLogger {
 
 		String indexHTMLContent = FileUtil.read(url);
 
-		indexHTMLContent = StringUtil.replace(
-			indexHTMLContent,
-			"<ul class=\"command-log\" data-logid=\"01\" " +
-				"id=\"commandLog\"></ul>",
-			_commandLogger.getCommandLogText());
-		indexHTMLContent = StringUtil.replace(
-			indexHTMLContent,
-			"<ul class=\"syntax-log-container\" id=\"syntaxLogContainer\"" +
-				"></ul>",
-			_syntaxLogger.getSyntaxLogText());
-
 		String currentDirName = FileUtil.getCanonicalPath(".");
 
 		if (PropsValues.TEST_RUN_LOCALLY) {
@@ -99,7 +95,37 @@ public class PoshiLogger {
 				"_"));
 		sb.append("/index.html");
 
-		FileUtil.write(sb.toString(), indexHTMLContent);
+		File file = new File(sb.toString());
+
+		File parentFile = file.getParentFile();
+
+		parentFile.mkdirs();
+
+		int commandLogIndex = indexHTMLContent.indexOf(_COMMAND_LOG_HTML);
+		int syntaxLogIndex = indexHTMLContent.indexOf(_SYNTAX_LOG_HTML);
+
+		try (Writer writer = new BufferedWriter(
+				new OutputStreamWriter(
+					new FileOutputStream(file), StandardCharsets.UTF_8))) {
+
+			writer.write(indexHTMLContent.substring(0, commandLogIndex));
+
+			_commandLogger.writeCommandLog(writer);
+
+			writer.write(
+				indexHTMLContent.substring(
+					commandLogIndex + _COMMAND_LOG_HTML.length(),
+					syntaxLogIndex));
+
+			_syntaxLogger.writeSyntaxLog(writer);
+
+			writer.write(
+				indexHTMLContent.substring(
+					syntaxLogIndex + _SYNTAX_LOG_HTML.length()));
+		}
+		finally {
+			_commandLogger.close();
+		}
 	}
 
 	public void failCommand(Element element) throws PoshiRunnerLoggerException {
@@ -216,7 +242,7 @@ public class PoshiLogger {
 
 	private LoggerElement _getSyntaxLoggerElement() {
 		return _syntaxLogger.getSyntaxLoggerElement(
-			PoshiRunnerStackTraceUtil.getSimpleStackTrace());
+			PoshiRunnerStackTraceUtil.getCallSiteId());
 	}
 
 	private void _linkLoggerElements(
@@ -240,6 +266,14 @@ public class PoshiLogger {
 		_functionLinkId++;
 	}
 
+	private static final String _COMMAND_LOG_HTML =
+		"<ul class=\"command-log\" data-logid=\"01\" " +
+			"id=\"commandLog\"></ul>";
+
+	private static final String _SYNTAX_LOG_HTML =
+		"<ul class=\"syntax-log-container\" id=\"syntaxLogContainer\"" +
+			"></ul>";
+
 	private final CommandLogger _commandLogger;
 	private int _functionLinkId;
 	private final SyntaxLogger _syntaxLogger;
@@ -15,6 +15,7 @@
 package com.liferay.poshi.runner.logger;
 
 import com.liferay.poshi.runner.PoshiRunnerContext;
+import com.liferay.poshi.runner.PoshiRunnerExecutionContext;
 import com.liferay.poshi.runner.PoshiRunnerGetterUtil;
 import com.liferay.poshi.runner.PoshiRunnerStackTraceUtil;
 import com.liferay.poshi.runner.PoshiRunnerVariablesUtil;
@@ -42,6 +43,51 @@ import org.dom4j.Element;
 public final class SummaryLogger {
 
 	public static void createSummaryReport() throws Exception {
+		_getSummaryLogger()._createSummaryReport();
+	}
+
+	public static void failSummary(
+		Element element, String message, int screenshotNumber) {
+
+		_getSummaryLogger()._failSummary(element, message, screenshotNumber);
+	}
+
+	public static LoggerElement getSummarySnapshotLoggerElement() {
+		return _getSummaryLogger()._getSummarySnapshotLoggerElement();
+	}
+
+	public static void passSummary(Element element) {
+		_getSummaryLogger()._passSummary(element);
+	}
+
+	public static void startMajorSteps() throws PoshiRunnerLoggerException {
+		_getSummaryLogger()._startMajorSteps();
+	}
+
+	public static void startRunning() {
+		_getSummaryLogger()._startRunning();
+	}
+
+	public static void startSummary(Element element) throws Exception {
+		_getSummaryLogger()._startSummary(element);
+	}
+
+	public static void stopRunning() {
+		_getSummaryLogger()._stopRunning();
+	}
+
+	public static void warnSummary(Element element, String message) {
+		_getSummaryLogger()._warnSummary(element, message);
+	}
+
+	private static SummaryLogger _getSummaryLogger() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getSummaryLogger();
+	}
+
+	private void _createSummaryReport() throws Exception {
 		String summaryHTMLContent = _readResource(
 			"META-INF/resources/html/summary.html");
 
@@ -83,7 +129,22 @@ public final class SummaryLogger {
 		FileUtil.write(sb.toString(), summaryHTMLContent);
 	}
 
-	public static void failSummary(
+	private void _failStepLoggerElement(LoggerElement stepLoggerElement) {
+		stepLoggerElement.addClassName("summary-failure");
+
+		LoggerElement lineContainerLoggerElement =
+			stepLoggerElement.loggerElement("div");
+
+		if (lineContainerLoggerElement == null) {
+			return;
+		}
+
+		lineContainerLoggerElement.addChildLoggerElement(
+			_getStatusLoggerElement("FAILED"));
+		lineContainerLoggerElement.setName("strong");
+	}
+
+	private void _failSummary(
 		Element element, String message, int screenshotNumber) {
 
 		if (_isCurrentMajorStep(element)) {
@@ -106,168 +167,7 @@ public final class SummaryLogger {
 		}
 	}
 
-	public static LoggerElement getSummarySnapshotLoggerElement() {
-		LoggerElement loggerElement = new LoggerElement();
-
-		loggerElement.setClassName("summary-log");
-		loggerElement.setName("div");
-
-		LoggerElement causeLoggerElement =
-			_summaryLogLoggerElement.loggerElement("div", "cause");
-
-		if (causeLoggerElement != null) {
-			loggerElement.addChildLoggerElement(causeLoggerElement.copy());
-		}
-
-		LoggerElement stepsLoggerElement =
-			_summaryLogLoggerElement.loggerElement("div", "steps");
-
-		if (stepsLoggerElement != null) {
-			stepsLoggerElement = stepsLoggerElement.copy();
-
-			_removeUnneededStepsFromLoggerElement(stepsLoggerElement);
-
-			loggerElement.addChildLoggerElement(stepsLoggerElement);
-		}
-
-		return loggerElement;
-	}
-
-	public static void passSummary(Element element) {
-		if (_isCurrentMajorStep(element)) {
-			if (_containsMinorStepWarning) {
-				_warnStepLoggerElement(_majorStepLoggerElement);
-
-				_containsMinorStepWarning = false;
-			}
-			else {
-				_passStepLoggerElement(_majorStepLoggerElement);
-			}
-
-			_stopMajorStep();
-		}
-
-		if (_isCurrentMinorStep(element)) {
-			_passStepLoggerElement(_minorStepLoggerElement);
-
-			_stopMinorStep();
-		}
-	}
-
-	public static void startMajorSteps() throws PoshiRunnerLoggerException {
-		try {
-			_causeBodyLoggerElement = _getCauseBodyLoggerElement();
-			_majorStepsLoggerElement = _getMajorStepsLoggerElement();
-			_summaryLogLoggerElement = _getSummaryLogLoggerElement();
-		}
-		catch (Throwable t) {
-			throw new PoshiRunnerLoggerException(t.getMessage(), t);
-		}
-	}
-
-	public static void startRunning() {
-		_containsMinorStepWarning = false;
-
-		_summaryContentContainerLoggerElement = new LoggerElement(
-			"summaryContentContainer");
-
-		_summaryContentWrapperLoggerElement = new LoggerElement(
-			"summaryContentWrapper");
-
-		_summaryContentContainerLoggerElement.addChildLoggerElement(
-			_summaryContentWrapperLoggerElement);
-
-		_summaryTitleContainerLoggerElement = new LoggerElement(
-			"summaryTitleContainer");
-
-		_summaryTitleContainerLoggerElement.addChildLoggerElement(
-			_getSummaryTitleLoggerElement("SUMMARY"));
-
-		_summaryTitleContainerLoggerElement.setName("ul");
-
-		_warningCount = 0;
-	}
-
-	public static void startSummary(Element element) throws Exception {
-		try {
-			if (_isMajorStep(element)) {
-				_startMajorStep(element);
-
-				_majorStepLoggerElement = _getMajorStepLoggerElement(element);
-
-				_majorStepsLoggerElement.addChildLoggerElement(
-					_majorStepLoggerElement);
-
-				_minorStepsLoggerElement = _getMinorStepsLoggerElement();
-
-				_majorStepLoggerElement.addChildLoggerElement(
-					_minorStepsLoggerElement);
-			}
-
-			if (_isMinorStep(element)) {
-				_startMinorStep(element);
-
-				_minorStepLoggerElement = _getMinorStepLoggerElement(element);
-
-				_minorStepsLoggerElement.addChildLoggerElement(
-					_minorStepLoggerElement);
-			}
-		}
-		catch (Throwable t) {
-			throw new PoshiRunnerLoggerException(t.getMessage(), t);
-		}
-	}
-
-	public static void stopRunning() {
-		_stopMajorStep();
-	}
-
-	public static void warnSummary(Element element, String message) {
-		if (_isCurrentMajorStep(element)) {
-			_causeBodyLoggerElement.setText(message);
-
-			_warnStepLoggerElement(_majorStepLoggerElement);
-
-			_stopMajorStep();
-		}
-
-		if (_isCurrentMinorStep(element)) {
-			_causeBodyLoggerElement.setText(message);
-
-			_warnStepLoggerElement(_minorStepLoggerElement);
-
-			_containsMinorStepWarning = true;
-
-			_warningCount++;
-
-			_summaryContentContainerLoggerElement.addChildLoggerElement(
-				_getSummaryContentLoggerElement());
-
-			_summaryTitleContainerLoggerElement.addChildLoggerElement(
-				_getSummaryTitleLoggerElement("WARNING #" + _warningCount));
-
-			_stopMinorStep();
-		}
-	}
-
-	private static void _failStepLoggerElement(
-		LoggerElement stepLoggerElement) {
-
-		stepLoggerElement.addClassName("summary-failure");
-
-		LoggerElement lineContainerLoggerElement =
-			stepLoggerElement.loggerElement("div");
-
-		if (lineContainerLoggerElement == null) {
-			return;
-		}
-
-		lineContainerLoggerElement.addChildLoggerElement(
-			_getStatusLoggerElement("FAILED"));
-		lineContainerLoggerElement.setName("strong");
-	}
-
-	private static LoggerElement _getButtonLoggerElement() {
+	private LoggerElement _getButtonLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("btn header");
@@ -277,7 +177,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getCauseBodyLoggerElement() {
+	private LoggerElement _getCauseBodyLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("cause-body");
@@ -286,7 +186,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getCauseHeaderLoggerElement() {
+	private LoggerElement _getCauseHeaderLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("cause-header");
@@ -296,7 +196,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getCauseLoggerElement() {
+	private LoggerElement _getCauseLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("cause");
@@ -307,7 +207,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getMajorStepLoggerElement(Element element)
+	private LoggerElement _getMajorStepLoggerElement(Element element)
 		throws Exception {
 
 		LoggerElement loggerElement = new LoggerElement();
@@ -323,7 +223,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getMajorStepsLoggerElement() {
+	private LoggerElement _getMajorStepsLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("major-steps");
@@ -332,7 +232,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getMinorStepLoggerElement(Element element)
+	private LoggerElement _getMinorStepLoggerElement(Element element)
 		throws Exception {
 
 		LoggerElement loggerElement = new LoggerElement();
@@ -346,7 +246,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getMinorStepsLoggerElement() {
+	private LoggerElement _getMinorStepsLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("content minor-steps");
@@ -355,7 +255,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getScreenshotsAfterHeaderLoggerElement() {
+	private LoggerElement _getScreenshotsAfterHeaderLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setText("After Failure:");
@@ -364,7 +264,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getScreenshotsAfterLinkLoggerElement(
+	private LoggerElement _getScreenshotsAfterLinkLoggerElement(
 		int screenshotNumber) {
 
 		LoggerElement loggerElement = new LoggerElement();
@@ -386,7 +286,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getScreenshotsAfterThumbnailLoggerElement(
+	private LoggerElement _getScreenshotsAfterThumbnailLoggerElement(
 		int screenshotNumber) {
 
 		LoggerElement loggerElement = new LoggerElement();
@@ -407,7 +307,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getScreenshotsBeforeHeaderLoggerElement() {
+	private LoggerElement _getScreenshotsBeforeHeaderLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setText("Before Failure:");
@@ -416,7 +316,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getScreenshotsBeforeLinkLoggerElement(
+	private LoggerElement _getScreenshotsBeforeLinkLoggerElement(
 		int screenshotNumber) {
 
 		LoggerElement loggerElement = new LoggerElement();
@@ -438,7 +338,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getScreenshotsBeforeThumbnailLoggerElement(
+	private LoggerElement _getScreenshotsBeforeThumbnailLoggerElement(
 		int screenshotNumber) {
 
 		LoggerElement loggerElement = new LoggerElement();
@@ -459,7 +359,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getScreenshotsHeaderLoggerElement() {
+	private LoggerElement _getScreenshotsHeaderLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("screenshots-header");
@@ -469,9 +369,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getScreenshotsLoggerElement(
-		int screenshotNumber) {
-
+	private LoggerElement _getScreenshotsLoggerElement(int screenshotNumber) {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("screenshots");
@@ -492,7 +390,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getStatusLoggerElement(String status) {
+	private LoggerElement _getStatusLoggerElement(String status) {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("status");
@@ -503,7 +401,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getStepDescriptionLoggerElement(
+	private LoggerElement _getStepDescriptionLoggerElement(
 			Element element)
 		throws Exception {
 
@@ -515,7 +413,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getStepsHeaderLoggerElement() {
+	private LoggerElement _getStepsHeaderLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("steps-header");
@@ -525,7 +423,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getStepsLoggerElement() {
+	private LoggerElement _getStepsLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("steps");
@@ -536,7 +434,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static String _getSummary(Element element) throws Exception {
+	private String _getSummary(Element element) throws Exception {
 		String summary = null;
 
 		if (element.attributeValue("summary") != null) {
@@ -597,7 +495,7 @@ public final class SummaryLogger {
 		return null;
 	}
 
-	private static LoggerElement _getSummaryContentLoggerElement() {
+	private LoggerElement _getSummaryContentLoggerElement() {
 		LoggerElement loggerElement = _summaryLogLoggerElement.copy();
 
 		LoggerElement stepsLoggerElement = loggerElement.loggerElement("div");
@@ -649,7 +547,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getSummaryLogLoggerElement() {
+	private LoggerElement _getSummaryLogLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setClassName("summary-log");
@@ -661,7 +559,34 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getSummaryTestDescriptionLoggerElement() {
+	private LoggerElement _getSummarySnapshotLoggerElement() {
+		LoggerElement loggerElement = new LoggerElement();
+
+		loggerElement.setClassName("summary-log");
+		loggerElement.setName("div");
+
+		LoggerElement causeLoggerElement =
+			_summaryLogLoggerElement.loggerElement("div", "cause");
+
+		if (causeLoggerElement != null) {
+			loggerElement.addChildLoggerElement(causeLoggerElement.copy());
+		}
+
+		LoggerElement stepsLoggerElement =
+			_summaryLogLoggerElement.loggerElement("div", "steps");
+
+		if (stepsLoggerElement != null) {
+			stepsLoggerElement = stepsLoggerElement.copy();
+
+			_removeUnneededStepsFromLoggerElement(stepsLoggerElement);
+
+			loggerElement.addChildLoggerElement(stepsLoggerElement);
+		}
+
+		return loggerElement;
+	}
+
+	private LoggerElement _getSummaryTestDescriptionLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement(
 			"summaryTestDescription");
 
@@ -678,7 +603,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getSummaryTestNameLoggerElement() {
+	private LoggerElement _getSummaryTestNameLoggerElement() {
 		LoggerElement loggerElement = new LoggerElement("summaryTestName");
 
 		loggerElement.setName("h3");
@@ -688,9 +613,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getSummaryTitleLinkLoggerElement(
-		String title) {
-
+	private LoggerElement _getSummaryTitleLinkLoggerElement(String title) {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setAttribute("href", "#");
@@ -700,7 +623,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static LoggerElement _getSummaryTitleLoggerElement(String title) {
+	private LoggerElement _getSummaryTitleLoggerElement(String title) {
 		LoggerElement loggerElement = new LoggerElement();
 
 		loggerElement.setName("li");
@@ -711,7 +634,7 @@ public final class SummaryLogger {
 		return loggerElement;
 	}
 
-	private static boolean _isCurrentMajorStep(Element element) {
+	private boolean _isCurrentMajorStep(Element element) {
 		if (element == _majorStepElement) {
 			return true;
 		}
@@ -719,7 +642,7 @@ public final class SummaryLogger {
 		return false;
 	}
 
-	private static boolean _isCurrentMinorStep(Element element) {
+	private boolean _isCurrentMinorStep(Element element) {
 		if (element == _minorStepElement) {
 			return true;
 		}
@@ -727,7 +650,7 @@ public final class SummaryLogger {
 		return false;
 	}
 
-	private static boolean _isMajorStep(Element element) throws Exception {
+	private boolean _isMajorStep(Element element) throws Exception {
 		String summary = _getSummary(element);
 
 		if (summary == null) {
@@ -757,7 +680,7 @@ public final class SummaryLogger {
 		return true;
 	}
 
-	private static boolean _isMinorStep(Element element) throws Exception {
+	private boolean _isMinorStep(Element element) throws Exception {
 		String summary = _getSummary(element);
 
 		if (summary == null) {
@@ -783,9 +706,7 @@ public final class SummaryLogger {
 		return true;
 	}
 
-	private static void _passStepLoggerElement(
-		LoggerElement stepLoggerElement) {
-
+	private void _passStepLoggerElement(LoggerElement stepLoggerElement) {
 		LoggerElement lineContainerLoggerElement =
 			stepLoggerElement.loggerElement("div");
 
@@ -793,7 +714,28 @@ public final class SummaryLogger {
 			_getStatusLoggerElement("PASSED"));
 	}
 
-	private static String _readResource(String path) throws Exception {
+	private void _passSummary(Element element) {
+		if (_isCurrentMajorStep(element)) {
+			if (_containsMinorStepWarning) {
+				_warnStepLoggerElement(_majorStepLoggerElement);
+
+				_containsMinorStepWarning = false;
+			}
+			else {
+				_passStepLoggerElement(_majorStepLoggerElement);
+			}
+
+			_stopMajorStep();
+		}
+
+		if (_isCurrentMinorStep(element)) {
+			_passStepLoggerElement(_minorStepLoggerElement);
+
+			_stopMinorStep();
+		}
+	}
+
+	private String _readResource(String path) throws Exception {
 		StringBuilder sb = new StringBuilder();
 
 		ClassLoader classLoader = SummaryLogger.class.getClassLoader();
@@ -817,7 +759,7 @@ public final class SummaryLogger {
 		return sb.toString();
 	}
 
-	private static void _removeUnneededStepsFromLoggerElement(
+	private void _removeUnneededStepsFromLoggerElement(
 		LoggerElement loggerElement) {
 
 		LoggerElement majorStepsLoggerElement = loggerElement.loggerElement(
@@ -847,7 +789,7 @@ public final class SummaryLogger {
 		}
 	}
 
-	private static String _replaceExecuteVars(String token, Element element)
+	private String _replaceExecuteVars(String token, Element element)
 		throws Exception {
 
 		Matcher matcher = _pattern.matcher(token);
@@ -888,15 +830,79 @@ public final class SummaryLogger {
 		return token;
 	}
 
-	private static void _startMajorStep(Element element) {
+	private void _startMajorStep(Element element) {
 		_majorStepElement = element;
 	}
 
-	private static void _startMinorStep(Element element) {
+	private void _startMajorSteps() throws PoshiRunnerLoggerException {
+		try {
+			_causeBodyLoggerElement = _getCauseBodyLoggerElement();
+			_majorStepsLoggerElement = _getMajorStepsLoggerElement();
+			_summaryLogLoggerElement = _getSummaryLogLoggerElement();
+		}
+		catch (Throwable t) {
+			throw new PoshiRunnerLoggerException(t.getMessage(), t);
+		}
+	}
+
+	private void _startMinorStep(Element element) {
 		_minorStepElement = element;
 	}
 
-	private static void _stopMajorStep() {
+	private void _startRunning() {
+		_containsMinorStepWarning = false;
+
+		_summaryContentContainerLoggerElement = new LoggerElement(
+			"summaryContentContainer");
+
+		_summaryContentWrapperLoggerElement = new LoggerElement(
+			"summaryContentWrapper");
+
+		_summaryContentContainerLoggerElement.addChildLoggerElement(
+			_summaryContentWrapperLoggerElement);
+
+		_summaryTitleContainerLoggerElement = new LoggerElement(
+			"summaryTitleContainer");
+
+		_summaryTitleContainerLoggerElement.addChildLoggerElement(
+			_getSummaryTitleLoggerElement("SUMMARY"));
+
+		_summaryTitleContainerLoggerElement.setName("ul");
+
+		_warningCount = 0;
+	}
+
+	private void _startSummary(Element element) throws Exception {
+		try {
+			if (_isMajorStep(element)) {
+				_startMajorStep(element);
+
+				_majorStepLoggerElement = _getMajorStepLoggerElement(element);
+
+				_majorStepsLoggerElement.addChildLoggerElement(
+					_majorStepLoggerElement);
+
+				_minorStepsLoggerElement = _getMinorStepsLoggerElement();
+
+				_majorStepLoggerElement.addChildLoggerElement(
+					_minorStepsLoggerElement);
+			}
+
+			if (_isMinorStep(element)) {
+				_startMinorStep(element);
+
+				_minorStepLoggerElement = _getMinorStepLoggerElement(element);
+
+				_minorStepsLoggerElement.addChildLoggerElement(
+					_minorStepLoggerElement);
+			}
+		}
+		catch (Throwable t) {
+			throw new PoshiRunnerLoggerException(t.getMessage(), t);
+		}
+	}
+
+	private void _stopMajorStep() {
 		_majorStepElement = null;
 		_majorStepLoggerElement = null;
 		_minorStepElement = null;
@@ -904,14 +910,16 @@ public final class SummaryLogger {
 		_minorStepsLoggerElement = null;
 	}
 
-	private static void _stopMinorStep() {
+	private void _stopMinorStep() {
 		_minorStepElement = null;
 		_minorStepLoggerElement = null;
 	}
 
-	private static void _warnStepLoggerElement(
-		LoggerElement stepLoggerElement) {
+	private void _stopRunning() {
+		_stopMajorStep();
+	}
 
+	private void _warnStepLoggerElement(LoggerElement stepLoggerElement) {
 		stepLoggerElement.addClassName("summary-warning");
 
 		LoggerElement lineContainerLoggerElement =
@@ -926,19 +934,48 @@ public final class SummaryLogger {
 		lineContainerLoggerElement.setName("strong");
 	}
 
-	private static LoggerElement _causeBodyLoggerElement;
-	private static boolean _containsMinorStepWarning;
-	private static Element _majorStepElement;
-	private static LoggerElement _majorStepLoggerElement;
-	private static LoggerElement _majorStepsLoggerElement;
-	private static Element _minorStepElement;
-	private static LoggerElement _minorStepLoggerElement;
-	private static LoggerElement _minorStepsLoggerElement;
+	private void _warnSummary(Element element, String message) {
+		if (_isCurrentMajorStep(element)) {
+			_causeBodyLoggerElement.setText(message);
+
+			_warnStepLoggerElement(_majorStepLoggerElement);
+
+			_stopMajorStep();
+		}
+
+		if (_isCurrentMinorStep(element)) {
+			_causeBodyLoggerElement.setText(message);
+
+			_warnStepLoggerElement(_minorStepLoggerElement);
+
+			_containsMinorStepWarning = true;
+
+			_warningCount++;
+
+			_summaryContentContainerLoggerElement.addChildLoggerElement(
+				_getSummaryContentLoggerElement());
+
+			_summaryTitleContainerLoggerElement.addChildLoggerElement(
+				_getSummaryTitleLoggerElement("WARNING #" + _warningCount));
+
+			_stopMinorStep();
+		}
+	}
+
 	private static final Pattern _pattern = Pattern.compile("\\$\\{([^}]*)\\}");
-	private static LoggerElement _summaryContentContainerLoggerElement;
-	private static LoggerElement _summaryContentWrapperLoggerElement;
-	private static LoggerElement _summaryLogLoggerElement;
-	private static LoggerElement _summaryTitleContainerLoggerElement;
-	private static int _warningCount;
+
+	private LoggerElement _causeBodyLoggerElement;
+	private boolean _containsMinorStepWarning;
+	private Element _majorStepElement;
+	private LoggerElement _majorStepLoggerElement;
+	private LoggerElement _majorStepsLoggerElement;
+	private Element _minorStepElement;
+	private LoggerElement _minorStepLoggerElement;
+	private LoggerElement _minorStepsLoggerElement;
+	private LoggerElement _summaryContentContainerLoggerElement;
+	private LoggerElement _summaryContentWrapperLoggerElement;
+	private LoggerElement _summaryLogLoggerElement;
+	private LoggerElement _summaryTitleContainerLoggerElement;
+	private int _warningCount;
 
 }
\ No newline at end of file
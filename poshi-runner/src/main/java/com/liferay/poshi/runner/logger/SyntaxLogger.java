@@ -21,6 +21,9 @@ import com.liferay.poshi.runner.exception.PoshiRunnerLoggerException;
 import com.liferay.poshi.runner.util.PropsValues;
 import com.liferay.poshi.runner.util.Validator;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -140,16 +143,16 @@ public abstract class SyntaxLogger {
 		}
 	}
 
-	public LoggerElement getSyntaxLoggerElement(String stackTrace) {
-		return _loggerElements.get(stackTrace);
-	}
-
-	public String getSyntaxLogText() {
-		return _syntaxLogLoggerElement.toString();
+	public LoggerElement getSyntaxLoggerElement(int callSiteId) {
+		return _loggerElements.get(callSiteId);
 	}
 
 	public abstract void updateStatus(Element element, String status);
 
+	public void writeSyntaxLog(Writer writer) throws IOException {
+		_syntaxLogLoggerElement.write(writer);
+	}
+
 	protected LoggerElement getBtnContainerLoggerElement(Element element) {
 		LoggerElement btnContainerLoggerElement = new LoggerElement();
 
@@ -369,7 +372,7 @@ public abstract class SyntaxLogger {
 			getLineContainerLoggerElement(element));
 
 		_loggerElements.put(
-			PoshiRunnerStackTraceUtil.getSimpleStackTrace(), loggerElement);
+			PoshiRunnerStackTraceUtil.getCallSiteId(), loggerElement);
 
 		return loggerElement;
 	}
@@ -559,13 +562,8 @@ public abstract class SyntaxLogger {
 	protected void updateElementStatus(Element element, String status) {
 		PoshiRunnerStackTraceUtil.setCurrentElement(element);
 
-		String stackTrace = PoshiRunnerStackTraceUtil.getSimpleStackTrace();
-
-		if (stackTrace.contains(".function")) {
-			return;
-		}
-
-		LoggerElement loggerElement = getSyntaxLoggerElement(stackTrace);
+		LoggerElement loggerElement = getSyntaxLoggerElement(
+			PoshiRunnerStackTraceUtil.getCallSiteId());
 
 		loggerElement.setAttribute("data-status01", status);
 	}
@@ -596,7 +594,8 @@ public abstract class SyntaxLogger {
 
 	private int _btnLinkCollapseId;
 	private int _btnLinkVarId;
-	private final Map<String, LoggerElement> _loggerElements = new HashMap<>();
+	private final Map<Integer, LoggerElement> _loggerElements =
+		new HashMap<>();
 	private LoggerElement _syntaxLogLoggerElement;
 
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.poshi.runner.pql;
 
+import java.util.BitSet;
 import java.util.Properties;
 import java.util.Set;
 
@@ -90,6 +91,24 @@ public abstract class PQLEntity {
 
 	public abstract Object getPQLResult(Properties properties) throws Exception;
 
+	public BitSet getPQLResults(PQLIndex pqlIndex) throws Exception {
+		BitSet bitSet = new BitSet(pqlIndex.size());
+
+		for (int i = 0; i < pqlIndex.size(); i++) {
+			Object pqlResultObject = getPQLResult(pqlIndex.getProperties(i));
+
+			if (!(pqlResultObject instanceof Boolean)) {
+				throw new Exception("Unable to evaluate " + getPQL());
+			}
+
+			if ((Boolean)pqlResultObject) {
+				bitSet.set(i);
+			}
+		}
+
+		return bitSet;
+	}
+
 	protected String getPQL() {
 		return _pql;
 	}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.pql;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PQLIndex {
+
+	public PQLIndex(List<Properties> propertiesList) {
+		_propertiesList = propertiesList;
+
+		for (int i = 0; i < propertiesList.size(); i++) {
+			Properties properties = propertiesList.get(i);
+
+			for (String propertyName : properties.stringPropertyNames()) {
+				if (_unindexedPropertyNames.contains(propertyName)) {
+					continue;
+				}
+
+				Object objectValue;
+
+				try {
+					objectValue = PQLVariable.getPropertyObjectValue(
+						properties, propertyName);
+				}
+				catch (Exception exception) {
+					_objectValueBitSetsMap.remove(propertyName);
+					_unindexedPropertyNames.add(propertyName);
+
+					continue;
+				}
+
+				if (objectValue == null) {
+					continue;
+				}
+
+				Map<Object, BitSet> objectValueBitSets =
+					_objectValueBitSetsMap.get(propertyName);
+
+				if (objectValueBitSets == null) {
+					objectValueBitSets = new HashMap<>();
+
+					_objectValueBitSetsMap.put(
+						propertyName, objectValueBitSets);
+				}
+
+				BitSet bitSet = objectValueBitSets.get(objectValue);
+
+				if (bitSet == null) {
+					bitSet = new BitSet(propertiesList.size());
+
+					objectValueBitSets.put(objectValue, bitSet);
+				}
+
+				bitSet.set(i);
+			}
+		}
+	}
+
+	public BitSet getBitSet(String propertyName, Object objectValue) {
+		if (_unindexedPropertyNames.contains(propertyName)) {
+			return null;
+		}
+
+		Map<Object, BitSet> objectValueBitSets = _objectValueBitSetsMap.get(
+			propertyName);
+
+		if (objectValue == null) {
+			BitSet bitSet = new BitSet(size());
+
+			bitSet.set(0, size());
+
+			if (objectValueBitSets != null) {
+				for (BitSet objectValueBitSet : objectValueBitSets.values()) {
+					bitSet.andNot(objectValueBitSet);
+				}
+			}
+
+			return bitSet;
+		}
+
+		if (objectValueBitSets != null) {
+			BitSet bitSet = objectValueBitSets.get(objectValue);
+
+			if (bitSet != null) {
+				return (BitSet)bitSet.clone();
+			}
+		}
+
+		return new BitSet(size());
+	}
+
+	public Properties getProperties(int index) {
+		return _propertiesList.get(index);
+	}
+
+	public int size() {
+		return _propertiesList.size();
+	}
+
+	private final Map<String, Map<Object, BitSet>> _objectValueBitSetsMap =
+		new HashMap<>();
+	private final List<Properties> _propertiesList;
+	private final Set<String> _unindexedPropertyNames = new HashSet<>();
+
+}
@@ -57,16 +57,15 @@ public class PQLOperatorFactory {
 					Boolean pqlResultBoolean1 = (Boolean)pqlResultObject1;
 					Boolean pqlResultBoolean2 = (Boolean)pqlResultObject2;
 
-					if (operator.equals("AND")) {
+					if (_and) {
 						return pqlResultBoolean1 && pqlResultBoolean2;
 					}
-					else if (operator.equals("OR")) {
-						return pqlResultBoolean1 || pqlResultBoolean2;
-					}
 
-					throw new Exception("Unsupported operator: " + operator);
+					return pqlResultBoolean1 || pqlResultBoolean2;
 				}
 
+				private final boolean _and = operator.equals("AND");
+
 			};
 		}
 		else if (operator.equals("~") || operator.equals("!~")) {
@@ -88,29 +87,26 @@ public class PQLOperatorFactory {
 						return false;
 					}
 
-					String operator = getOperator();
-
 					if (!(pqlResultObject1 instanceof String) ||
 						!(pqlResultObject2 instanceof String)) {
 
 						throw new Exception(
 							"Operator only works for string values: " +
-								operator);
+								getOperator());
 					}
 
 					String pqlResultString1 = (String)pqlResultObject1;
 					String pqlResultString2 = (String)pqlResultObject2;
 
-					if (operator.equals("~")) {
+					if (_contains) {
 						return pqlResultString1.contains(pqlResultString2);
 					}
-					else if (operator.equals("!~")) {
-						return !pqlResultString1.contains(pqlResultString2);
-					}
 
-					throw new Exception("Unsupported operator: " + operator);
+					return !pqlResultString1.contains(pqlResultString2);
 				}
 
+				private final boolean _contains = operator.equals("~");
+
 			};
 		}
 		else if (operator.equals("==") || operator.equals("!=")) {
@@ -121,34 +117,31 @@ public class PQLOperatorFactory {
 						Properties properties)
 					throws Exception {
 
-					String operator = getOperator();
 					Object pqlResultObject1 = pqlEntity1.getPQLResult(
 						properties);
 					Object pqlResultObject2 = pqlEntity2.getPQLResult(
 						properties);
 
+					boolean equal;
+
 					if ((pqlResultObject1 == null) ||
 						(pqlResultObject2 == null)) {
 
-						if (operator.equals("==")) {
-							return pqlResultObject1 == pqlResultObject2;
-						}
-						else if (operator.equals("!=")) {
-							return pqlResultObject1 != pqlResultObject2;
-						}
+						equal = pqlResultObject1 == pqlResultObject2;
 					}
 					else {
-						if (operator.equals("==")) {
-							return pqlResultObject1.equals(pqlResultObject2);
-						}
-						else if (operator.equals("!=")) {
-							return !pqlResultObject1.equals(pqlResultObject2);
-						}
+						equal = pqlResultObject1.equals(pqlResultObject2);
+					}
+
+					if (_equals) {
+						return equal;
 					}
 
-					throw new Exception("Unsupported operator: " + operator);
+					return !equal;
 				}
 
+				private final boolean _equals = operator.equals("==");
+
 			};
 		}
 		else if (operator.equals("<") || operator.equals("<=") ||
@@ -203,27 +196,28 @@ public class PQLOperatorFactory {
 							pqlResultDouble2 = (Double)pqlResultObject2;
 						}
 
-						if (operator.equals("<")) {
+						if (_lessThan) {
+							if (_orEqual) {
+								return pqlResultDouble1 <= pqlResultDouble2;
+							}
+
 							return pqlResultDouble1 < pqlResultDouble2;
 						}
-						else if (operator.equals("<=")) {
-							return pqlResultDouble1 <= pqlResultDouble2;
-						}
-						else if (operator.equals(">")) {
-							return pqlResultDouble1 > pqlResultDouble2;
-						}
-						else if (operator.equals(">=")) {
+
+						if (_orEqual) {
 							return pqlResultDouble1 >= pqlResultDouble2;
 						}
 
-						throw new Exception(
-							"Unsupported operator: " + operator);
+						return pqlResultDouble1 > pqlResultDouble2;
 					}
 
 					throw new Exception(
 						"Operator only works for number values: " + operator);
 				}
 
+				private final boolean _lessThan = operator.startsWith("<");
+				private final boolean _orEqual = operator.endsWith("=");
+
 			};
 		}
 
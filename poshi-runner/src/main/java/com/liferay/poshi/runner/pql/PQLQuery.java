@@ -17,7 +17,9 @@ package com.liferay.poshi.runner.pql;
 import com.liferay.poshi.runner.util.ListUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
 
 /**
@@ -71,6 +73,29 @@ public class PQLQuery extends PQLEntity {
 		return pqlResultObject;
 	}
 
+	@Override
+	public BitSet getPQLResults(PQLIndex pqlIndex) throws Exception {
+		PQLModifier pqlModifier = getPQLModifier();
+
+		if ((pqlModifier != null) &&
+			!Objects.equals(pqlModifier.getModifier(), "NOT")) {
+
+			return super.getPQLResults(pqlIndex);
+		}
+
+		BitSet bitSet = _getIndexedPQLResults(pqlIndex);
+
+		if (bitSet == null) {
+			return super.getPQLResults(pqlIndex);
+		}
+
+		if (pqlModifier != null) {
+			bitSet.flip(0, pqlIndex.size());
+		}
+
+		return bitSet;
+	}
+
 	private static List<String> _getAllTokens(String query) {
 		List<String> tokens = new ArrayList<>();
 
@@ -260,6 +285,58 @@ public class PQLQuery extends PQLEntity {
 		return false;
 	}
 
+	private BitSet _getIndexedPQLResults(PQLIndex pqlIndex) throws Exception {
+		String operator = _pqlOperator.getOperator();
+
+		if (operator.equals("AND") || operator.equals("OR")) {
+			if (!(_pqlEntity1 instanceof PQLQuery) ||
+				!(_pqlEntity2 instanceof PQLQuery)) {
+
+				return null;
+			}
+
+			BitSet bitSet = _pqlEntity1.getPQLResults(pqlIndex);
+
+			if (operator.equals("AND")) {
+				bitSet.and(_pqlEntity2.getPQLResults(pqlIndex));
+			}
+			else {
+				bitSet.or(_pqlEntity2.getPQLResults(pqlIndex));
+			}
+
+			return bitSet;
+		}
+
+		if (!operator.equals("==") && !operator.equals("!=")) {
+			return null;
+		}
+
+		PQLEntity pqlValue = _pqlEntity2;
+		PQLEntity pqlVariable = _pqlEntity1;
+
+		if (!(pqlVariable instanceof PQLVariable)) {
+			pqlValue = _pqlEntity1;
+			pqlVariable = _pqlEntity2;
+		}
+
+		if (!(pqlVariable instanceof PQLVariable) ||
+			(pqlVariable.getPQLModifier() != null) ||
+			!(pqlValue instanceof PQLValue) ||
+			(pqlValue instanceof PQLVariable)) {
+
+			return null;
+		}
+
+		BitSet bitSet = pqlIndex.getBitSet(
+			pqlVariable.getPQL(), pqlValue.getPQLResult(null));
+
+		if ((bitSet != null) && operator.equals("!=")) {
+			bitSet.flip(0, pqlIndex.size());
+		}
+
+		return bitSet;
+	}
+
 	private void _validateQuery(String query) throws Exception {
 		if (!isQuery(query)) {
 			throw new Exception("Invalid query: " + query);
@@ -14,7 +14,11 @@
 
 package com.liferay.poshi.runner.pql;
 
+import com.liferay.poshi.runner.util.CacheUtil;
+
+import java.util.Map;
 import java.util.Properties;
+import java.util.regex.Pattern;
 
 /**
  * @author Michael Hashimoto
@@ -29,16 +33,54 @@ public class PQLValue extends PQLEntity {
 
 	@Override
 	public Object getPQLResult(Properties properties) throws Exception {
-		return getObjectValue(getPQL());
+		if (!_objectValueResolved) {
+			_objectValue = getObjectValue(getPQL());
+
+			_objectValueResolved = true;
+		}
+
+		return _objectValue;
+	}
+
+	protected static Object parseObjectValue(String value) throws Exception {
+		if (value == null) {
+			return null;
+		}
+
+		Object objectValue = _objectValues.get(value);
+
+		if (objectValue == null) {
+			objectValue = _parseObjectValue(value);
+
+			_objectValues.put(value, objectValue);
+		}
+
+		if (objectValue == _NULL_OBJECT_VALUE) {
+			return null;
+		}
+
+		return objectValue;
 	}
 
 	protected Object getObjectValue(String value) throws Exception {
-		_validateValue(value);
+		Object objectValue = parseObjectValue(value);
 
-		if (value == null) {
+		if (objectValue == null) {
 			return null;
 		}
 
+		PQLModifier pqlModifier = getPQLModifier();
+
+		if (pqlModifier != null) {
+			objectValue = pqlModifier.getPQLResult(objectValue);
+		}
+
+		return objectValue;
+	}
+
+	private static Object _parseObjectValue(String value) throws Exception {
+		_validateValue(value);
+
 		if ((value.startsWith("'") && value.endsWith("'")) ||
 			(value.startsWith("\"") && value.endsWith("\""))) {
 
@@ -48,31 +90,23 @@ public class PQLValue extends PQLEntity {
 			throw new Exception("Invalid value: " + value);
 		}
 
-		Object objectValue;
-
 		if (value.equals("null")) {
-			return null;
-		}
-		else if (value.equals("true") || value.equals("false")) {
-			objectValue = Boolean.valueOf(value);
-		}
-		else if (value.matches("\\d+\\.\\d+")) {
-			objectValue = Double.valueOf(value);
+			return _NULL_OBJECT_VALUE;
 		}
-		else if (value.matches("\\d+")) {
-			objectValue = Integer.valueOf(value);
-		}
-		else {
-			objectValue = value;
+
+		if (value.equals("true") || value.equals("false")) {
+			return Boolean.valueOf(value);
 		}
 
-		PQLModifier pqlModifier = getPQLModifier();
+		if (_doublePattern.matcher(value).matches()) {
+			return Double.valueOf(value);
+		}
 
-		if (pqlModifier != null) {
-			objectValue = pqlModifier.getPQLResult(objectValue);
+		if (_integerPattern.matcher(value).matches()) {
+			return Integer.valueOf(value);
 		}
 
-		return objectValue;
+		return value;
 	}
 
 	private static void _validateValue(String value) throws Exception {
@@ -93,4 +127,17 @@ public class PQLValue extends PQLEntity {
 		}
 	}
 
-}
\ No newline at end of file
+	private static final Object _NULL_OBJECT_VALUE = new Object();
+
+	private static final int _OBJECT_VALUES_MAX_SIZE = 10000;
+
+	private static final Pattern _doublePattern = Pattern.compile(
+		"\\d+\\.\\d+");
+	private static final Pattern _integerPattern = Pattern.compile("\\d+");
+	private static final Map<String, Object> _objectValues =
+		CacheUtil.createLRUMap(_OBJECT_VALUES_MAX_SIZE);
+
+	private volatile Object _objectValue;
+	private volatile boolean _objectValueResolved;
+
+}
@@ -24,6 +24,13 @@ import java.util.Properties;
  */
 public class PQLVariable extends PQLValue {
 
+	public static Object getPropertyObjectValue(
+			Properties properties, String propertyName)
+		throws Exception {
+
+		return parseObjectValue(_getPropertyValue(properties, propertyName));
+	}
+
 	public static boolean isVariable(String variable) {
 		if (variable == null) {
 			return false;
@@ -44,13 +51,17 @@ public class PQLVariable extends PQLValue {
 
 	@Override
 	public Object getPQLResult(Properties properties) throws Exception {
-		String pql = getPQL();
+		return getObjectValue(_getPropertyValue(properties, getPQL()));
+	}
+
+	private static String _getPropertyValue(
+		Properties properties, String propertyName) {
 
-		if (!properties.containsKey(pql)) {
+		if (!properties.containsKey(propertyName)) {
 			return null;
 		}
 
-		String value = properties.getProperty(pql);
+		String value = properties.getProperty(propertyName);
 
 		if (!(value.startsWith("'") && value.endsWith("'")) &&
 			!(value.startsWith("\"") && value.endsWith("\"")) &&
@@ -59,7 +70,7 @@ public class PQLVariable extends PQLValue {
 			value = "'" + value + "'";
 		}
 
-		return getObjectValue(value);
+		return value;
 	}
 
 	private static void _validateVariable(String variable) throws Exception {
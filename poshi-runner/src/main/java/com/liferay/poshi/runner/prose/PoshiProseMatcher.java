@@ -15,7 +15,9 @@
 package com.liferay.poshi.runner.prose;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -26,12 +28,38 @@ import java.util.regex.Pattern;
  */
 public class PoshiProseMatcher {
 
+	public static void clear() {
+		poshiProseMatcherMap.clear();
+	}
+
 	public static PoshiProseMatcher getPoshiProseMatcher(String poshiProse) {
 		String key = _toString(poshiProse);
 
 		return poshiProseMatcherMap.get(key);
 	}
 
+	public static void removePoshiProseMatchers(
+		String macroNamespacedClassName) {
+
+		Collection<PoshiProseMatcher> poshiProseMatchers =
+			poshiProseMatcherMap.values();
+
+		Iterator<PoshiProseMatcher> iterator = poshiProseMatchers.iterator();
+
+		while (iterator.hasNext()) {
+			PoshiProseMatcher poshiProseMatcher = iterator.next();
+
+			String macroNamespacedClassCommandName =
+				poshiProseMatcher.getMacroNamespacedClassCommandName();
+
+			if (macroNamespacedClassCommandName.startsWith(
+					macroNamespacedClassName + "#")) {
+
+				iterator.remove();
+			}
+		}
+	}
+
 	public static void storePoshiProseMatcher(
 			String poshiProse, String macroNamespacedClassCommandName)
 		throws Exception {
@@ -0,0 +1,253 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.script;
+
+import java.util.Stack;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiScriptLexer {
+
+	public PoshiScriptLexer(String poshiScript) {
+		_poshiScript = poshiScript;
+	}
+
+	public boolean isStatement() {
+		return _statement;
+	}
+
+	public String nextSnippet() {
+		_statement = false;
+
+		while (_index < _poshiScript.length()) {
+			int index = _index++;
+
+			char c = _poshiScript.charAt(index);
+
+			if (!Character.isWhitespace(c)) {
+				if (_firstIndex == -1) {
+					_firstIndex = index;
+				}
+
+				_lastIndex = index;
+			}
+
+			if (_startsWith("//")) {
+				if (c == '\n') {
+					String poshiScriptSnippet = _poshiScript.substring(
+						_startIndex, index);
+
+					_reset(index);
+
+					return poshiScriptSnippet;
+				}
+
+				continue;
+			}
+
+			if (_startsWith("/*")) {
+				if ((_lastIndex > (_firstIndex + 1)) &&
+					(_poshiScript.charAt(_lastIndex - 1) == '*') &&
+					(_poshiScript.charAt(_lastIndex) == '/')) {
+
+					return _nextSnippet(index);
+				}
+
+				continue;
+			}
+
+			boolean multilineBoundary = false;
+
+			if (c == '\'') {
+				_quoteCount++;
+
+				if ((_quoteCount == 3) || (_quoteCount == 6)) {
+					_multiline = !_multiline;
+
+					multilineBoundary = true;
+				}
+
+				if (_quoteCount > 6) {
+					throw new RuntimeException(
+						"Invalid multiline string: \n" +
+							_poshiScript.substring(_startIndex, index + 1));
+				}
+			}
+			else {
+				_quoteCount = 0;
+			}
+
+			if (_multiline || multilineBoundary) {
+				continue;
+			}
+
+			_processBoundary(index, c);
+
+			if ((c != '}') && (c != ';')) {
+				continue;
+			}
+
+			if (_startsWith("var") && (c != ';')) {
+				continue;
+			}
+
+			if (!_unbalanced && (_blockCommentIndex == -1) && !_lineComment &&
+				_boundaries.isEmpty()) {
+
+				_statement = true;
+
+				return _nextSnippet(index);
+			}
+		}
+
+		if (_startIndex >= _poshiScript.length()) {
+			return null;
+		}
+
+		String poshiScriptSnippet = _poshiScript.substring(_startIndex);
+
+		_startIndex = _poshiScript.length();
+
+		poshiScriptSnippet = poshiScriptSnippet.trim();
+
+		if (poshiScriptSnippet.isEmpty()) {
+			return null;
+		}
+
+		return poshiScriptSnippet;
+	}
+
+	private static char _getClosingBoundary(char openingBoundary) {
+		if (openingBoundary == '(') {
+			return ')';
+		}
+
+		if (openingBoundary == '[') {
+			return ']';
+		}
+
+		if (openingBoundary == '{') {
+			return '}';
+		}
+
+		return openingBoundary;
+	}
+
+	private String _nextSnippet(int index) {
+		String poshiScriptSnippet = _poshiScript.substring(
+			_startIndex, index + 1);
+
+		_reset(index + 1);
+
+		return poshiScriptSnippet;
+	}
+
+	private void _processBoundary(int index, char c) {
+		if (_lineComment) {
+			if (c == '\n') {
+				_lineComment = false;
+			}
+
+			return;
+		}
+
+		if (_blockCommentIndex != -1) {
+			if ((c == '/') && ((index - 1) > (_blockCommentIndex + 1)) &&
+				(_poshiScript.charAt(index - 1) == '*')) {
+
+				_blockCommentIndex = -1;
+			}
+
+			return;
+		}
+
+		if (!_boundaries.isEmpty()) {
+			char openingBoundary = _boundaries.peek();
+
+			if (c == _getClosingBoundary(openingBoundary)) {
+				_boundaries.pop();
+
+				return;
+			}
+
+			if ((openingBoundary == '\"') || (openingBoundary == '\'')) {
+				return;
+			}
+		}
+
+		if ((c == '/') && ((index + 1) < _poshiScript.length())) {
+			char nextChar = _poshiScript.charAt(index + 1);
+
+			if (nextChar == '/') {
+				_lineComment = true;
+
+				return;
+			}
+
+			if (nextChar == '*') {
+				_blockCommentIndex = index;
+
+				return;
+			}
+		}
+
+		if ((c == '(') || (c == '[') || (c == '{') || (c == '\"') ||
+			(c == '\'')) {
+
+			_boundaries.push(c);
+
+			return;
+		}
+
+		if ((c == ')') || (c == ']') || (c == '}')) {
+			_unbalanced = true;
+		}
+	}
+
+	private void _reset(int startIndex) {
+		_blockCommentIndex = -1;
+		_boundaries.clear();
+		_firstIndex = -1;
+		_lastIndex = -1;
+		_lineComment = false;
+		_startIndex = startIndex;
+		_unbalanced = false;
+	}
+
+	private boolean _startsWith(String prefix) {
+		if ((_firstIndex == -1) ||
+			((_firstIndex + prefix.length()) > (_lastIndex + 1))) {
+
+			return false;
+		}
+
+		return _poshiScript.startsWith(prefix, _firstIndex);
+	}
+
+	private int _blockCommentIndex = -1;
+	private final Stack<Character> _boundaries = new Stack<>();
+	private int _firstIndex = -1;
+	private int _index;
+	private int _lastIndex = -1;
+	private boolean _lineComment;
+	private boolean _multiline;
+	private final String _poshiScript;
+	private int _quoteCount;
+	private int _startIndex;
+	private boolean _statement;
+	private boolean _unbalanced;
+
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import com.liferay.poshi.runner.util.PropsValues;
+
+/**
+ * Tracks the deadline of a wait and hands out poll intervals that start small
+ * and double up to a maximum, so conditions that become true quickly are not
+ * charged a full polling interval.
+ *
+ * @author Kenji Heigel
+ */
+public class AdaptiveWait {
+
+	public AdaptiveWait(long timeoutMillis) {
+		this(
+			timeoutMillis, PropsValues.SELENIUM_WAIT_INITIAL_INTERVAL,
+			PropsValues.SELENIUM_WAIT_MAX_INTERVAL);
+	}
+
+	public AdaptiveWait(
+		long timeoutMillis, long initialIntervalMillis,
+		long maxIntervalMillis) {
+
+		_deadlineMillis = System.currentTimeMillis() + timeoutMillis;
+		_intervalMillis = Math.max(1, initialIntervalMillis);
+		_maxIntervalMillis = Math.max(_intervalMillis, maxIntervalMillis);
+	}
+
+	public long getRemainingMillis() {
+		return Math.max(0, _deadlineMillis - System.currentTimeMillis());
+	}
+
+	public boolean isExpired() {
+		if (getRemainingMillis() <= 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public long nextIntervalMillis() {
+		long intervalMillis = Math.min(_intervalMillis, getRemainingMillis());
+
+		_intervalMillis = Math.min(_intervalMillis * 2, _maxIntervalMillis);
+
+		return intervalMillis;
+	}
+
+	public void sleep() throws InterruptedException {
+		long intervalMillis = nextIntervalMillis();
+
+		if (intervalMillis > 0) {
+			Thread.sleep(intervalMillis);
+		}
+	}
+
+	private final long _deadlineMillis;
+	private long _intervalMillis;
+	private final long _maxIntervalMillis;
+
+}
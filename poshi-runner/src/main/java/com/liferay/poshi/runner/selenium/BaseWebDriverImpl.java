@@ -44,6 +44,7 @@ import java.net.URL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +89,7 @@ import org.openqa.selenium.Dimension;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.Point;
+import org.openqa.selenium.ScriptTimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
@@ -162,9 +164,13 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 
 		WebDriver.Window window = options.window();
 
-		window.setSize(new Dimension(1280, 1040));
+		Dimension windowSize = new Dimension(1280, 1040);
 
-		webDriver.get(browserURL);
+		window.setSize(windowSize);
+
+		WebDriverSessionPool.registerWebDriver(webDriver, windowSize);
+
+		WebDriverSessionPool.navigate(webDriver, browserURL);
 	}
 
 	@Override
@@ -1011,7 +1017,7 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 
 	@Override
 	public void get(String url) {
-		_webDriver.get(url);
+		WebDriverSessionPool.navigate(_webDriver, url);
 	}
 
 	@Override
@@ -1090,6 +1096,12 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 	}
 
 	public String getElementValue(String locator, String timeout) {
+		ElementSnapshot elementSnapshot = getElementSnapshot(locator, true);
+
+		if (elementSnapshot != null) {
+			return elementSnapshot.getValue();
+		}
+
 		WebElement webElement = getWebElement(locator, timeout);
 
 		scrollWebElementIntoView(webElement);
@@ -1397,11 +1409,20 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 			return getHtmlNodeText(locator);
 		}
 
-		WebElement webElement = getWebElement(locator, timeout);
+		String text = null;
 
-		scrollWebElementIntoView(webElement);
+		ElementSnapshot elementSnapshot = getElementSnapshot(locator, true);
 
-		String text = webElement.getText();
+		if (elementSnapshot != null) {
+			text = elementSnapshot.getText();
+		}
+		else {
+			WebElement webElement = getWebElement(locator, timeout);
+
+			scrollWebElementIntoView(webElement);
+
+			text = webElement.getText();
+		}
 
 		text = text.trim();
 
@@ -1557,16 +1578,15 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 
 	@Override
 	public boolean isElementPresentAfterWait(String locator) throws Exception {
-		for (int second = 0;; second++) {
-			if (second >= PropsValues.TIMEOUT_EXPLICIT_WAIT) {
-				return isElementPresent(locator);
-			}
+		AdaptiveWait adaptiveWait = new AdaptiveWait(
+			PropsValues.TIMEOUT_EXPLICIT_WAIT * 1000L);
 
+		while (!adaptiveWait.isExpired()) {
 			if (isElementPresent(locator)) {
-				break;
+				return true;
 			}
 
-			Thread.sleep(1000);
+			waitForNextPoll(adaptiveWait);
 		}
 
 		return isElementPresent(locator);
@@ -3278,8 +3298,10 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 			wait = GetterUtil.getInteger(timeout) / 1000;
 		}
 
+		AdaptiveWait adaptiveWait = new AdaptiveWait(wait * 1000L);
+
 		if (windowID.equals("") || windowID.equals("null")) {
-			for (int i = 0; i <= wait; i++) {
+			do {
 				Set<String> windowHandles = getWindowHandles();
 
 				if (windowHandles.size() > 1) {
@@ -3287,11 +3309,12 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 				}
 
 				try {
-					Thread.sleep(1000);
+					adaptiveWait.sleep();
 				}
 				catch (Exception exception) {
 				}
 			}
+			while (!adaptiveWait.isExpired());
 		}
 		else {
 			String targetWindowTitle = windowID;
@@ -3300,7 +3323,7 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 				targetWindowTitle = targetWindowTitle.substring(6);
 			}
 
-			for (int i = 0; i <= wait; i++) {
+			do {
 				for (String windowHandle : getWindowHandles()) {
 					WebDriver.TargetLocator targetLocator = switchTo();
 
@@ -3314,11 +3337,12 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 				}
 
 				try {
-					Thread.sleep(1000);
+					adaptiveWait.sleep();
 				}
 				catch (Exception exception) {
 				}
 			}
+			while (!adaptiveWait.isExpired());
 		}
 
 		TestCase.fail("Unable to find the window ID \"" + windowID + "\"");
@@ -3433,42 +3457,7 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 	}
 
 	protected By getBy(String locator) {
-		if (locator.startsWith("//")) {
-			return By.xpath(locator);
-		}
-		else if (locator.startsWith("class=")) {
-			locator = locator.substring(6);
-
-			return By.className(locator);
-		}
-		else if (locator.startsWith("css=")) {
-			locator = locator.substring(4);
-
-			return By.cssSelector(locator);
-		}
-		else if (locator.startsWith("link=")) {
-			locator = locator.substring(5);
-
-			return By.linkText(locator);
-		}
-		else if (locator.startsWith("name=")) {
-			locator = locator.substring(5);
-
-			return By.name(locator);
-		}
-		else if (locator.startsWith("tag=")) {
-			locator = locator.substring(4);
-
-			return By.tagName(locator);
-		}
-		else if (locator.startsWith("xpath=") || locator.startsWith("xPath=")) {
-			locator = locator.substring(6);
-
-			return By.xpath(locator);
-		}
-		else {
-			return By.id(locator);
-		}
+		return WebDriverHelper.getBy(locator);
 	}
 
 	protected Condition getConfirmationCondition(String pattern) {
@@ -3657,6 +3646,60 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 		};
 	}
 
+	protected ElementSnapshot getElementSnapshot(
+		String locator, boolean scrollIntoView, String... attributeNames) {
+
+		List<ElementSnapshot> elementSnapshots = getElementSnapshots(
+			Collections.singletonList(locator), scrollIntoView,
+			attributeNames);
+
+		if ((elementSnapshots == null) || elementSnapshots.isEmpty()) {
+			return null;
+		}
+
+		ElementSnapshot elementSnapshot = elementSnapshots.get(0);
+
+		if (!elementSnapshot.isPresent()) {
+			return null;
+		}
+
+		return elementSnapshot;
+	}
+
+	protected List<ElementSnapshot> getElementSnapshots(
+		List<String> locators, boolean scrollIntoView,
+		String... attributeNames) {
+
+		if (!PropsValues.SELENIUM_BATCHED_EVALUATION_ENABLED ||
+			!(_webDriver instanceof JavascriptExecutor)) {
+
+			return null;
+		}
+
+		JavascriptExecutor javascriptExecutor = (JavascriptExecutor)_webDriver;
+
+		try {
+			Object results = javascriptExecutor.executeScript(
+				ElementSnapshot.SCRIPT,
+				ElementSnapshot.getScriptArguments(
+					locators, scrollIntoView, attributeNames));
+
+			List<ElementSnapshot> elementSnapshots =
+				ElementSnapshot.toElementSnapshots(results);
+
+			if ((elementSnapshots == null) ||
+				(elementSnapshots.size() != locators.size())) {
+
+				return null;
+			}
+
+			return elementSnapshots;
+		}
+		catch (WebDriverException webDriverException) {
+			return null;
+		}
+	}
+
 	protected Point getFramePoint() {
 		int x = 0;
 		int y = 0;
@@ -4176,6 +4219,13 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 
 			@Override
 			public boolean evaluate() throws Exception {
+				ElementSnapshot elementSnapshot = getElementSnapshot(
+					locator, true);
+
+				if (elementSnapshot != null) {
+					return elementSnapshot.isDisplayed();
+				}
+
 				WebElement webElement = getWebElement(locator);
 
 				scrollWebElementIntoView(webElement);
@@ -4194,6 +4244,13 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 
 			@Override
 			public boolean evaluate() throws Exception {
+				ElementSnapshot elementSnapshot = getElementSnapshot(
+					locator, false);
+
+				if (elementSnapshot != null) {
+					return elementSnapshot.isDisplayed();
+				}
+
 				WebElement webElement = getWebElement(locator);
 
 				return webElement.isDisplayed();
@@ -4406,6 +4463,47 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 		_navigationBarHeight = navigationBarHeight;
 	}
 
+	protected void waitForNextPoll(AdaptiveWait adaptiveWait)
+		throws Exception {
+
+		long intervalMillis = adaptiveWait.nextIntervalMillis();
+
+		if (intervalMillis <= 0) {
+			return;
+		}
+
+		if (!PropsValues.SELENIUM_WAIT_MUTATION_OBSERVER_ENABLED ||
+			_mutationObserverScriptTimedOut ||
+			!(_webDriver instanceof JavascriptExecutor)) {
+
+			Thread.sleep(intervalMillis);
+
+			return;
+		}
+
+		long startMillis = System.currentTimeMillis();
+
+		try {
+			JavascriptExecutor javascriptExecutor =
+				(JavascriptExecutor)_webDriver;
+
+			javascriptExecutor.executeAsyncScript(
+				_MUTATION_OBSERVER_SCRIPT, intervalMillis);
+		}
+		catch (Exception exception) {
+			if (exception instanceof ScriptTimeoutException) {
+				_mutationObserverScriptTimedOut = true;
+			}
+
+			long remainingMillis =
+				intervalMillis - (System.currentTimeMillis() - startMillis);
+
+			if (remainingMillis > 0) {
+				Thread.sleep(remainingMillis);
+			}
+		}
+	}
+
 	protected abstract class Condition {
 
 		public Condition() {
@@ -4436,9 +4534,10 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 		}
 
 		public void waitFor(String throwException) throws Exception {
-			for (int second = 0; second < PropsValues.TIMEOUT_EXPLICIT_WAIT;
-				 second++) {
+			AdaptiveWait adaptiveWait = new AdaptiveWait(
+				PropsValues.TIMEOUT_EXPLICIT_WAIT * 1000L);
 
+			while (!adaptiveWait.isExpired()) {
 				try {
 					if (evaluate()) {
 						return;
@@ -4447,7 +4546,7 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 				catch (Exception exception) {
 				}
 
-				Thread.sleep(1000);
+				waitForNextPoll(adaptiveWait);
 			}
 
 			if ((throwException == null) ||
@@ -4464,6 +4563,15 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 	private static final String _CURRENT_DIR_NAME = FileUtil.getCanonicalPath(
 		".");
 
+	private static final String _MUTATION_OBSERVER_SCRIPT = StringUtil.combine(
+		"var callback = arguments[arguments.length - 1];",
+		"var observer = new MutationObserver(function() {",
+		"observer.disconnect(); clearTimeout(timeoutId); callback(true);});",
+		"var timeoutId = setTimeout(function() {",
+		"observer.disconnect(); callback(false);}, arguments[0]);",
+		"observer.observe(document, {attributes: true, characterData: true,",
+		"childList: true, subtree: true});");
+
 	private static final String _OUTPUT_DIR_NAME = PropsValues.OUTPUT_DIR_NAME;
 
 	private static final String _TEST_DEPENDENCIES_DIR_NAME =
@@ -4478,6 +4586,7 @@ public abstract class BaseWebDriverImpl implements LiferaySelenium, WebDriver {
 	private String _defaultWindowHandle;
 	private Stack<WebElement> _frameWebElements = new Stack<>();
 	private final Map<String, String> _keysSpecialChars = new HashMap<>();
+	private boolean _mutationObserverScriptTimedOut;
 	private int _navigationBarHeight;
 	private final String _outputDirName;
 	private String _primaryTestSuiteName;
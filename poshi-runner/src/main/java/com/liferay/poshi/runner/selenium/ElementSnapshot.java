@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import com.liferay.poshi.runner.util.GetterUtil;
+import com.liferay.poshi.runner.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state of the first element matching a locator, resolved and read in
+ * the browser by a single script call instead of one WebDriver call per
+ * property. One call can read the elements of several locators at once.
+ *
+ * @author Kenji Heigel
+ */
+public class ElementSnapshot {
+
+	public static final String SCRIPT = StringUtil.combine(
+		"var locators = arguments[0];",
+		"var attributeNames = arguments[1];",
+		"var scrollIntoView = arguments[2];",
+		"var getSnapshot = function(strategy, value) {",
+		"var elements = [];",
+		"if (strategy == 'class') {",
+		"elements = document.getElementsByClassName(value);}",
+		"else if (strategy == 'css') {",
+		"elements = document.querySelectorAll(value);}",
+		"else if (strategy == 'id') {",
+		"var element = document.getElementById(value);",
+		"if (element) {elements = [element];}}",
+		"else if (strategy == 'link') {",
+		"var anchors = document.getElementsByTagName('a');",
+		"for (var i = 0; i < anchors.length; i++) {",
+		"var linkText = anchors[i].innerText || anchors[i].textContent;",
+		"if (linkText.trim() == value) {elements.push(anchors[i]);}}}",
+		"else if (strategy == 'name') {",
+		"elements = document.getElementsByName(value);}",
+		"else if (strategy == 'tag') {",
+		"elements = document.getElementsByTagName(value);}",
+		"else {",
+		"var snapshot = document.evaluate(value, document, null, ",
+		"XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);",
+		"for (var i = 0; i < snapshot.snapshotLength; i++) {",
+		"var node = snapshot.snapshotItem(i);",
+		"if (node.nodeType == 1) {elements.push(node);}}}",
+		"var result = {count: elements.length};",
+		"if (elements.length == 0) {return result;}",
+		"var element = elements[0];",
+		"var isDisplayed = function() {",
+		"for (var node = element; node && (node.nodeType == 1); ",
+		"node = node.parentNode) {",
+		"if (window.getComputedStyle(node).display == 'none') {",
+		"return false;}}",
+		"var style = window.getComputedStyle(element);",
+		"if ((style.visibility == 'hidden') || ",
+		"(style.visibility == 'collapse') || (style.opacity == '0')) {",
+		"return false;}",
+		"var rect = element.getBoundingClientRect();",
+		"return (rect.width > 0) && (rect.height > 0);};",
+		"var isObscured = function() {",
+		"var rect = element.getBoundingClientRect();",
+		"var newElement = document.elementFromPoint(",
+		"(rect.right + rect.left) / 2, (rect.top + rect.bottom) / 2);",
+		"return element != newElement;};",
+		"if (scrollIntoView && (!isDisplayed() || isObscured())) {",
+		"element.scrollIntoView(false);}",
+		"result.displayed = isDisplayed();",
+		"result.text = '';",
+		"if (result.displayed) {",
+		"result.text = element.innerText || element.textContent || '';",
+		"result.text = result.text.replace(/\\u00a0/g, ' ');}",
+		"result.value = (element.value === undefined) ? ",
+		"element.getAttribute('value') : String(element.value);",
+		"result.attributes = {};",
+		"for (var i = 0; i < attributeNames.length; i++) {",
+		"result.attributes[attributeNames[i]] = ",
+		"element.getAttribute(attributeNames[i]);}",
+		"return result;};",
+		"var results = [];",
+		"for (var i = 0; i < locators.length; i++) {",
+		"results.push(getSnapshot(locators[i][0], locators[i][1]));}",
+		"return results;");
+
+	public static Object[] getScriptArguments(
+		List<String> locators, boolean scrollIntoView,
+		String... attributeNames) {
+
+		List<List<String>> scriptLocators = new ArrayList<>(locators.size());
+
+		for (String locator : locators) {
+			Locator parsedLocator = new Locator(locator);
+
+			scriptLocators.add(
+				Arrays.asList(
+					parsedLocator.getStrategy(), parsedLocator.getValue()));
+		}
+
+		return new Object[] {
+			scriptLocators, Arrays.asList(attributeNames), scrollIntoView
+		};
+	}
+
+	public static List<ElementSnapshot> toElementSnapshots(Object results) {
+		if (!(results instanceof List)) {
+			return null;
+		}
+
+		List<?> resultsList = (List<?>)results;
+
+		List<ElementSnapshot> elementSnapshots = new ArrayList<>(
+			resultsList.size());
+
+		for (Object result : resultsList) {
+			if (!(result instanceof Map)) {
+				return null;
+			}
+
+			elementSnapshots.add(new ElementSnapshot((Map<?, ?>)result));
+		}
+
+		return elementSnapshots;
+	}
+
+	public ElementSnapshot(Map<?, ?> result) {
+		_count = GetterUtil.getInteger(result.get("count"));
+		_displayed = GetterUtil.getBoolean(result.get("displayed"));
+		_text = _toString(result.get("text"));
+		_value = _toString(result.get("value"));
+
+		Map<String, String> attributes = Collections.emptyMap();
+
+		Object attributesObject = result.get("attributes");
+
+		if (attributesObject instanceof Map) {
+			Map<?, ?> attributesMap = (Map<?, ?>)attributesObject;
+
+			attributes = new HashMap<>();
+
+			for (Map.Entry<?, ?> entry : attributesMap.entrySet()) {
+				attributes.put(
+					_toString(entry.getKey()), _toString(entry.getValue()));
+			}
+		}
+
+		_attributes = attributes;
+	}
+
+	public String getAttribute(String name) {
+		return _attributes.get(name);
+	}
+
+	public int getCount() {
+		return _count;
+	}
+
+	public String getText() {
+		return _text;
+	}
+
+	public String getValue() {
+		return _value;
+	}
+
+	public boolean isDisplayed() {
+		return _displayed;
+	}
+
+	public boolean isPresent() {
+		if (_count > 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static String _toString(Object object) {
+		if (object == null) {
+			return null;
+		}
+
+		return String.valueOf(object);
+	}
+
+	private final Map<String, String> _attributes;
+	private final int _count;
+	private final boolean _displayed;
+	private final String _text;
+	private final String _value;
+
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * @author Kenji Heigel
+ */
+public class LatencyHistogram {
+
+	public static long[] getBucketUpperBounds() {
+		return _BUCKET_UPPER_BOUNDS.clone();
+	}
+
+	public long[] getBucketCounts() {
+		long[] bucketCounts = new long[_bucketCounts.length()];
+
+		for (int i = 0; i < bucketCounts.length; i++) {
+			bucketCounts[i] = _bucketCounts.get(i);
+		}
+
+		return bucketCounts;
+	}
+
+	public long getCount() {
+		return _count.get();
+	}
+
+	public long getMaxMillis() {
+		return _maxMillis.get();
+	}
+
+	public long getPercentileMillis(double percentile) {
+		long count = getCount();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		long rank = (long)Math.ceil(count * percentile / 100);
+
+		long bucketCount = 0;
+
+		for (int i = 0; i < _BUCKET_UPPER_BOUNDS.length; i++) {
+			bucketCount += _bucketCounts.get(i);
+
+			if (bucketCount >= rank) {
+				return Math.min(_BUCKET_UPPER_BOUNDS[i], getMaxMillis());
+			}
+		}
+
+		return getMaxMillis();
+	}
+
+	public long getTotalMillis() {
+		return _totalMillis.get();
+	}
+
+	public void record(long millis) {
+		int i = 0;
+
+		while (millis > _BUCKET_UPPER_BOUNDS[i]) {
+			i++;
+		}
+
+		_bucketCounts.incrementAndGet(i);
+		_count.incrementAndGet();
+		_totalMillis.addAndGet(millis);
+
+		long maxMillis = _maxMillis.get();
+
+		while ((millis > maxMillis) &&
+			   !_maxMillis.compareAndSet(maxMillis, millis)) {
+
+			maxMillis = _maxMillis.get();
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("count=");
+		sb.append(getCount());
+		sb.append(", total=");
+		sb.append(getTotalMillis());
+		sb.append(" ms, max=");
+		sb.append(getMaxMillis());
+		sb.append(" ms");
+
+		for (int i = 0; i < _BUCKET_UPPER_BOUNDS.length; i++) {
+			long bucketCount = _bucketCounts.get(i);
+
+			if (bucketCount == 0) {
+				continue;
+			}
+
+			sb.append(", ");
+
+			if (_BUCKET_UPPER_BOUNDS[i] == Long.MAX_VALUE) {
+				sb.append("+Inf");
+			}
+			else {
+				sb.append("<=");
+				sb.append(_BUCKET_UPPER_BOUNDS[i]);
+				sb.append(" ms");
+			}
+
+			sb.append(": ");
+			sb.append(bucketCount);
+		}
+
+		return sb.toString();
+	}
+
+	private static final long[] _BUCKET_UPPER_BOUNDS = {
+		1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000,
+		60000, Long.MAX_VALUE
+	};
+
+	private final AtomicLongArray _bucketCounts = new AtomicLongArray(
+		_BUCKET_UPPER_BOUNDS.length);
+	private final AtomicLong _count = new AtomicLong();
+	private final AtomicLong _maxMillis = new AtomicLong();
+	private final AtomicLong _totalMillis = new AtomicLong();
+
+}
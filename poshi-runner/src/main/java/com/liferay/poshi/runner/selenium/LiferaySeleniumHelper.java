@@ -14,12 +14,15 @@
 
 package com.liferay.poshi.runner.selenium;
 
+import com.liferay.poshi.runner.PoshiRunnerContext;
+import com.liferay.poshi.runner.PoshiRunnerExecutionContext;
 import com.liferay.poshi.runner.exception.PoshiRunnerWarningException;
 import com.liferay.poshi.runner.util.EmailCommands;
 import com.liferay.poshi.runner.util.FileUtil;
 import com.liferay.poshi.runner.util.GetterUtil;
 import com.liferay.poshi.runner.util.OSDetector;
 import com.liferay.poshi.runner.util.PropsValues;
+import com.liferay.poshi.runner.util.StringUtil;
 import com.liferay.poshi.runner.util.Validator;
 
 import java.awt.Rectangle;
@@ -66,19 +69,19 @@ import org.sikuli.api.robot.desktop.DesktopKeyboard;
 public class LiferaySeleniumHelper {
 
 	public static void addToJavaScriptExceptions(Exception exception) {
-		_javaScriptExceptions.add(exception);
+		_getJavaScriptExceptions().add(exception);
 	}
 
 	public static void addToJavaScriptExceptions(List<Exception> exceptions) {
-		_javaScriptExceptions.addAll(exceptions);
+		_getJavaScriptExceptions().addAll(exceptions);
 	}
 
 	public static void addToLiferayExceptions(Exception exception) {
-		_liferayExceptions.add(exception);
+		_getLiferayExceptions().add(exception);
 	}
 
 	public static void addToLiferayExceptions(List<Exception> exceptions) {
-		_liferayExceptions.addAll(exceptions);
+		_getLiferayExceptions().addAll(exceptions);
 	}
 
 	public static void assertConsoleErrors() throws Exception {
@@ -116,11 +119,11 @@ public class LiferaySeleniumHelper {
 
 				String timestamp = eventElement.attributeValue("timestamp");
 
-				if (_errorTimestamps.contains(timestamp)) {
+				if (_getErrorTimestamps().contains(timestamp)) {
 					continue;
 				}
 
-				_errorTimestamps.add(timestamp);
+				_getErrorTimestamps().add(timestamp);
 
 				Element messageElement = eventElement.element("message");
 
@@ -156,13 +159,13 @@ public class LiferaySeleniumHelper {
 	}
 
 	public static void assertNoJavaScriptExceptions() throws Exception {
-		if (!_javaScriptExceptions.isEmpty()) {
+		if (!_getJavaScriptExceptions().isEmpty()) {
 			StringBuilder sb = new StringBuilder();
 
-			sb.append(_javaScriptExceptions.size());
+			sb.append(_getJavaScriptExceptions().size());
 			sb.append(" Javascript Exception");
 
-			if (_javaScriptExceptions.size() > 1) {
+			if (_getJavaScriptExceptions().size() > 1) {
 				sb.append("s were");
 			}
 			else {
@@ -176,8 +179,8 @@ public class LiferaySeleniumHelper {
 			System.out.println("## " + sb.toString());
 			System.out.println("##");
 
-			for (int i = 0; i < _javaScriptExceptions.size(); i++) {
-				Exception exception = _javaScriptExceptions.get(i);
+			for (int i = 0; i < _getJavaScriptExceptions().size(); i++) {
+				Exception exception = _getJavaScriptExceptions().get(i);
 
 				System.out.println();
 				System.out.println("##");
@@ -193,13 +196,13 @@ public class LiferaySeleniumHelper {
 	}
 
 	public static void assertNoLiferayExceptions() throws Exception {
-		if (!_liferayExceptions.isEmpty()) {
+		if (!_getLiferayExceptions().isEmpty()) {
 			StringBuilder sb = new StringBuilder();
 
-			sb.append(_liferayExceptions.size());
+			sb.append(_getLiferayExceptions().size());
 			sb.append(" Liferay Exception");
 
-			if (_liferayExceptions.size() > 1) {
+			if (_getLiferayExceptions().size() > 1) {
 				sb.append("s were");
 			}
 			else {
@@ -213,8 +216,8 @@ public class LiferaySeleniumHelper {
 			System.out.println("## " + sb.toString());
 			System.out.println("##");
 
-			for (int i = 0; i < _liferayExceptions.size(); i++) {
-				Exception exception = _liferayExceptions.get(i);
+			for (int i = 0; i < _getLiferayExceptions().size(); i++) {
+				Exception exception = _getLiferayExceptions().get(i);
 
 				System.out.println();
 				System.out.println("##");
@@ -236,15 +239,15 @@ public class LiferaySeleniumHelper {
 
 		StringBuilder sb = new StringBuilder();
 
-		if (!_javaScriptExceptions.isEmpty()) {
+		if (!_getJavaScriptExceptions().isEmpty()) {
 			sb.append("\n");
 			sb.append("##\n");
 
 			sb.append("## ");
-			sb.append(_javaScriptExceptions.size());
+			sb.append(_getJavaScriptExceptions().size());
 			sb.append(" Javascript Exception");
 
-			if (_javaScriptExceptions.size() > 1) {
+			if (_getJavaScriptExceptions().size() > 1) {
 				sb.append("s were");
 			}
 			else {
@@ -256,7 +259,7 @@ public class LiferaySeleniumHelper {
 			sb.append("##\n");
 			sb.append("\n");
 
-			for (Exception exception : _javaScriptExceptions) {
+			for (Exception exception : _getJavaScriptExceptions()) {
 				sb.append(exception.getMessage());
 
 				sb.append("\n");
@@ -265,15 +268,15 @@ public class LiferaySeleniumHelper {
 			sb.append("\n");
 		}
 
-		if (!_liferayExceptions.isEmpty()) {
+		if (!_getLiferayExceptions().isEmpty()) {
 			sb.append("\n");
 			sb.append("##\n");
 
 			sb.append("## ");
-			sb.append(_liferayExceptions.size());
+			sb.append(_getLiferayExceptions().size());
 			sb.append(" Liferay Exception");
 
-			if (_liferayExceptions.size() > 1) {
+			if (_getLiferayExceptions().size() > 1) {
 				sb.append("s were");
 			}
 			else {
@@ -285,7 +288,7 @@ public class LiferaySeleniumHelper {
 			sb.append("##\n");
 			sb.append("\n");
 
-			for (Exception exception : _liferayExceptions) {
+			for (Exception exception : _getLiferayExceptions()) {
 				sb.append(exception.getMessage());
 
 				sb.append("\n");
@@ -662,24 +665,23 @@ public class LiferaySeleniumHelper {
 	public static void writePoshiWarnings() throws Exception {
 		StringBuilder sb = new StringBuilder();
 
-		if (!_javaScriptExceptions.isEmpty()) {
-			for (Exception exception : _javaScriptExceptions) {
+		if (!_getJavaScriptExceptions().isEmpty()) {
+			for (Exception exception : _getJavaScriptExceptions()) {
 				sb.append("<value><![CDATA[");
 				sb.append(exception.getMessage());
 				sb.append("]]></value>\n");
 			}
 		}
 
-		if (!_liferayExceptions.isEmpty()) {
-			for (Exception exception : _liferayExceptions) {
+		if (!_getLiferayExceptions().isEmpty()) {
+			for (Exception exception : _getLiferayExceptions()) {
 				sb.append("<value><![CDATA[");
 				sb.append(exception.getMessage());
 				sb.append("]]></value>\n");
 			}
 		}
 
-		FileUtil.write(
-			PropsValues.TEST_POSHI_WARNINGS_FILE_NAME, sb.toString());
+		FileUtil.write(_getPoshiWarningsFileName(), sb.toString());
 	}
 
 	private static BufferedReader _execute(String command) throws Exception {
@@ -702,9 +704,44 @@ public class LiferaySeleniumHelper {
 		return new BufferedReader(inputStreamReader);
 	}
 
-	private static final List<String> _errorTimestamps = new ArrayList<>();
-	private static final List<Exception> _javaScriptExceptions =
-		new ArrayList<>();
-	private static final List<Exception> _liferayExceptions = new ArrayList<>();
+	private static List<String> _getErrorTimestamps() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getErrorTimestamps();
+	}
+
+	private static List<Exception> _getJavaScriptExceptions() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getJavaScriptExceptions();
+	}
+
+	private static List<Exception> _getLiferayExceptions() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getLiferayExceptions();
+	}
+
+	private static String _getPoshiWarningsFileName() {
+		if (PropsValues.TEST_PARALLEL_THREADS <= 1) {
+			return PropsValues.TEST_POSHI_WARNINGS_FILE_NAME;
+		}
+
+		File file = new File(PropsValues.TEST_POSHI_WARNINGS_FILE_NAME);
+
+		String testCaseNamespacedClassCommandName = StringUtil.replace(
+			PoshiRunnerContext.getTestCaseNamespacedClassCommandName(), "#",
+			"_");
+
+		File testCaseDir = new File(
+			file.getParentFile(), testCaseNamespacedClassCommandName);
+
+		File testCaseFile = new File(testCaseDir, file.getName());
+
+		return testCaseFile.getPath();
+	}
 
 }
\ No newline at end of file
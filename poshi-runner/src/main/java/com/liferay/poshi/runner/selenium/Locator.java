@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import org.openqa.selenium.By;
+
+/**
+ * A Poshi locator split into its strategy and value, so that every caller
+ * reads the locator prefixes the same way.
+ *
+ * @author Kenji Heigel
+ */
+public class Locator {
+
+	public Locator(String locator) {
+		if (locator.startsWith("//")) {
+			_strategy = "xpath";
+			_value = locator;
+
+			return;
+		}
+
+		for (String[] prefix : _PREFIXES) {
+			if (locator.startsWith(prefix[0])) {
+				_strategy = prefix[1];
+				_value = locator.substring(prefix[0].length());
+
+				return;
+			}
+		}
+
+		_strategy = "id";
+		_value = locator;
+	}
+
+	public By getBy() {
+		if (_strategy.equals("class")) {
+			return By.className(_value);
+		}
+		else if (_strategy.equals("css")) {
+			return By.cssSelector(_value);
+		}
+		else if (_strategy.equals("link")) {
+			return By.linkText(_value);
+		}
+		else if (_strategy.equals("name")) {
+			return By.name(_value);
+		}
+		else if (_strategy.equals("tag")) {
+			return By.tagName(_value);
+		}
+		else if (_strategy.equals("xpath")) {
+			return By.xpath(_value);
+		}
+
+		return By.id(_value);
+	}
+
+	public String getStrategy() {
+		return _strategy;
+	}
+
+	public String getValue() {
+		return _value;
+	}
+
+	private static final String[][] _PREFIXES = {
+		{"class=", "class"}, {"css=", "css"}, {"link=", "link"},
+		{"name=", "name"}, {"tag=", "tag"}, {"xpath=", "xpath"},
+		{"xPath=", "xpath"}
+	};
+
+	private final String _strategy;
+	private final String _value;
+
+}
\ No newline at end of file
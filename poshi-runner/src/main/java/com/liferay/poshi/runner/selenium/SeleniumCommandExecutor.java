@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import com.liferay.poshi.runner.PoshiRunnerExecutionContext;
+import com.liferay.poshi.runner.util.PropsValues;
+
+import java.lang.reflect.Method;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs Selenium commands on long-lived threads so that commands can be timed
+ * out without creating a new thread for every command. The pool is never
+ * smaller than the number of parallel test threads, and a thread stuck in a
+ * timed out command is replaced until the command returns.
+ *
+ * @author Kenji Heigel
+ */
+public class SeleniumCommandExecutor {
+
+	public static void clearLatencyHistograms() {
+		_latencyHistograms.clear();
+	}
+
+	public static Map<String, LatencyHistogram> getLatencyHistograms() {
+		return Collections.unmodifiableMap(
+			new TreeMap<String, LatencyHistogram>(_latencyHistograms));
+	}
+
+	public static void recordLatency(String commandName, long millis) {
+		LatencyHistogram latencyHistogram = _latencyHistograms.get(
+			commandName);
+
+		if (latencyHistogram == null) {
+			latencyHistogram = new LatencyHistogram();
+
+			LatencyHistogram existingLatencyHistogram =
+				_latencyHistograms.putIfAbsent(commandName, latencyHistogram);
+
+			if (existingLatencyHistogram != null) {
+				latencyHistogram = existingLatencyHistogram;
+			}
+		}
+
+		latencyHistogram.record(millis);
+	}
+
+	public static <T> SeleniumCommandFuture<T> submit(Callable<T> callable) {
+		SeleniumCommandFuture<T> seleniumCommandFuture =
+			new SeleniumCommandFuture<>(
+				PoshiRunnerExecutionContext.wrap(callable));
+
+		_executorService.execute(seleniumCommandFuture);
+
+		return seleniumCommandFuture;
+	}
+
+	protected static void addAbandonedThread() {
+		if (!(_executorService instanceof ThreadPoolExecutor)) {
+			return;
+		}
+
+		ThreadPoolExecutor threadPoolExecutor =
+			(ThreadPoolExecutor)_executorService;
+
+		synchronized (threadPoolExecutor) {
+			threadPoolExecutor.setMaximumPoolSize(
+				threadPoolExecutor.getMaximumPoolSize() + 1);
+			threadPoolExecutor.setCorePoolSize(
+				threadPoolExecutor.getCorePoolSize() + 1);
+		}
+	}
+
+	protected static int getPoolSize() {
+		if (!(_executorService instanceof ThreadPoolExecutor)) {
+			return 0;
+		}
+
+		ThreadPoolExecutor threadPoolExecutor =
+			(ThreadPoolExecutor)_executorService;
+
+		return threadPoolExecutor.getPoolSize();
+	}
+
+	protected static void removeAbandonedThread() {
+		if (!(_executorService instanceof ThreadPoolExecutor)) {
+			return;
+		}
+
+		ThreadPoolExecutor threadPoolExecutor =
+			(ThreadPoolExecutor)_executorService;
+
+		synchronized (threadPoolExecutor) {
+			threadPoolExecutor.setCorePoolSize(
+				threadPoolExecutor.getCorePoolSize() - 1);
+			threadPoolExecutor.setMaximumPoolSize(
+				threadPoolExecutor.getMaximumPoolSize() - 1);
+		}
+	}
+
+	protected static void remove(Runnable runnable) {
+		if (!(_executorService instanceof ThreadPoolExecutor)) {
+			return;
+		}
+
+		ThreadPoolExecutor threadPoolExecutor =
+			(ThreadPoolExecutor)_executorService;
+
+		threadPoolExecutor.remove(runnable);
+	}
+
+	private static ExecutorService _createExecutorService() {
+		if (PropsValues.SELENIUM_COMMAND_VIRTUAL_THREADS) {
+			try {
+				Method method = Executors.class.getMethod(
+					"newVirtualThreadPerTaskExecutor");
+
+				return (ExecutorService)method.invoke(null);
+			}
+			catch (ReflectiveOperationException reflectiveOperationException) {
+				System.out.println(
+					"Virtual threads are not supported by this JVM, using " +
+						"platform threads for Selenium commands");
+			}
+		}
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<Runnable>(),
+			new ThreadFactory() {
+
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(
+						runnable,
+						"Selenium command " + _threadCount.incrementAndGet());
+
+					thread.setDaemon(true);
+
+					return thread;
+				}
+
+				private final AtomicInteger _threadCount = new AtomicInteger();
+
+			});
+
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+		return threadPoolExecutor;
+	}
+
+	protected static final int MAX_THREADS = Math.max(
+		PropsValues.SELENIUM_COMMAND_MAX_THREADS,
+		PropsValues.TEST_PARALLEL_THREADS);
+
+	private static final ExecutorService _executorService =
+		_createExecutorService();
+	private static final Map<String, LatencyHistogram> _latencyHistograms =
+		new ConcurrentHashMap<>();
+
+}
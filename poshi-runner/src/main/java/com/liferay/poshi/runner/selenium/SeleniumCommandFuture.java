@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Kenji Heigel
+ */
+public class SeleniumCommandFuture<T> extends FutureTask<T> {
+
+	public SeleniumCommandFuture(Callable<T> callable) {
+		super(callable);
+	}
+
+	/**
+	 * Waits for at most the given timeout for the command to start running
+	 * and then for at most the given timeout for it to finish. A command that
+	 * does not start in time is removed from the queue without running. A
+	 * command that does not finish in time is cancelled, and its thread is
+	 * replaced if it does not stop.
+	 */
+	@Override
+	public T get(long timeout, TimeUnit timeUnit)
+		throws ExecutionException, InterruptedException, TimeoutException {
+
+		if (!_startCountDownLatch.await(timeout, timeUnit) &&
+			_state.compareAndSet(_STATE_QUEUED, _STATE_DONE)) {
+
+			cancel(false);
+
+			SeleniumCommandExecutor.remove(this);
+
+			long nanoTime = System.nanoTime();
+
+			_endNanos = nanoTime;
+			_startNanos = nanoTime;
+
+			_startCountDownLatch.countDown();
+
+			throw new TimeoutException(
+				"Command did not start within " + timeout + " " +
+					timeUnit.toString().toLowerCase());
+		}
+
+		_startCountDownLatch.await();
+
+		long remainingNanos =
+			timeUnit.toNanos(timeout) - (System.nanoTime() - _startNanos);
+
+		try {
+			return super.get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException timeoutException) {
+			cancel(true);
+
+			if (_state.compareAndSet(_STATE_RUNNING, _STATE_ABANDONED)) {
+				SeleniumCommandExecutor.addAbandonedThread();
+			}
+
+			throw timeoutException;
+		}
+	}
+
+	public long getRunningMillis() {
+		if (_startCountDownLatch.getCount() > 0) {
+			return 0;
+		}
+
+		long endNanos = _endNanos;
+
+		if (endNanos == 0) {
+			endNanos = System.nanoTime();
+		}
+
+		return TimeUnit.NANOSECONDS.toMillis(endNanos - _startNanos);
+	}
+
+	@Override
+	public void run() {
+		if (!_state.compareAndSet(_STATE_QUEUED, _STATE_RUNNING)) {
+			return;
+		}
+
+		_startNanos = System.nanoTime();
+
+		_startCountDownLatch.countDown();
+
+		try {
+			super.run();
+		}
+		finally {
+			_endNanos = System.nanoTime();
+
+			if (!_state.compareAndSet(_STATE_RUNNING, _STATE_DONE)) {
+				SeleniumCommandExecutor.removeAbandonedThread();
+			}
+		}
+	}
+
+	private static final int _STATE_ABANDONED = 3;
+
+	private static final int _STATE_DONE = 2;
+
+	private static final int _STATE_QUEUED = 0;
+
+	private static final int _STATE_RUNNING = 1;
+
+	private volatile long _endNanos;
+	private final CountDownLatch _startCountDownLatch = new CountDownLatch(1);
+	private volatile long _startNanos;
+	private final AtomicInteger _state = new AtomicInteger(_STATE_QUEUED);
+
+}
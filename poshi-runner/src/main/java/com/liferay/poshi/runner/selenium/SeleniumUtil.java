@@ -14,6 +14,7 @@
 
 package com.liferay.poshi.runner.selenium;
 
+import com.liferay.poshi.runner.PoshiRunnerExecutionContext;
 import com.liferay.poshi.runner.util.PropsValues;
 
 import org.openqa.selenium.WebDriver;
@@ -24,15 +25,22 @@ import org.openqa.selenium.WebDriver;
 public class SeleniumUtil extends PropsValues {
 
 	public static LiferaySelenium getSelenium() {
-		return _seleniumUtil._getSelenium();
+		return _getSeleniumUtil()._getSelenium();
 	}
 
 	public static void startSelenium() {
-		_seleniumUtil._startSelenium();
+		_getSeleniumUtil()._startSelenium();
 	}
 
 	public static void stopSelenium() {
-		_seleniumUtil._stopSelenium();
+		_getSeleniumUtil()._stopSelenium();
+	}
+
+	private static SeleniumUtil _getSeleniumUtil() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getSeleniumUtil();
 	}
 
 	private LiferaySelenium _getSelenium() {
@@ -107,7 +115,9 @@ public class SeleniumUtil extends PropsValues {
 		if (_selenium != null) {
 			WebDriverUtil.stopWebDriver();
 
-			_selenium.stop();
+			if (!SELENIUM_SESSION_POOL_ENABLED) {
+				_selenium.stop();
+			}
 
 			_selenium.stopLogger();
 		}
@@ -115,8 +125,6 @@ public class SeleniumUtil extends PropsValues {
 		_selenium = null;
 	}
 
-	private static final SeleniumUtil _seleniumUtil = new SeleniumUtil();
-
 	private LiferaySelenium _selenium;
 
 }
\ No newline at end of file
@@ -14,10 +14,13 @@
 
 package com.liferay.poshi.runner.selenium;
 
+import com.liferay.poshi.runner.util.CacheUtil;
 import com.liferay.poshi.runner.util.FileUtil;
 import com.liferay.poshi.runner.util.PropsValues;
 import com.liferay.poshi.runner.util.StringUtil;
 
+import java.util.Map;
+
 import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -32,42 +35,17 @@ import org.openqa.selenium.By;
 public class WebDriverHelper {
 
 	public static By getBy(String locator) {
-		if (locator.startsWith("//")) {
-			return By.xpath(locator);
-		}
-		else if (locator.startsWith("class=")) {
-			locator = locator.substring(6);
-
-			return By.className(locator);
-		}
-		else if (locator.startsWith("css=")) {
-			locator = locator.substring(4);
-
-			return By.cssSelector(locator);
-		}
-		else if (locator.startsWith("link=")) {
-			locator = locator.substring(5);
+		By by = _bys.get(locator);
 
-			return By.linkText(locator);
-		}
-		else if (locator.startsWith("name=")) {
-			locator = locator.substring(5);
+		if (by == null) {
+			Locator parsedLocator = new Locator(locator);
 
-			return By.name(locator);
-		}
-		else if (locator.startsWith("tag=")) {
-			locator = locator.substring(4);
+			by = parsedLocator.getBy();
 
-			return By.tagName(locator);
+			_bys.put(locator, by);
 		}
-		else if (locator.startsWith("xpath=") || locator.startsWith("xPath=")) {
-			locator = locator.substring(6);
 
-			return By.xpath(locator);
-		}
-		else {
-			return By.id(locator);
-		}
+		return by;
 	}
 
 	public static String getCSSSource(String htmlSource) throws Exception {
@@ -114,4 +92,9 @@ public class WebDriverHelper {
 			StringUtil.replace(htmlSource, "<\\html>", sb.toString()));
 	}
 
+	private static final int _BYS_MAX_SIZE = 10000;
+
+	private static final Map<String, By> _bys = CacheUtil.createLRUMap(
+		_BYS_MAX_SIZE);
+
 }
\ No newline at end of file
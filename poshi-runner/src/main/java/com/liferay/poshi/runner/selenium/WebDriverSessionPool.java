@@ -0,0 +1,414 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import com.liferay.poshi.runner.util.PropsValues;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Keeps idle browser sessions open so that the next test can reuse them
+ * instead of starting a new browser. Selenium cannot clear the state of every
+ * origin a browser has touched, so a session is only reused when everything it
+ * loaded can be traced to a single origin. Otherwise it is quit.
+ *
+ * @author Kenji Heigel
+ */
+public class WebDriverSessionPool {
+
+	public static void addVisitedURL(WebDriver webDriver, String url) {
+		Set<String> origins = _getVisitedOrigins(webDriver);
+
+		_addVisitedOrigin(origins, url);
+	}
+
+	public static WebDriver borrowWebDriver() {
+		WebDriver webDriver = _webDrivers.poll();
+
+		while (webDriver != null) {
+			if (isReset(webDriver)) {
+				return webDriver;
+			}
+
+			_quit(webDriver);
+
+			webDriver = _webDrivers.poll();
+		}
+
+		return null;
+	}
+
+	public static void clear() {
+		List<WebDriver> webDrivers = new ArrayList<>();
+
+		_webDrivers.drainTo(webDrivers);
+
+		for (WebDriver webDriver : webDrivers) {
+			_quit(webDriver);
+		}
+	}
+
+	public static int getIdleCount() {
+		return _webDrivers.size();
+	}
+
+	public static boolean isReset(WebDriver webDriver) {
+		try {
+			Set<String> windowHandles = webDriver.getWindowHandles();
+
+			if ((windowHandles.size() != 1) ||
+				!_BLANK_URL.equals(webDriver.getCurrentUrl())) {
+
+				return false;
+			}
+
+			Set<String> origins = _getVisitedOrigins(webDriver);
+
+			if (!origins.isEmpty()) {
+				return false;
+			}
+
+			WebDriver.Options options = webDriver.manage();
+
+			Dimension windowSize = _windowSizes.get(webDriver);
+
+			if (windowSize != null) {
+				WebDriver.Window window = options.window();
+
+				if (!windowSize.equals(window.getSize())) {
+					return false;
+				}
+			}
+
+			Set<Cookie> cookies = options.getCookies();
+
+			return cookies.isEmpty();
+		}
+		catch (WebDriverException webDriverException) {
+			return false;
+		}
+	}
+
+	public static void navigate(WebDriver webDriver, String url) {
+		AtomicInteger navigationCount = _getNavigationCount(webDriver);
+
+		navigationCount.incrementAndGet();
+
+		addVisitedURL(webDriver, url);
+
+		webDriver.get(url);
+
+		addVisitedURL(webDriver, webDriver.getCurrentUrl());
+	}
+
+	public static void registerWebDriver(
+		WebDriver webDriver, Dimension windowSize) {
+
+		_windowSizes.put(webDriver, windowSize);
+	}
+
+	public static void releaseWebDriver(WebDriver webDriver) {
+		if (!resetWebDriver(webDriver) || !isReset(webDriver) ||
+			!_webDrivers.offer(webDriver)) {
+
+			_quit(webDriver);
+		}
+	}
+
+	public static boolean resetWebDriver(WebDriver webDriver) {
+		try {
+			Set<String> windowHandles = webDriver.getWindowHandles();
+
+			if (windowHandles.isEmpty()) {
+				return false;
+			}
+
+			Set<String> origins = _getVisitedOrigins(webDriver);
+
+			List<String> extraWindowHandles = new ArrayList<>(windowHandles);
+
+			String windowHandle = extraWindowHandles.remove(0);
+
+			WebDriver.TargetLocator targetLocator = webDriver.switchTo();
+
+			for (String extraWindowHandle : extraWindowHandles) {
+				targetLocator.window(extraWindowHandle);
+
+				_addVisitedOrigin(origins, webDriver.getCurrentUrl());
+
+				if (_hasCrossOriginFrame(webDriver)) {
+					return false;
+				}
+
+				webDriver.close();
+			}
+
+			targetLocator.window(windowHandle);
+
+			String url = webDriver.getCurrentUrl();
+
+			_addVisitedOrigin(origins, url);
+
+			if ((origins.size() > 1) || _hasCrossOriginFrame(webDriver) ||
+				!_hasOnlyCountedNavigations(webDriver)) {
+
+				return false;
+			}
+
+			WebDriver.Options options = webDriver.manage();
+
+			if (!origins.isEmpty()) {
+				Set<String> currentOrigins = new LinkedHashSet<>();
+
+				_addVisitedOrigin(currentOrigins, url);
+
+				if (!currentOrigins.equals(origins)) {
+					return false;
+				}
+
+				options.deleteAllCookies();
+
+				if (webDriver instanceof JavascriptExecutor) {
+					JavascriptExecutor javascriptExecutor =
+						(JavascriptExecutor)webDriver;
+
+					javascriptExecutor.executeScript(_CLEAR_STORAGE_SCRIPT);
+
+					Object storageLength = javascriptExecutor.executeScript(
+						_STORAGE_LENGTH_SCRIPT);
+
+					if (!Objects.equals(storageLength, 0L)) {
+						return false;
+					}
+				}
+
+				Set<Cookie> cookies = options.getCookies();
+
+				if (!cookies.isEmpty()) {
+					return false;
+				}
+
+				origins.clear();
+			}
+
+			webDriver.get(_BLANK_URL);
+
+			_historyLengths.put(webDriver, _getHistoryLength(webDriver));
+
+			AtomicInteger navigationCount = _getNavigationCount(webDriver);
+
+			navigationCount.set(0);
+
+			Dimension windowSize = _windowSizes.get(webDriver);
+
+			if (windowSize != null) {
+				WebDriver.Window window = options.window();
+
+				window.setSize(windowSize);
+			}
+
+			return true;
+		}
+		catch (WebDriverException webDriverException) {
+			return false;
+		}
+	}
+
+	private static void _addVisitedOrigin(Set<String> origins, String url) {
+		try {
+			URL originURL = new URL(url);
+
+			String protocol = originURL.getProtocol();
+
+			if (!protocol.equals("http") && !protocol.equals("https")) {
+				return;
+			}
+
+			StringBuilder sb = new StringBuilder();
+
+			sb.append(protocol);
+			sb.append("://");
+			sb.append(originURL.getHost());
+
+			if (originURL.getPort() != -1) {
+				sb.append(":");
+				sb.append(originURL.getPort());
+			}
+
+			origins.add(sb.toString());
+		}
+		catch (MalformedURLException malformedURLException) {
+		}
+	}
+
+	private static long _getHistoryLength(WebDriver webDriver) {
+		if (!(webDriver instanceof JavascriptExecutor)) {
+			return -1;
+		}
+
+		JavascriptExecutor javascriptExecutor = (JavascriptExecutor)webDriver;
+
+		Object historyLength = javascriptExecutor.executeScript(
+			_HISTORY_LENGTH_SCRIPT);
+
+		if (historyLength instanceof Number) {
+			Number number = (Number)historyLength;
+
+			return number.longValue();
+		}
+
+		return -1;
+	}
+
+	private static AtomicInteger _getNavigationCount(WebDriver webDriver) {
+		synchronized (_navigationCounts) {
+			AtomicInteger navigationCount = _navigationCounts.get(webDriver);
+
+			if (navigationCount == null) {
+				navigationCount = new AtomicInteger();
+
+				_navigationCounts.put(webDriver, navigationCount);
+			}
+
+			return navigationCount;
+		}
+	}
+
+	private static Set<String> _getVisitedOrigins(WebDriver webDriver) {
+		synchronized (_visitedOrigins) {
+			Set<String> origins = _visitedOrigins.get(webDriver);
+
+			if (origins == null) {
+				origins = Collections.synchronizedSet(
+					new LinkedHashSet<String>());
+
+				_visitedOrigins.put(webDriver, origins);
+			}
+
+			return origins;
+		}
+	}
+
+	private static boolean _hasCrossOriginFrame(WebDriver webDriver) {
+		if (!(webDriver instanceof JavascriptExecutor)) {
+			return true;
+		}
+
+		JavascriptExecutor javascriptExecutor = (JavascriptExecutor)webDriver;
+
+		Object crossOriginFrame = javascriptExecutor.executeScript(
+			_CROSS_ORIGIN_FRAME_SCRIPT);
+
+		return !Boolean.FALSE.equals(crossOriginFrame);
+	}
+
+	private static boolean _hasOnlyCountedNavigations(WebDriver webDriver) {
+		long historyLength = _getHistoryLength(webDriver);
+
+		if ((historyLength < 0) || (historyLength >= _MAX_HISTORY_LENGTH)) {
+			return false;
+		}
+
+		Long initialHistoryLength = _historyLengths.get(webDriver);
+
+		if (initialHistoryLength == null) {
+			initialHistoryLength = 1L;
+		}
+
+		AtomicInteger navigationCount = _getNavigationCount(webDriver);
+
+		if (historyLength > (initialHistoryLength + navigationCount.get())) {
+			return false;
+		}
+
+		return true;
+	}
+
+	private static void _quit(WebDriver webDriver) {
+		try {
+			webDriver.quit();
+		}
+		catch (WebDriverException webDriverException) {
+		}
+	}
+
+	private static final String _BLANK_URL = "about:blank";
+
+	private static final String _CLEAR_STORAGE_SCRIPT =
+		"try {window.localStorage.clear();} catch (e) {}" +
+			"try {window.sessionStorage.clear();} catch (e) {}";
+
+	private static final String _CROSS_ORIGIN_FRAME_SCRIPT =
+		"for (var i = 0; i < window.frames.length; i++) {try {var origin = " +
+			"window.frames[i].location.origin; if ((origin !== 'null') && " +
+				"(origin !== window.location.origin)) {return true;}} catch " +
+					"(e) {return true;}} return false;";
+
+	private static final String _HISTORY_LENGTH_SCRIPT =
+		"return window.history.length;";
+
+	private static final int _MAX_HISTORY_LENGTH = 50;
+
+	private static final String _STORAGE_LENGTH_SCRIPT =
+		"try {return window.localStorage.length + " +
+			"window.sessionStorage.length;} catch (e) {return 0;}";
+
+	private static final Map<WebDriver, Long> _historyLengths =
+		Collections.synchronizedMap(new WeakHashMap<WebDriver, Long>());
+	private static final Map<WebDriver, AtomicInteger> _navigationCounts =
+		Collections.synchronizedMap(
+			new WeakHashMap<WebDriver, AtomicInteger>());
+	private static final Map<WebDriver, Set<String>> _visitedOrigins =
+		Collections.synchronizedMap(new WeakHashMap<WebDriver, Set<String>>());
+	private static final BlockingQueue<WebDriver> _webDrivers =
+		new LinkedBlockingQueue<>(
+			Math.max(PropsValues.TEST_PARALLEL_THREADS, 1));
+	private static final Map<WebDriver, Dimension> _windowSizes =
+		Collections.synchronizedMap(new WeakHashMap<WebDriver, Dimension>());
+
+	static {
+		Runtime runtime = Runtime.getRuntime();
+
+		runtime.addShutdownHook(
+			new Thread() {
+
+				@Override
+				public void run() {
+					clear();
+				}
+
+			});
+	}
+
+}
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.poshi.runner.selenium;
 
+import com.liferay.poshi.runner.PoshiRunnerExecutionContext;
 import com.liferay.poshi.runner.util.OSDetector;
 import com.liferay.poshi.runner.util.PropsValues;
 import com.liferay.poshi.runner.util.StringPool;
@@ -55,15 +56,22 @@ import org.openqa.selenium.safari.SafariDriver;
 public class WebDriverUtil extends PropsValues {
 
 	public static WebDriver getWebDriver() {
-		return _webDriverUtil._getWebDriver();
+		return _getWebDriverUtil()._getWebDriver();
 	}
 
 	public static void startWebDriver() {
-		_webDriverUtil._startWebDriver();
+		_getWebDriverUtil()._startWebDriver();
 	}
 
 	public static void stopWebDriver() {
-		_webDriverUtil._stopWebDriver();
+		_getWebDriverUtil()._stopWebDriver();
+	}
+
+	private static WebDriverUtil _getWebDriverUtil() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getWebDriverUtil();
 	}
 
 	private WebDriver _getAndroidDriver() {
@@ -301,6 +309,14 @@ public class WebDriverUtil extends PropsValues {
 	}
 
 	private void _startWebDriver() {
+		if (SELENIUM_SESSION_POOL_ENABLED) {
+			_webDriver = WebDriverSessionPool.borrowWebDriver();
+
+			if (_webDriver != null) {
+				return;
+			}
+		}
+
 		if (BROWSER_TYPE.equals("android")) {
 			_webDriver = _getAndroidDriver();
 		}
@@ -354,14 +370,17 @@ public class WebDriverUtil extends PropsValues {
 
 	private void _stopWebDriver() {
 		if (_webDriver != null) {
-			_webDriver.quit();
+			if (SELENIUM_SESSION_POOL_ENABLED) {
+				WebDriverSessionPool.releaseWebDriver(_webDriver);
+			}
+			else {
+				_webDriver.quit();
+			}
 		}
 
 		_webDriver = null;
 	}
 
-	private static final WebDriverUtil _webDriverUtil = new WebDriverUtil();
-
 	private WebDriver _webDriver;
 
 }
\ No newline at end of file
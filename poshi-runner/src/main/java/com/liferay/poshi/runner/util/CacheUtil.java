@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.poshi.runner.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author Kenji Heigel
+ */
+public class CacheUtil {
+
+	/**
+	 * Returns a thread-safe map that evicts its least recently used entries
+	 * once it holds more than <code>maximumSize</code> entries. Keys and
+	 * values must not be <code>null</code>.
+	 */
+	public static <K, V> ConcurrentMap<K, V> createLRUMap(int maximumSize) {
+		CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+
+		cacheBuilder.maximumSize(maximumSize);
+
+		Cache<K, V> cache = cacheBuilder.build();
+
+		return cache.asMap();
+	}
+
+}
\ No newline at end of file
@@ -14,6 +14,8 @@
 
 package com.liferay.poshi.runner.util;
 
+import com.liferay.poshi.runner.PoshiRunnerExecutionContext;
+
 import com.sun.mail.imap.IMAPFolder;
 
 import java.util.Properties;
@@ -37,7 +39,43 @@ public class EmailCommands {
 			String emailAddress, String emailPassword)
 		throws Exception {
 
-		Properties imapProperties = System.getProperties();
+		_getEmailCommands()._connectToEmailAccount(emailAddress, emailPassword);
+	}
+
+	public static void deleteAllEmails() throws Exception {
+		_getEmailCommands()._deleteAllEmails();
+	}
+
+	public static String getEmailBody(int index) throws Exception {
+		return _getEmailCommands()._getEmailBody(index);
+	}
+
+	public static String getEmailSubject(int index) throws Exception {
+		return _getEmailCommands()._getEmailSubject(index);
+	}
+
+	public static void replyToEmail(String to, String body) throws Exception {
+		_getEmailCommands()._replyToEmail(to, body);
+	}
+
+	public static void sendEmail(String to, String subject, String body)
+		throws Exception {
+
+		_getEmailCommands()._sendEmail(to, subject, body);
+	}
+
+	private static EmailCommands _getEmailCommands() {
+		PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			PoshiRunnerExecutionContext.getCurrent();
+
+		return poshiRunnerExecutionContext.getEmailCommands();
+	}
+
+	private void _connectToEmailAccount(
+			String emailAddress, String emailPassword)
+		throws Exception {
+
+		Properties imapProperties = new Properties(System.getProperties());
 
 		imapProperties.setProperty("mail.store.protocol", "imaps");
 
@@ -51,7 +89,7 @@ public class EmailCommands {
 
 		_imapFolder.open(Folder.READ_WRITE);
 
-		Properties smtpProperties = System.getProperties();
+		Properties smtpProperties = new Properties(System.getProperties());
 
 		smtpProperties.put("mail.smtp.auth", "true");
 		smtpProperties.put("mail.smtp.host", "smtp.gmail.com");
@@ -60,14 +98,14 @@ public class EmailCommands {
 		smtpProperties.put("mail.smtp.starttls.enable", "true");
 		smtpProperties.put("mail.smtp.user", emailAddress);
 
-		_smtpSession = Session.getDefaultInstance(smtpProperties);
+		_smtpSession = Session.getInstance(smtpProperties);
 
 		_transport = _smtpSession.getTransport("smtp");
 
 		_transport.connect("smtp.gmail.com", emailAddress, emailPassword);
 	}
 
-	public static void deleteAllEmails() throws Exception {
+	private void _deleteAllEmails() throws Exception {
 		Message[] messages = _imapFolder.getMessages();
 
 		for (Message message : messages) {
@@ -77,7 +115,7 @@ public class EmailCommands {
 		_imapFolder.close(true);
 	}
 
-	public static String getEmailBody(int index) throws Exception {
+	private String _getEmailBody(int index) throws Exception {
 		Message message = _imapFolder.getMessage(index);
 
 		String body = (String)message.getContent();
@@ -85,13 +123,13 @@ public class EmailCommands {
 		return body.trim();
 	}
 
-	public static String getEmailSubject(int index) throws Exception {
+	private String _getEmailSubject(int index) throws Exception {
 		Message message = _imapFolder.getMessage(index);
 
 		return message.getSubject();
 	}
 
-	public static void replyToEmail(String to, String body) throws Exception {
+	private void _replyToEmail(String to, String body) throws Exception {
 		Message message = _imapFolder.getMessage(1);
 
 		Message replyMessage = message.reply(false);
@@ -107,7 +145,7 @@ public class EmailCommands {
 		_transport.close();
 	}
 
-	public static void sendEmail(String to, String subject, String body)
+	private void _sendEmail(String to, String subject, String body)
 		throws Exception {
 
 		Message message = new MimeMessage(_smtpSession);
@@ -124,9 +162,9 @@ public class EmailCommands {
 		_transport.close();
 	}
 
-	private static IMAPFolder _imapFolder;
-	private static Session _imapSession;
-	private static Session _smtpSession;
-	private static Transport _transport;
+	private IMAPFolder _imapFolder;
+	private Session _imapSession;
+	private Session _smtpSession;
+	private Transport _transport;
 
 }
\ No newline at end of file
@@ -36,7 +36,11 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.commons.io.FileUtils;
 
@@ -123,16 +127,30 @@ public class FileUtil {
 			FileSystem fileSystem, String[] includes, String baseDirName)
 		throws IOException {
 
-		final List<PathMatcher> pathMatchers = new ArrayList<>();
+		final List<URL> urls = new ArrayList<>();
 
-		for (String include : includes) {
-			pathMatchers.add(fileSystem.getPathMatcher("glob:" + include));
-		}
+		getIncludedResourceURLs(
+			fileSystem, includes, null, baseDirName,
+			new Consumer<URL>() {
+
+				@Override
+				public void accept(URL url) {
+					urls.add(url);
+				}
 
-		final List<URL> filePaths = new ArrayList<>();
+			});
+
+		return urls;
+	}
+
+	public static void getIncludedResourceURLs(
+			FileSystem fileSystem, String[] includes,
+			String[] excludedDirNames, String baseDirName,
+			final Consumer<URL> consumer)
+		throws IOException {
 
 		if (Validator.isNull(baseDirName)) {
-			return filePaths;
+			return;
 		}
 
 		Path path = fileSystem.getPath(baseDirName);
@@ -140,34 +158,53 @@ public class FileUtil {
 		if (!Files.exists(path)) {
 			System.out.println("Directory " + baseDirName + " does not exist.");
 
-			return filePaths;
+			return;
 		}
 
+		final PathMatcher pathMatcher = _getPathMatcher(fileSystem, includes);
+
+		final Set<String> excludedDirNamesSet = new HashSet<>();
+
+		if (excludedDirNames != null) {
+			Collections.addAll(excludedDirNamesSet, excludedDirNames);
+		}
+
+		final Path basePath = path;
+
 		Files.walkFileTree(
 			path,
 			new SimpleFileVisitor<Path>() {
 
+				@Override
+				public FileVisitResult preVisitDirectory(
+					Path dirPath, BasicFileAttributes basicFileAttributes) {
+
+					Path dirFileName = dirPath.getFileName();
+
+					if (!dirPath.equals(basePath) && (dirFileName != null) &&
+						excludedDirNamesSet.contains(dirFileName.toString())) {
+
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+
+					return FileVisitResult.CONTINUE;
+				}
+
 				@Override
 				public FileVisitResult visitFile(
 						Path filePath, BasicFileAttributes basicFileAttributes)
 					throws IOException {
 
-					for (PathMatcher pathMatcher : pathMatchers) {
+					if (pathMatcher.matches(filePath)) {
 						URI uri = filePath.toUri();
 
-						if (pathMatcher.matches(filePath)) {
-							filePaths.add(uri.toURL());
-
-							break;
-						}
+						consumer.accept(uri.toURL());
 					}
 
 					return FileVisitResult.CONTINUE;
 				}
 
 			});
-
-		return filePaths;
 	}
 
 	public static List<URL> getIncludedResourceURLs(
@@ -178,6 +215,16 @@ public class FileUtil {
 			FileSystems.getDefault(), includes, baseDirName);
 	}
 
+	public static void getIncludedResourceURLs(
+			String[] includes, String[] excludedDirNames, String baseDirName,
+			Consumer<URL> consumer)
+		throws IOException {
+
+		getIncludedResourceURLs(
+			FileSystems.getDefault(), includes, excludedDirNames, baseDirName,
+			consumer);
+	}
+
 	public static String getSeparator() {
 		return File.separator;
 	}
@@ -240,4 +287,46 @@ public class FileUtil {
 		write(file, string);
 	}
 
+	private static PathMatcher _getPathMatcher(
+		FileSystem fileSystem, String[] includes) {
+
+		boolean combinable = true;
+
+		for (String include : includes) {
+			if (include.contains("{") || include.contains("}") ||
+				include.contains(",")) {
+
+				combinable = false;
+
+				break;
+			}
+		}
+
+		if (combinable) {
+			return fileSystem.getPathMatcher(
+				"glob:{" + StringUtil.join(includes, ",") + "}");
+		}
+
+		final List<PathMatcher> pathMatchers = new ArrayList<>();
+
+		for (String include : includes) {
+			pathMatchers.add(fileSystem.getPathMatcher("glob:" + include));
+		}
+
+		return new PathMatcher() {
+
+			@Override
+			public boolean matches(Path path) {
+				for (PathMatcher pathMatcher : pathMatchers) {
+					if (pathMatcher.matches(path)) {
+						return true;
+					}
+				}
+
+				return false;
+			}
+
+		};
+	}
+
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Brian Wing Shun Chan
@@ -42,6 +43,89 @@ public class ListUtil {
 		return false;
 	}
 
+	public static <E> List<List<E>> partition(
+		List<E> list, int size, final Map<E, Long> weights) {
+
+		long defaultWeight = 1;
+		int weightCount = 0;
+		long weightTotal = 0;
+
+		for (E element : list) {
+			Long weight = weights.get(element);
+
+			if (weight != null) {
+				weightCount++;
+				weightTotal += weight;
+			}
+		}
+
+		if (weightCount > 0) {
+			defaultWeight = Math.max(weightTotal / weightCount, 1);
+		}
+
+		final long finalDefaultWeight = defaultWeight;
+
+		List<E> sortedList = sort(
+			list,
+			new Comparator<E>() {
+
+				@Override
+				public int compare(E element1, E element2) {
+					return Long.compare(
+						_getWeight(element2), _getWeight(element1));
+				}
+
+				private long _getWeight(E element) {
+					Long weight = weights.get(element);
+
+					if (weight == null) {
+						return finalDefaultWeight;
+					}
+
+					return weight;
+				}
+
+			});
+
+		int partitionCount = (list.size() + size - 1) / size;
+
+		List<List<E>> partitions = new ArrayList<>(partitionCount);
+		long[] partitionWeights = new long[partitionCount];
+
+		for (int i = 0; i < partitionCount; i++) {
+			partitions.add(new ArrayList<E>());
+		}
+
+		for (E element : sortedList) {
+			int index = -1;
+
+			for (int i = 0; i < partitionCount; i++) {
+				List<E> partition = partitions.get(i);
+
+				if ((partition.size() < size) &&
+					((index == -1) ||
+					 (partitionWeights[i] < partitionWeights[index]))) {
+
+					index = i;
+				}
+			}
+
+			List<E> partition = partitions.get(index);
+
+			partition.add(element);
+
+			Long weight = weights.get(element);
+
+			if (weight == null) {
+				weight = defaultWeight;
+			}
+
+			partitionWeights[index] += weight;
+		}
+
+		return partitions;
+	}
+
 	public static <E> List<E> sort(List<E> list) {
 		return sort(list, null);
 	}
@@ -87,9 +87,20 @@ public class PropsValues {
 	public static final boolean SAVE_WEB_PAGE = GetterUtil.getBoolean(
 		PropsUtil.get("save.web.page"));
 
+	public static final boolean SELENIUM_BATCHED_EVALUATION_ENABLED =
+		GetterUtil.getBoolean(
+			PropsUtil.get("selenium.batched.evaluation.enabled"));
+
 	public static final String SELENIUM_CHROME_DRIVER_EXECUTABLE =
 		PropsUtil.get("selenium.chrome.driver.executable");
 
+	public static final int SELENIUM_COMMAND_MAX_THREADS =
+		GetterUtil.getInteger(PropsUtil.get("selenium.command.max.threads"), 4);
+
+	public static final boolean SELENIUM_COMMAND_VIRTUAL_THREADS =
+		GetterUtil.getBoolean(
+			PropsUtil.get("selenium.command.virtual.threads"));
+
 	public static final String SELENIUM_DESIRED_CAPABILITIES_PLATFORM =
 		PropsUtil.get("selenium.desired.capabilities.platform");
 
@@ -108,6 +119,20 @@ public class PropsValues {
 	public static final String SELENIUM_REMOTE_DRIVER_HUB = PropsUtil.get(
 		"selenium.remote.driver.hub");
 
+	public static final boolean SELENIUM_SESSION_POOL_ENABLED =
+		GetterUtil.getBoolean(PropsUtil.get("selenium.session.pool.enabled"));
+
+	public static final int SELENIUM_WAIT_INITIAL_INTERVAL =
+		GetterUtil.getInteger(
+			PropsUtil.get("selenium.wait.initial.interval"), 10);
+
+	public static final int SELENIUM_WAIT_MAX_INTERVAL = GetterUtil.getInteger(
+		PropsUtil.get("selenium.wait.max.interval"), 1000);
+
+	public static final boolean SELENIUM_WAIT_MUTATION_OBSERVER_ENABLED =
+		GetterUtil.getBoolean(
+			PropsUtil.get("selenium.wait.mutation.observer.enabled"));
+
 	public static final String TCAT_ADMIN_REPOSITORY = PropsUtil.get(
 		"tcat.admin.repository");
 
@@ -126,6 +151,9 @@ public class PropsValues {
 	public static final String TEST_BASE_DIR_NAME = PropsUtil.get(
 		"test.base.dir.name");
 
+	public static final String TEST_BATCH_DURATIONS_FILE_NAME = PropsUtil.get(
+		"test.batch.durations.file.name");
+
 	public static final String TEST_BATCH_GROUP_IGNORE_REGEX = PropsUtil.get(
 		"test.batch.group.ignore.regex");
 
@@ -165,11 +193,29 @@ public class PropsValues {
 	public static final String TEST_DEPENDENCIES_DIR_NAME = PropsUtil.get(
 		"test.dependencies.dir.name");
 
+	public static final String[] TEST_EXCLUDE_DIR_NAMES = StringUtil.split(
+		PropsUtil.get("test.exclude.dir.names"));
+
 	public static final String[] TEST_INCLUDE_DIR_NAMES = StringUtil.split(
 		PropsUtil.get("test.include.dir.names"));
 
 	public static final String TEST_NAME = PropsUtil.get("test.name");
 
+	public static final int TEST_PARALLEL_THREADS = GetterUtil.getInteger(
+		PropsUtil.get("test.parallel.threads"), 1);
+
+	public static final String TEST_POSHI_FILE_CACHE_DIR_NAME = PropsUtil.get(
+		"test.poshi.file.cache.dir.name");
+
+	public static final boolean TEST_POSHI_LAZY_LOADING =
+		GetterUtil.getBoolean(PropsUtil.get("test.poshi.lazy.loading"));
+
+	public static final String TEST_POSHI_METRICS_FILE_NAME = PropsUtil.get(
+		"test.poshi.metrics.file.name");
+
+	public static final String TEST_POSHI_METRICS_FORMAT = GetterUtil.getString(
+		PropsUtil.get("test.poshi.metrics.format"), "json");
+
 	public static final boolean TEST_POSHI_SCRIPT_VALIDATION =
 		GetterUtil.getBoolean(PropsUtil.get("test.poshi.script.validation"));
 
@@ -0,0 +1,315 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.poshi.runner;
+
+import com.liferay.poshi.runner.util.FileUtil;
+import com.liferay.poshi.runner.util.PropsValues;
+
+import java.io.File;
+
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.ArrayUtils;
+
+import org.dom4j.Element;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerContextLazyLoadingTest {
+
+	@Before
+	public void setUp() throws Exception {
+		PoshiRunnerContext.setLazyLoading(true);
+
+		_testBaseDir = Files.createTempDirectory(
+			"poshi-lazy-loading").toFile();
+
+		FileUtils.copyDirectory(new File(_BASE_DIR), _testBaseDir);
+
+		FileUtil.write(
+			new File(_testBaseDir, "Macro5.macro"),
+			"<definition>\n\t<command name=\"test\">\n\t\t<echo message=" +
+				"\"Do not override prose\" />\n\t</command>\n</definition>");
+
+		PoshiRunnerContext.readFiles(
+			_POSHI_FILE_INCLUDES, _testBaseDir.getCanonicalPath());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		PoshiRunnerContext.clear();
+
+		PoshiRunnerContext.setLazyLoading(PropsValues.TEST_POSHI_LAZY_LOADING);
+
+		FileUtils.deleteDirectory(_testBaseDir);
+	}
+
+	@Test
+	public void testGetList() throws Exception {
+		File testDir = Files.createTempDirectory(
+			"poshi-lazy-loading-get-list").toFile();
+
+		try {
+			FileUtils.copyFileToDirectory(
+				new File(_testBaseDir, "Click.function"), testDir);
+
+			String className =
+				PoshiRunnerGetterUtil.
+					getClassNameFromNamespacedClassCommandName(
+						PropsValues.TEST_NAME);
+			String commandName =
+				PoshiRunnerGetterUtil.
+					getCommandNameFromNamespacedClassCommandName(
+						PropsValues.TEST_NAME);
+
+			FileUtil.write(
+				new File(testDir, className + ".testcase"),
+				"<definition component-name=\"portal-smoke\">\n\t<command " +
+					"name=\"" + commandName + "\">\n\t\t<execute " +
+						"function=\"Click\" locator1=\"//a\" />\n\t" +
+							"</command>\n</definition>");
+			FileUtil.write(
+				new File(testDir, "Unused.macro"),
+				"<definition>\n\t<command name=\"test\">\n\t\t<foo />" +
+					"\n\t</command>\n</definition>");
+
+			PoshiRunnerContext.clear();
+
+			PoshiRunnerContext.readFiles(
+				_POSHI_FILE_INCLUDES, testDir.getCanonicalPath());
+
+			List<String> namespacedClassCommandNames = PoshiRunner.getList();
+
+			Assert.assertEquals(
+				"Unexpected test names",
+				Arrays.asList(
+					_NAMESPACE + "." + className + "#" + commandName),
+				namespacedClassCommandNames);
+
+			Assert.assertTrue(
+				"Unused macro file was loaded",
+				PoshiRunnerContext.isLazyRootElement(
+					"macro", "Unused", _NAMESPACE));
+		}
+		finally {
+			FileUtils.deleteDirectory(testDir);
+		}
+	}
+
+	@Test
+	public void testLoadLazyExtendedPathLocator() throws Exception {
+		Assert.assertTrue(
+			"Extended path file was loaded on startup",
+			PoshiRunnerContext.isLazyRootElement(
+				"path", "Action2", _NAMESPACE));
+
+		Assert.assertEquals(
+			"Extended path locator does not match", "//input[@class='Title']",
+			PoshiRunnerContext.getPathLocator(
+				"Action1#TEST_TITLE", _NAMESPACE));
+
+		Assert.assertFalse(
+			"Extended path file was not loaded",
+			PoshiRunnerContext.isLazyRootElement(
+				"path", "Action2", _NAMESPACE));
+	}
+
+	@Test
+	public void testLoadLazyOverriddenRootElement() throws Exception {
+		File overrideDir = Files.createTempDirectory(
+			"poshi-lazy-loading-override").toFile();
+
+		try {
+			FileUtil.write(
+				new File(overrideDir, "Click.function"),
+				"<definition default=\"click\" override=\"" + _NAMESPACE +
+					".Click\">\n\t<command name=\"click\">\n\t\t<execute " +
+						"selenium=\"click\" />\n\t</command>\n</definition>");
+
+			PoshiRunnerContext.clear();
+
+			PoshiRunnerContext.readFiles(
+				_POSHI_FILE_INCLUDES, _testBaseDir.getCanonicalPath(),
+				overrideDir.getCanonicalPath());
+
+			Assert.assertFalse(
+				"Overridden function file was not loaded on startup",
+				PoshiRunnerContext.isLazyRootElement(
+					"function", "Click", _NAMESPACE));
+
+			Element commandElement =
+				PoshiRunnerContext.getFunctionCommandElement(
+					"Click#click", _NAMESPACE);
+
+			List<Element> executeElements = commandElement.elements(
+				"execute");
+
+			Assert.assertEquals(
+				"Overriding command was replaced", 1, executeElements.size());
+
+			Assert.assertNotNull(
+				"Command that is not overridden was not loaded",
+				PoshiRunnerContext.getFunctionCommandElement(
+					"Click#clickAt", _NAMESPACE));
+		}
+		finally {
+			FileUtils.deleteDirectory(overrideDir);
+		}
+	}
+
+	@Test
+	public void testLoadLazyRootElement() throws Exception {
+		Assert.assertTrue(
+			"Function file was loaded on startup",
+			PoshiRunnerContext.isLazyRootElement(
+				"function", "Click", _NAMESPACE));
+		Assert.assertTrue(
+			"Macro file with override and prose text was loaded on startup",
+			PoshiRunnerContext.isLazyRootElement(
+				"macro", "Macro5", _NAMESPACE));
+
+		Assert.assertNotNull(
+			"Lazy function command was not loaded",
+			PoshiRunnerContext.getFunctionCommandElement(
+				"Click#click", _NAMESPACE));
+
+		Assert.assertFalse(
+			"Function file is still lazy after it was loaded",
+			PoshiRunnerContext.isLazyRootElement(
+				"function", "Click", _NAMESPACE));
+	}
+
+	@Test
+	public void testLoadLazyRootElementConcurrently() throws Exception {
+		int threadCount = 8;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			threadCount);
+
+		try {
+			final CountDownLatch countDownLatch = new CountDownLatch(1);
+
+			List<Future<Element>> futures = new ArrayList<>();
+
+			for (int i = 0; i < threadCount; i++) {
+				futures.add(
+					executorService.submit(
+						new Callable<Element>() {
+
+							@Override
+							public Element call() throws Exception {
+								countDownLatch.await();
+
+								return PoshiRunnerContext.getMacroRootElement(
+									"Macro5", _NAMESPACE);
+							}
+
+						}));
+			}
+
+			countDownLatch.countDown();
+
+			Element rootElement = PoshiRunnerContext.getMacroRootElement(
+				"Macro5", _NAMESPACE);
+
+			Assert.assertNotNull("Lazy macro file was not loaded", rootElement);
+
+			for (Future<Element> future : futures) {
+				Assert.assertSame(
+					"Lazy macro file was loaded more than once", rootElement,
+					future.get());
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLoadLazyRootElementParseFailure() throws Exception {
+		FileUtil.write(
+			new File(_testBaseDir, "Broken.function"),
+			"<definition default=\"click\">\n\t<command name=\"click\">\n" +
+				"</definition>");
+
+		PoshiRunnerContext.clear();
+
+		PoshiRunnerContext.readFiles(
+			_POSHI_FILE_INCLUDES, _testBaseDir.getCanonicalPath());
+
+		for (int i = 0; i < 2; i++) {
+			try {
+				PoshiRunnerContext.getFunctionCommandElement(
+					"Broken#click", _NAMESPACE);
+
+				Assert.fail("Malformed function file was loaded");
+			}
+			catch (RuntimeException runtimeException) {
+				Assert.assertNotNull(
+					"Parse failure was not rethrown",
+					runtimeException.getCause());
+			}
+		}
+	}
+
+	@Test
+	public void testLoadLazyRootElementValidationFailure() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			try {
+				PoshiRunnerContext.getMacroRootElement("Macro", _NAMESPACE);
+
+				Assert.fail("Invalid macro file was loaded");
+			}
+			catch (RuntimeException runtimeException) {
+				Assert.assertNotNull(
+					"Validation failure was not rethrown",
+					runtimeException.getCause());
+			}
+		}
+
+		Assert.assertTrue(
+			"Invalid macro file was marked as loaded",
+			PoshiRunnerContext.isLazyRootElement(
+				"macro", "Macro", _NAMESPACE));
+	}
+
+	private static final String _BASE_DIR =
+		"src/test/resources/com/liferay/poshi/runner/dependencies/test";
+
+	private static final String _NAMESPACE =
+		PoshiRunnerContext.getDefaultNamespace();
+
+	private static final String[] _POSHI_FILE_INCLUDES = ArrayUtils.addAll(
+		PoshiRunnerContext.POSHI_SUPPORT_FILE_INCLUDES,
+		PoshiRunnerContext.POSHI_TEST_FILE_INCLUDES);
+
+	private File _testBaseDir;
+
+}
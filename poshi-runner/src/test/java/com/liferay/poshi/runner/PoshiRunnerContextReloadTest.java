@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import com.liferay.poshi.runner.util.FileUtil;
+
+import java.io.File;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.ArrayUtils;
+
+import org.dom4j.Element;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerContextReloadTest {
+
+	@Before
+	public void setUp() throws Exception {
+		Path testBaseDirPath = Files.createTempDirectory("poshi-reload");
+
+		_testBaseDir = testBaseDirPath.toFile();
+
+		FileUtils.copyDirectory(new File(_BASE_DIR), _testBaseDir);
+
+		PoshiRunnerContext.readFiles(
+			_POSHI_FILE_INCLUDES, _testBaseDir.getCanonicalPath());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		PoshiRunnerContext.clear();
+
+		FileUtils.deleteDirectory(_testBaseDir);
+	}
+
+	@Test
+	public void testReloadDeletedFile() throws Exception {
+		File file = new File(_testBaseDir, "Action2.path");
+
+		Assert.assertTrue("Unable to delete " + file, file.delete());
+
+		PoshiRunnerContext.reloadFiles();
+
+		Assert.assertNull(
+			"Deleted path file is still loaded",
+			PoshiRunnerContext.getPathRootElement(
+				"Action2", PoshiRunnerContext.getDefaultNamespace()));
+
+		Assert.assertNotNull(
+			"Unchanged path file was not reloaded",
+			PoshiRunnerContext.getPathRootElement(
+				"Action1", PoshiRunnerContext.getDefaultNamespace()));
+	}
+
+	@Test
+	public void testReloadExtendedPathFile() throws Exception {
+		Assert.assertEquals(
+			"Extended path locator does not match", "//input[@class='Title']",
+			_getPathLocator("Action1#TEST_TITLE"));
+
+		File file = new File(_testBaseDir, "Action2.path");
+
+		String content = FileUtil.read(file);
+
+		content = content.replace(
+			"//input[@class='Title']", "//textarea[@class='Title']");
+
+		_write(file, content);
+
+		PoshiRunnerContext.reloadFiles();
+
+		Assert.assertEquals(
+			"Extended path locator was not reloaded",
+			"//textarea[@class='Title']",
+			_getPathLocator("Action1#TEST_TITLE"));
+	}
+
+	@Test
+	public void testReloadModifiedFile() throws Exception {
+		Element unchangedRootElement =
+			PoshiRunnerContext.getFunctionRootElement(
+				"Click", PoshiRunnerContext.getDefaultNamespace());
+
+		File file = new File(_testBaseDir, "Macro.macro");
+
+		String content = FileUtil.read(file);
+
+		content = content.replace(
+			"<command name=\"test2\">", "<command name=\"test4\">");
+
+		_write(file, content);
+
+		PoshiRunnerContext.reloadFiles();
+
+		Assert.assertNull(
+			"Removed macro command is still loaded",
+			PoshiRunnerContext.getMacroCommandElement(
+				"Macro#test2", PoshiRunnerContext.getDefaultNamespace()));
+
+		Element commandElement = PoshiRunnerContext.getMacroCommandElement(
+			"Macro#test4", PoshiRunnerContext.getDefaultNamespace());
+
+		Assert.assertNotNull(
+			"Added macro command was not loaded", commandElement);
+
+		Assert.assertSame(
+			"Unchanged file was parsed again", unchangedRootElement,
+			PoshiRunnerContext.getFunctionRootElement(
+				"Click", PoshiRunnerContext.getDefaultNamespace()));
+	}
+
+	@Test
+	public void testReloadNewFile() throws Exception {
+		File file = new File(_testBaseDir, "Macro3.macro");
+
+		_write(
+			file,
+			"<definition>\n\t<command name=\"test\" />\n</definition>");
+
+		PoshiRunnerContext.reloadFiles();
+
+		Assert.assertNotNull(
+			"New macro file was not loaded",
+			PoshiRunnerContext.getMacroCommandElement(
+				"Macro3#test", PoshiRunnerContext.getDefaultNamespace()));
+	}
+
+	@Test
+	public void testReloadNewFunctionFile() throws Exception {
+		_write(
+			new File(_testBaseDir, "Hover.function"),
+			"<definition default=\"hover\">\n\t<command name=\"hover\" " +
+				"/>\n</definition>");
+		_write(
+			new File(_testBaseDir, "Macro4.macro"),
+			"definition {\n\tmacro hover {\n\t\tHover(locator1 = " +
+				"\"Action1#TEST_TITLE\");\n\t}\n}");
+
+		PoshiRunnerContext.reloadFiles();
+
+		Assert.assertTrue(
+			"New function file name was not stored",
+			PoshiRunnerContext.getFunctionFileNames().contains("Hover"));
+
+		Element commandElement = PoshiRunnerContext.getMacroCommandElement(
+			"Macro4#hover", PoshiRunnerContext.getDefaultNamespace());
+
+		Assert.assertNotNull("New macro file was not loaded", commandElement);
+
+		Element executeElement = commandElement.element("execute");
+
+		Assert.assertEquals(
+			"Function call was not parsed as a function", "Hover",
+			executeElement.attributeValue("function"));
+	}
+
+	private String _getPathLocator(String pathLocatorKey) {
+		return PoshiRunnerContext.getPathLocator(
+			pathLocatorKey, PoshiRunnerContext.getDefaultNamespace());
+	}
+
+	private void _write(File file, String content) throws Exception {
+		long lastModifiedTime = file.lastModified();
+
+		FileUtil.write(file, content);
+
+		file.setLastModified(lastModifiedTime + 1000);
+	}
+
+	private static final String _BASE_DIR =
+		"src/test/resources/com/liferay/poshi/runner/dependencies/test";
+
+	private static final String[] _POSHI_FILE_INCLUDES = ArrayUtils.addAll(
+		PoshiRunnerContext.POSHI_SUPPORT_FILE_INCLUDES,
+		PoshiRunnerContext.POSHI_TEST_FILE_INCLUDES);
+
+	private File _testBaseDir;
+
+}
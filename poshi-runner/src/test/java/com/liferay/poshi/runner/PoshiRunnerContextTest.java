@@ -14,10 +14,21 @@
 
 package com.liferay.poshi.runner;
 
+import com.liferay.poshi.runner.selenium.LiferaySelenium;
 import com.liferay.poshi.runner.util.FileUtil;
 
 import java.io.File;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import junit.framework.TestCase;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -124,6 +135,34 @@ public class PoshiRunnerContextTest extends TestCase {
 			"getPathLocator is failing", "//input[@class='Content']", locator);
 	}
 
+	@Test
+	public void testGetSeleniumMethodHandle() throws Throwable {
+		MethodHandle methodHandle = PoshiRunnerContext.getSeleniumMethodHandle(
+			"getAttribute");
+
+		LiferaySelenium liferaySelenium =
+			(LiferaySelenium)Proxy.newProxyInstance(
+				LiferaySelenium.class.getClassLoader(),
+				new Class<?>[] {LiferaySelenium.class},
+				new InvocationHandler() {
+
+					@Override
+					public Object invoke(
+						Object proxy, Method method, Object[] args) {
+
+						return method.getName() + Arrays.toString(args);
+					}
+
+				});
+
+		Object returnObject = methodHandle.invokeExact(
+			liferaySelenium, new String[] {"//a@href"});
+
+		Assert.assertEquals(
+			"getSeleniumMethodHandle is failing", "getAttribute[//a@href]",
+			returnObject);
+	}
+
 	@Test
 	public void testGetSeleniumParameterCount() {
 		int count = PoshiRunnerContext.getSeleniumParameterCount("clickAt");
@@ -155,4 +194,42 @@ public class PoshiRunnerContextTest extends TestCase {
 			element.getName());
 	}
 
+	@Test
+	public void testPartitionTestBatchSequentialGroup() {
+		Map<String, Long> testDurations = new HashMap<>();
+
+		testDurations.put("A", 80L);
+		testDurations.put("B", 70L);
+		testDurations.put("C", 60L);
+		testDurations.put("D", 50L);
+		testDurations.put("E", 40L);
+		testDurations.put("F", 30L);
+		testDurations.put("G", 20L);
+		testDurations.put("H", 10L);
+
+		List<List<List<String>>> groups =
+			PoshiRunnerContext.partitionTestBatchSequentialGroup(
+				Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H"), 8, 2,
+				testDurations);
+
+		Assert.assertEquals("Group count does not match", 1, groups.size());
+
+		List<List<String>> subgroups = groups.get(0);
+
+		Assert.assertEquals(
+			"Subgroup count does not match", 4, subgroups.size());
+
+		for (List<String> subgroup : subgroups) {
+			long subgroupDuration = 0;
+
+			for (String testName : subgroup) {
+				subgroupDuration += testDurations.get(testName);
+			}
+
+			Assert.assertEquals(
+				"Subgroup " + subgroup + " is not balanced", 90,
+				subgroupDuration);
+		}
+	}
+
 }
\ No newline at end of file
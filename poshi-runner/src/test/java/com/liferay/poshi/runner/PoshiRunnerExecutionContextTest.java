@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerExecutionContextTest {
+
+	@AfterClass
+	public static void tearDownClass() {
+		_executorService.shutdown();
+	}
+
+	@After
+	public void tearDown() {
+		PoshiRunnerExecutionContext.setCurrent(null);
+	}
+
+	@Test
+	public void testSetCurrent() throws Exception {
+		PoshiRunnerExecutionContext.setCurrent(
+			new PoshiRunnerExecutionContext());
+
+		PoshiRunnerVariablesUtil.putIntoCommandMap("name", "main");
+
+		Future<Object> future = _executorService.submit(
+			new Callable<Object>() {
+
+				@Override
+				public Object call() throws Exception {
+					PoshiRunnerExecutionContext.setCurrent(
+						new PoshiRunnerExecutionContext());
+
+					try {
+						PoshiRunnerVariablesUtil.putIntoCommandMap(
+							"name", "worker");
+
+						return PoshiRunnerVariablesUtil.getValueFromCommandMap(
+							"name");
+					}
+					finally {
+						PoshiRunnerExecutionContext.setCurrent(null);
+					}
+				}
+
+			});
+
+		Assert.assertEquals(
+			"Variable was not set in the worker context", "worker",
+			future.get());
+
+		Assert.assertEquals(
+			"Variable leaked between execution contexts", "main",
+			PoshiRunnerVariablesUtil.getValueFromCommandMap("name"));
+	}
+
+	@Test
+	public void testWrap() throws Exception {
+		final PoshiRunnerExecutionContext poshiRunnerExecutionContext =
+			new PoshiRunnerExecutionContext();
+
+		PoshiRunnerExecutionContext.setCurrent(poshiRunnerExecutionContext);
+
+		PoshiRunnerContext.setTestCaseNamespacedClassCommandName(
+			"LocalFile.Test#test");
+
+		Future<PoshiRunnerExecutionContext> future = _executorService.submit(
+			PoshiRunnerExecutionContext.wrap(
+				new Callable<PoshiRunnerExecutionContext>() {
+
+					@Override
+					public PoshiRunnerExecutionContext call() {
+						Assert.assertEquals(
+							"Test case name was not propagated",
+							"LocalFile.Test#test",
+							PoshiRunnerContext.
+								getTestCaseNamespacedClassCommandName());
+
+						return PoshiRunnerExecutionContext.getCurrent();
+					}
+
+				}));
+
+		Assert.assertSame(
+			"Execution context was not propagated", poshiRunnerExecutionContext,
+			future.get());
+
+		future = _executorService.submit(
+			new Callable<PoshiRunnerExecutionContext>() {
+
+				@Override
+				public PoshiRunnerExecutionContext call() {
+					return PoshiRunnerExecutionContext.getCurrent();
+				}
+
+			});
+
+		Assert.assertNotSame(
+			"Execution context was not unbound after the wrapped call",
+			poshiRunnerExecutionContext, future.get());
+	}
+
+	private static final ExecutorService _executorService =
+		Executors.newSingleThreadExecutor();
+
+}
@@ -14,6 +14,10 @@
 
 package com.liferay.poshi.runner;
 
+import com.liferay.poshi.runner.util.FileUtil;
+
+import java.io.File;
+
 import java.net.URL;
 
 import junit.framework.TestCase;
@@ -90,6 +94,64 @@ public class PoshiRunnerGetterUtilTest extends TestCase {
 			rootElement.getName());
 	}
 
+	@Test
+	public void testGetRootElementFromURLInvalidTag() throws Exception {
+		URL url = _getURL(
+			"Invalid.macro",
+			"<definition>\n\t<command name=\"test\">\n\t\t<bogus />\n" +
+				"\t</command>\n</definition>");
+
+		try {
+			PoshiRunnerGetterUtil.getRootElementFromURL(url, false);
+
+			Assert.fail("getRootElementFromURL did not reject an invalid tag");
+		}
+		catch (Exception exception) {
+			Assert.assertEquals(
+				"getRootElementFromURL is failing",
+				"Invalid \"bogus\" tag\n" + url.getFile() + ":3",
+				exception.getMessage());
+		}
+	}
+
+	@Test
+	public void testGetRootElementFromURLLineNumbers() throws Exception {
+		URL url = _getURL(
+			"LineNumbers.macro",
+			"<definition>\n\t<command\n\t\tname=\"test\"\n" +
+				"\t\tsummary=\"Summary\n\t\tcontinues\">\n" +
+					"\t\t<var name=\"var\"><![CDATA[a\nb]]></var>\n" +
+						"\t</command>\n</definition>");
+
+		Element rootElement = PoshiRunnerGetterUtil.getRootElementFromURL(
+			url, false);
+
+		Element commandElement = rootElement.element("command");
+
+		Assert.assertEquals(
+			"getRootElementFromURL is failing", "Summary  continues",
+			commandElement.attributeValue("summary"));
+		Assert.assertNull(
+			"getRootElementFromURL is failing",
+			commandElement.attributeValue("line-number"));
+
+		rootElement = PoshiRunnerGetterUtil.getRootElementFromURL(url);
+
+		commandElement = rootElement.element("command");
+
+		Assert.assertEquals(
+			"getRootElementFromURL is failing", "2",
+			commandElement.attributeValue("line-number"));
+
+		Element varElement = commandElement.element("var");
+
+		Assert.assertEquals(
+			"getRootElementFromURL is failing", "6",
+			varElement.attributeValue("line-number"));
+		Assert.assertEquals(
+			"getRootElementFromURL is failing", "a\nb", varElement.getText());
+	}
+
 	@Test
 	public void testGetVarMethodValue() throws Exception {
 		Object value = PoshiRunnerGetterUtil.getVarMethodValue(
@@ -106,4 +168,16 @@ public class PoshiRunnerGetterUtilTest extends TestCase {
 		Assert.assertEquals("getVarMethodValue is failing", true, value);
 	}
 
+	private URL _getURL(String fileName, String content) throws Exception {
+		File file = new File(
+			System.getProperty("java.io.tmpdir"),
+			"poshi-" + System.nanoTime() + "/" + fileName);
+
+		file.deleteOnExit();
+
+		FileUtil.write(file, content);
+
+		return FileUtil.getURL(file);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import com.liferay.poshi.runner.util.Dom4JUtil;
+
+import java.util.List;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import org.dom4j.Element;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerInstructionTest {
+
+	@Before
+	public void setUp() throws Exception {
+		PoshiRunnerContext.readFiles(_POSHI_FILE_INCLUDES, _BASE_DIR);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		PoshiRunnerContext.clear();
+	}
+
+	@Test
+	public void testCompile() throws Exception {
+		Element commandElement = PoshiRunnerContext.getMacroCommandElement(
+			"Macro#test2", PoshiRunnerContext.getDefaultNamespace());
+
+		PoshiRunnerInstruction poshiRunnerInstruction =
+			PoshiRunnerInstruction.compile(commandElement);
+
+		Assert.assertSame(
+			"Compiled instruction was not reused", poshiRunnerInstruction,
+			PoshiRunnerInstruction.compile(commandElement));
+
+		List<PoshiRunnerInstruction> childInstructions =
+			poshiRunnerInstruction.getChildInstructions();
+
+		Assert.assertEquals(
+			"Unexpected child instruction count", 2, childInstructions.size());
+
+		PoshiRunnerInstruction macroInstruction = childInstructions.get(0);
+
+		Assert.assertEquals(
+			"Unexpected instruction type",
+			PoshiRunnerInstruction.Type.EXECUTE_MACRO,
+			macroInstruction.getType());
+		Assert.assertEquals(
+			"Unexpected class command name", "Macro2#test",
+			macroInstruction.getClassCommandName());
+
+		PoshiRunnerInstruction functionInstruction = childInstructions.get(1);
+
+		Assert.assertEquals(
+			"Unexpected instruction type",
+			PoshiRunnerInstruction.Type.EXECUTE_FUNCTION,
+			functionInstruction.getType());
+		Assert.assertEquals(
+			"Unexpected class name", "Click",
+			functionInstruction.getClassName());
+		Assert.assertSame(
+			"Unexpected command element",
+			PoshiRunnerContext.getFunctionCommandElement(
+				"Click", PoshiRunnerContext.getDefaultNamespace()),
+			functionInstruction.getCommandElement(
+				PoshiRunnerContext.getDefaultNamespace()));
+	}
+
+	@Test
+	public void testCompileSeleniumElement() throws Exception {
+		Element commandElement = PoshiRunnerContext.getFunctionCommandElement(
+			"Click#click", PoshiRunnerContext.getDefaultNamespace());
+
+		PoshiRunnerInstruction poshiRunnerInstruction =
+			PoshiRunnerInstruction.compile(commandElement.element("execute"));
+
+		Assert.assertEquals(
+			"Unexpected instruction type",
+			PoshiRunnerInstruction.Type.EXECUTE_SELENIUM,
+			poshiRunnerInstruction.getType());
+
+		Assert.assertSame(
+			"Unexpected Selenium method handle",
+			PoshiRunnerContext.getSeleniumMethodHandle("waitForVisible"),
+			poshiRunnerInstruction.getSeleniumMethodHandle());
+
+		String[] seleniumDefaultArgumentNames =
+			poshiRunnerInstruction.getSeleniumDefaultArgumentNames();
+
+		Assert.assertEquals(
+			"Unexpected Selenium argument count",
+			PoshiRunnerContext.getSeleniumParameterCount("waitForVisible"),
+			seleniumDefaultArgumentNames.length);
+		Assert.assertEquals(
+			"Unexpected Selenium default argument name", "locator1",
+			seleniumDefaultArgumentNames[0]);
+	}
+
+	@Test
+	public void testCompileUnknownSeleniumElement() throws Exception {
+		Element executeElement = Dom4JUtil.getNewElement("execute");
+
+		executeElement.addAttribute("selenium", "unknownCommand");
+
+		PoshiRunnerInstruction poshiRunnerInstruction =
+			PoshiRunnerInstruction.compile(executeElement);
+
+		Assert.assertEquals(
+			"Unexpected instruction type",
+			PoshiRunnerInstruction.Type.EXECUTE_SELENIUM,
+			poshiRunnerInstruction.getType());
+
+		try {
+			poshiRunnerInstruction.getSeleniumMethodHandle();
+
+			Assert.fail("Unknown Selenium method was resolved");
+		}
+		catch (RuntimeException runtimeException) {
+			Assert.assertEquals(
+				"Unexpected exception message",
+				"Unable to find Selenium method unknownCommand",
+				runtimeException.getMessage());
+		}
+	}
+
+	private static final String _BASE_DIR =
+		"src/test/resources/com/liferay/poshi/runner/dependencies/test";
+
+	private static final String[] _POSHI_FILE_INCLUDES = ArrayUtils.addAll(
+		PoshiRunnerContext.POSHI_SUPPORT_FILE_INCLUDES,
+		PoshiRunnerContext.POSHI_TEST_FILE_INCLUDES);
+
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import java.io.File;
+
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerMetricsUtilTest {
+
+	@Before
+	public void setUp() {
+		PoshiRunnerMetricsUtil.clear();
+
+		PoshiRunnerMetricsUtil.recordLatency("macro", "Macro#test", 20);
+		PoshiRunnerMetricsUtil.recordLatency("macro", "Macro#test", 40);
+		PoshiRunnerMetricsUtil.recordLatency("macro", "Macro#test", 3000);
+		PoshiRunnerMetricsUtil.recordLatency("selenium", "click", 30);
+		PoshiRunnerMetricsUtil.recordLatency(
+			"selenium", "waitForElementPresent", 500);
+	}
+
+	@After
+	public void tearDown() {
+		PoshiRunnerMetricsUtil.clear();
+	}
+
+	@Test
+	public void testToJSON() throws Exception {
+		JSONObject jsonObject = new JSONObject(PoshiRunnerMetricsUtil.toJSON());
+
+		JSONObject macroJSONObject = jsonObject.getJSONObject("macro");
+
+		JSONObject latencyJSONObject = macroJSONObject.getJSONObject(
+			"Macro#test");
+
+		Assert.assertEquals(
+			"Macro count does not match", 3,
+			latencyJSONObject.getLong("count"));
+		Assert.assertEquals(
+			"Macro median does not match", 50,
+			latencyJSONObject.getLong("p50Millis"));
+		Assert.assertEquals(
+			"Macro 99th percentile does not match", 3000,
+			latencyJSONObject.getLong("p99Millis"));
+		Assert.assertEquals(
+			"Macro total does not match", 3060,
+			latencyJSONObject.getLong("totalMillis"));
+
+		JSONObject seleniumTimeJSONObject = jsonObject.getJSONObject(
+			"seleniumTime");
+
+		Assert.assertEquals(
+			"Selenium action time does not match", 30,
+			seleniumTimeJSONObject.getLong("actionMillis"));
+		Assert.assertEquals(
+			"Selenium wait time does not match", 500,
+			seleniumTimeJSONObject.getLong("waitMillis"));
+
+		JSONArray waitCommandNamesJSONArray =
+			seleniumTimeJSONObject.getJSONArray("waitCommandNames");
+
+		Assert.assertEquals(
+			"Wait command names do not match", "waitFor*",
+			waitCommandNamesJSONArray.getString(1));
+	}
+
+	@Test
+	public void testToOpenMetrics() throws Exception {
+		String openMetrics = PoshiRunnerMetricsUtil.toOpenMetrics();
+
+		Assert.assertTrue(
+			"Macro histogram is missing",
+			openMetrics.contains(
+				"# TYPE poshi_macro_duration_milliseconds histogram\n"));
+		Assert.assertTrue(
+			"Macro bucket does not match",
+			openMetrics.contains(
+				"poshi_macro_duration_milliseconds_bucket{name=\"Macro#test\"" +
+					",le=\"50\"} 2\n"));
+		Assert.assertTrue(
+			"Macro count does not match",
+			openMetrics.contains(
+				"poshi_macro_duration_milliseconds_count{name=\"Macro#test\"}" +
+					" 3\n"));
+		Assert.assertTrue(
+			"Selenium wait time does not match",
+			openMetrics.contains(
+				"poshi_selenium_time_milliseconds_total{kind=\"wait\"} 500\n"));
+		Assert.assertTrue(
+			"Metrics are not terminated", openMetrics.endsWith("# EOF\n"));
+	}
+
+	@Test
+	public void testUpdateTestDurations() throws Exception {
+		File file = File.createTempFile("poshi-test-durations", ".json");
+
+		file.delete();
+
+		try {
+			PoshiRunnerMetricsUtil.recordLatency("test", "Test#test", 1000);
+
+			PoshiRunnerMetricsUtil.updateTestDurations(file.getPath());
+
+			Map<String, Long> testDurations =
+				PoshiRunnerMetricsUtil.readTestDurations(file.getPath());
+
+			Assert.assertEquals(
+				"Test duration does not match", Long.valueOf(1000),
+				testDurations.get("Test#test"));
+
+			PoshiRunnerMetricsUtil.clear();
+
+			PoshiRunnerMetricsUtil.recordLatency("test", "Test#test", 2000);
+
+			PoshiRunnerMetricsUtil.updateTestDurations(file.getPath());
+
+			testDurations = PoshiRunnerMetricsUtil.readTestDurations(
+				file.getPath());
+
+			Assert.assertEquals(
+				"Test duration was not merged", Long.valueOf(1300),
+				testDurations.get("Test#test"));
+		}
+		finally {
+			file.delete();
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import java.util.List;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import org.dom4j.Element;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerStackTraceUtilTest {
+
+	@Before
+	public void setUp() throws Exception {
+		PoshiRunnerContext.readFiles(_POSHI_FILE_INCLUDES, _BASE_DIR);
+
+		PoshiRunnerStackTraceUtil.startStackTrace(
+			"LocalFile.VariableScope#RootVarInheritance", "test-case");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		PoshiRunnerStackTraceUtil.emptyStackTrace();
+
+		PoshiRunnerContext.clear();
+	}
+
+	@Test
+	public void testGetCallSiteId() throws Exception {
+		Element commandElement = PoshiRunnerContext.getTestCaseCommandElement(
+			"VariableScope#RootVarInheritance",
+			PoshiRunnerContext.getDefaultNamespace());
+
+		List<Element> executeElements = commandElement.elements("execute");
+
+		Element executeElement1 = executeElements.get(0);
+
+		int callSiteId1 = _getCallSiteId(executeElement1);
+
+		Assert.assertNotEquals(
+			"Different call sites share an ID", callSiteId1,
+			_getCallSiteId(executeElements.get(1)));
+
+		PoshiRunnerStackTraceUtil.pushStackTrace(executeElement1);
+
+		Element macroCommandElement = PoshiRunnerContext.getMacroCommandElement(
+			"RootVar#assertRootVar", PoshiRunnerContext.getDefaultNamespace());
+
+		List<Element> macroElements = macroCommandElement.elements();
+
+		int macroCallSiteId = _getCallSiteId(macroElements.get(0));
+
+		Assert.assertNotEquals(
+			"Nested call site shares an ID with its caller", callSiteId1,
+			macroCallSiteId);
+
+		PoshiRunnerStackTraceUtil.popStackTrace();
+
+		Assert.assertEquals(
+			"Call site ID changed after popping the stack trace", callSiteId1,
+			_getCallSiteId(executeElement1));
+
+		PoshiRunnerStackTraceUtil.pushStackTrace(executeElement1);
+
+		Assert.assertEquals(
+			"Nested call site ID changed after pushing the stack trace again",
+			macroCallSiteId, _getCallSiteId(macroElements.get(0)));
+
+		PoshiRunnerStackTraceUtil.popStackTrace();
+	}
+
+	private int _getCallSiteId(Element element) {
+		PoshiRunnerStackTraceUtil.setCurrentElement(element);
+
+		return PoshiRunnerStackTraceUtil.getCallSiteId();
+	}
+
+	private static final String _BASE_DIR =
+		"src/test/resources/com/liferay/poshi/runner/dependencies/var/scope";
+
+	private static final String[] _POSHI_FILE_INCLUDES = ArrayUtils.addAll(
+		PoshiRunnerContext.POSHI_SUPPORT_FILE_INCLUDES,
+		PoshiRunnerContext.POSHI_TEST_FILE_INCLUDES);
+
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiRunnerVariablesUtilTest {
+
+	@Before
+	public void setUp() {
+		PoshiRunnerVariablesUtil.putIntoCommandMap("firstName", "Joe");
+		PoshiRunnerVariablesUtil.putIntoCommandMap("lastName", "Bloggs");
+	}
+
+	@After
+	public void tearDown() {
+		PoshiRunnerVariablesUtil.clear();
+	}
+
+	@Test
+	public void testPushCommandMap() {
+		PoshiRunnerVariablesUtil.putIntoStaticMap("staticVar", "static");
+		PoshiRunnerVariablesUtil.putIntoExecuteMap("executeVar", "execute");
+
+		PoshiRunnerVariablesUtil.pushCommandMap();
+
+		Assert.assertFalse(
+			"Command vars are visible in the pushed command map",
+			PoshiRunnerVariablesUtil.containsKeyInCommandMap("firstName"));
+		Assert.assertEquals(
+			"Execute vars are not visible in the pushed command map",
+			"execute",
+			PoshiRunnerVariablesUtil.getStringFromCommandMap("executeVar"));
+		Assert.assertEquals(
+			"Static vars are not visible in the pushed command map", "static",
+			PoshiRunnerVariablesUtil.getStringFromCommandMap("staticVar"));
+
+		PoshiRunnerVariablesUtil.putIntoCommandMap("staticVar", "updated");
+
+		PoshiRunnerVariablesUtil.popCommandMap();
+
+		Assert.assertEquals(
+			"Command vars were not restored", "Joe",
+			PoshiRunnerVariablesUtil.getStringFromCommandMap("firstName"));
+		Assert.assertEquals(
+			"Updated static var is not visible after the pop", "updated",
+			PoshiRunnerVariablesUtil.getStringFromCommandMap("staticVar"));
+	}
+
+	@Test
+	public void testReplaceCommandVars() {
+		Assert.assertEquals(
+			"replaceCommandVars is failing", "Joe Bloggs (Joe)",
+			PoshiRunnerVariablesUtil.replaceCommandVars(
+				"${firstName} ${lastName} (${firstName})"));
+		Assert.assertEquals(
+			"replaceCommandVars is failing", "No variables",
+			PoshiRunnerVariablesUtil.replaceCommandVars("No variables"));
+	}
+
+	@Test
+	public void testReplaceCommandVarsWithObjectValue() {
+		List<String> list = new ArrayList<>();
+
+		PoshiRunnerVariablesUtil.putIntoCommandMap("list", list);
+
+		Assert.assertSame(
+			"replaceCommandVars is failing", list,
+			PoshiRunnerVariablesUtil.replaceCommandVars("${list}"));
+	}
+
+	@Test
+	public void testReplaceCommandVarsWithUnsetVar() {
+		Assert.assertEquals(
+			"replaceCommandVars is failing", "${unset}",
+			PoshiRunnerVariablesUtil.replaceCommandVars("${unset}"));
+		Assert.assertEquals(
+			"replaceCommandVars is failing",
+			"Joe ${unset} ${lastName} Joe",
+			PoshiRunnerVariablesUtil.replaceCommandVars(
+				"${firstName} ${unset} ${lastName} ${firstName}"));
+	}
+
+}
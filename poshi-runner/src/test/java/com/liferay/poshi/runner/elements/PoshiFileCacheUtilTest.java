@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.elements;
+
+import com.liferay.poshi.runner.PoshiRunnerContext;
+import com.liferay.poshi.runner.PoshiRunnerGetterUtil;
+import com.liferay.poshi.runner.util.Dom4JUtil;
+import com.liferay.poshi.runner.util.FileUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+
+import java.net.URL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+
+import org.dom4j.Element;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiFileCacheUtilTest {
+
+	@Before
+	public void setUp() throws Exception {
+		Path cacheDirPath = Files.createTempDirectory("poshi-file-cache");
+
+		_cacheDir = cacheDirPath.toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_cacheDir);
+	}
+
+	@Test
+	public void testGetRootElementAfterFunctionFileNamesChange()
+		throws Exception {
+
+		URL poshiScriptURL = FileUtil.getURL(_getFile("PoshiScript.macro"));
+
+		String poshiScriptContent = _store(poshiScriptURL);
+
+		URL poshiXMLURL = FileUtil.getURL(_getFile("PoshiSyntax.macro"));
+
+		String poshiXMLContent = _store(poshiXMLURL);
+
+		Assert.assertNotNull(
+			"Cached Poshi Script element was not reused",
+			PoshiFileCacheUtil.getRootElement(
+				_cacheDir, "1", poshiScriptURL, poshiScriptContent));
+
+		Set<String> functionFileNames =
+			PoshiRunnerContext.getFunctionFileNames();
+
+		functionFileNames.add("PoshiFileCacheUtilTest");
+
+		try {
+			Assert.assertNull(
+				"Cached Poshi Script element was reused after the function " +
+					"file names changed",
+				PoshiFileCacheUtil.getRootElement(
+					_cacheDir, "1", poshiScriptURL, poshiScriptContent));
+
+			Assert.assertNotNull(
+				"Cached XML element was not reused after the function file " +
+					"names changed",
+				PoshiFileCacheUtil.getRootElement(
+					_cacheDir, "1", poshiXMLURL, poshiXMLContent));
+		}
+		finally {
+			functionFileNames.remove("PoshiFileCacheUtilTest");
+		}
+	}
+
+	@Test
+	public void testGetRootElementAfterRunnerVersionChange()
+		throws Exception {
+
+		URL url = FileUtil.getURL(_getFile("PoshiSyntax.macro"));
+
+		String content = _store(url);
+
+		Assert.assertNotNull(
+			"Cached element was not reused",
+			PoshiFileCacheUtil.getRootElement(_cacheDir, "1", url, content));
+
+		Assert.assertNull(
+			"Cached element was reused after the runner version changed",
+			PoshiFileCacheUtil.getRootElement(_cacheDir, "2", url, content));
+	}
+
+	@Test
+	public void testPoshiScriptRoundTrip() throws Exception {
+		URL url = FileUtil.getURL(_getFile("PoshiScript.macro"));
+
+		PoshiElement poshiElement =
+			(PoshiElement)PoshiNodeFactory.newPoshiNodeFromFile(url);
+
+		Element cachedElement = _roundTrip(poshiElement, url);
+
+		Assert.assertTrue(
+			"Cached element is not a Poshi element",
+			cachedElement instanceof DefinitionPoshiElement);
+
+		PoshiElement cachedPoshiElement = (PoshiElement)cachedElement;
+
+		Assert.assertEquals(
+			"Cached element does not translate to the same Poshi Script",
+			poshiElement.toPoshiScript(), cachedPoshiElement.toPoshiScript());
+
+		Assert.assertTrue(
+			"Cached element does not match the parsed element",
+			Dom4JUtil.elementsEqual(poshiElement, cachedPoshiElement));
+
+		_assertEqualLineNumbers(poshiElement, cachedPoshiElement);
+	}
+
+	@Test
+	public void testPoshiXMLRoundTrip() throws Exception {
+		URL url = FileUtil.getURL(_getFile("PoshiSyntax.macro"));
+
+		Element rootElement = PoshiRunnerGetterUtil.getRootElementFromURL(url);
+
+		Element cachedElement = _roundTrip(rootElement, url);
+
+		Assert.assertFalse(
+			"Cached XML element should not be a Poshi element",
+			cachedElement instanceof PoshiElement);
+
+		Assert.assertEquals(
+			"Cached element does not match the parsed element",
+			Dom4JUtil.format(rootElement), Dom4JUtil.format(cachedElement));
+
+		_assertEqualLineNumbers(rootElement, cachedElement);
+	}
+
+	private static void _assertEqualLineNumbers(
+		Element expectedElement, Element actualElement) {
+
+		Assert.assertEquals(
+			"The expected line number does not match",
+			PoshiRunnerGetterUtil.getLineNumber(expectedElement),
+			PoshiRunnerGetterUtil.getLineNumber(actualElement));
+
+		List<Element> expectedChildElements = Dom4JUtil.toElementList(
+			expectedElement.elements());
+		List<Element> actualChildElements = Dom4JUtil.toElementList(
+			actualElement.elements());
+
+		Assert.assertEquals(
+			"The expected child element count does not match",
+			expectedChildElements.size(), actualChildElements.size());
+
+		for (int i = 0; i < expectedChildElements.size(); i++) {
+			_assertEqualLineNumbers(
+				expectedChildElements.get(i), actualChildElements.get(i));
+		}
+	}
+
+	private static File _getFile(String fileName) {
+		return new File(_BASE_DIR + fileName);
+	}
+
+	private static Element _roundTrip(Element element, URL url)
+		throws Exception {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		PoshiFileCacheUtil.writeRootElement(byteArrayOutputStream, element);
+
+		return PoshiFileCacheUtil.readRootElement(
+			new ByteArrayInputStream(byteArrayOutputStream.toByteArray()), url);
+	}
+
+	private String _store(URL url) throws Exception {
+		String content = FileUtil.read(url);
+
+		PoshiFileCacheUtil.storeRootElement(
+			_cacheDir, "1", url, content,
+			PoshiRunnerGetterUtil.getRootElementFromURL(url));
+
+		return content;
+	}
+
+	private static final String _BASE_DIR =
+		"src/test/resources/com/liferay/poshi/runner/dependencies/elements/";
+
+	private File _cacheDir;
+
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.logger;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class LoggerElementTest {
+
+	@Test
+	public void testCopy() throws Exception {
+		LoggerElement loggerElement = _getLoggerElement();
+
+		LoggerElement copyLoggerElement = loggerElement.copy();
+
+		Assert.assertEquals(
+			"Copied logger element does not match", loggerElement.toString(),
+			copyLoggerElement.toString());
+
+		copyLoggerElement.setAttribute("data-status01", "fail");
+
+		Assert.assertEquals(
+			"Original logger element attribute was modified", "pending",
+			loggerElement.getAttributeValue("data-status01"));
+	}
+
+	@Test
+	public void testLoggerElement() throws Exception {
+		LoggerElement loggerElement = _getLoggerElement();
+
+		LoggerElement childLoggerElement = loggerElement.loggerElement(
+			"ul", "child-container");
+
+		Assert.assertEquals(
+			"Child logger element does not match", "3",
+			childLoggerElement.getText());
+
+		Assert.assertNull(
+			"Partial class name matched a child logger element",
+			loggerElement.loggerElement("ul", "child"));
+	}
+
+	@Test
+	public void testRemoveChildLoggerElements() throws Exception {
+		LoggerElement loggerElement = _getLoggerElement();
+
+		loggerElement.removeChildLoggerElements("button");
+
+		List<LoggerElement> childLoggerElements =
+			loggerElement.loggerElements();
+
+		Assert.assertEquals(
+			"Child logger element count does not match", 2,
+			childLoggerElements.size());
+		Assert.assertEquals(
+			"Remaining child logger elements do not match",
+			Arrays.asList("2", "3"),
+			Arrays.asList(
+				childLoggerElements.get(0).getText(),
+				childLoggerElements.get(1).getText()));
+	}
+
+	@Test
+	public void testToString() throws Exception {
+		LoggerElement loggerElement = _getLoggerElement();
+
+		Assert.assertEquals(
+			"Logger element HTML does not match",
+			"<li data-status01=\"pending\" data-functionlinkid=\"" +
+				"functionLinkId-1\" class=\"line-group linkable\"><button " +
+					"class=\"btn\">1</button><div>2</div><ul class=\"" +
+						"child-container collapse\">3</ul></li>",
+			loggerElement.toString());
+	}
+
+	private LoggerElement _getChildLoggerElement(
+		String name, String className, String text) {
+
+		LoggerElement loggerElement = new LoggerElement();
+
+		loggerElement.setClassName(className);
+		loggerElement.setName(name);
+		loggerElement.setText(text);
+
+		return loggerElement;
+	}
+
+	private LoggerElement _getLoggerElement() {
+		LoggerElement loggerElement = new LoggerElement();
+
+		loggerElement.setAttribute("data-status01", "fail");
+		loggerElement.setAttribute("data-functionlinkid", "functionLinkId-1");
+		loggerElement.setAttribute("data-status01", "pending");
+		loggerElement.setClassName("linkable line-group");
+		loggerElement.setName("li");
+
+		loggerElement.addChildLoggerElement(
+			_getChildLoggerElement("button", "btn", "1"));
+		loggerElement.addChildLoggerElement(
+			_getChildLoggerElement("div", "", "2"));
+		loggerElement.addChildLoggerElement(
+			_getChildLoggerElement("ul", "collapse child-container", "3"));
+
+		return loggerElement;
+	}
+
+}
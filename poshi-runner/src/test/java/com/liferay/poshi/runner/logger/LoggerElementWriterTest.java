@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.logger;
+
+import java.io.StringWriter;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class LoggerElementWriterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_loggerElementWriter = new LoggerElementWriter("logger-element");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		_loggerElementWriter.close();
+	}
+
+	@Test
+	public void testTransferTo() throws Exception {
+		LoggerElement loggerElement1 = _getLoggerElement("line-group", "1");
+
+		_loggerElementWriter.write(loggerElement1);
+
+		LoggerElement loggerElement2 = _getLoggerElement("line-group", "2");
+
+		_loggerElementWriter.write(loggerElement2);
+
+		StringWriter stringWriter = new StringWriter();
+
+		_loggerElementWriter.transferTo(stringWriter);
+
+		Assert.assertEquals(
+			"Written logger elements do not match",
+			loggerElement1.toString() + loggerElement2.toString(),
+			stringWriter.toString());
+	}
+
+	@Test
+	public void testTransferToNonASCIIText() throws Exception {
+		LoggerElement loggerElement = _getLoggerElement(
+			"line-group", "Caf\u00e9 \u65e5\u672c");
+
+		_loggerElementWriter.write(loggerElement);
+
+		StringWriter stringWriter = new StringWriter();
+
+		_loggerElementWriter.transferTo(stringWriter);
+
+		Assert.assertEquals(
+			"Written non-ASCII text does not match", loggerElement.toString(),
+			stringWriter.toString());
+	}
+
+	@Test
+	public void testWriteStartAndEndTags() throws Exception {
+		LoggerElement loggerElement = _getLoggerElement("command-log", null);
+
+		loggerElement.setAttribute("data-logid", "01");
+		loggerElement.setID("commandLog");
+		loggerElement.setName("ul");
+
+		StringWriter stringWriter = new StringWriter();
+
+		loggerElement.writeStartTag(stringWriter);
+
+		_loggerElementWriter.write(_getLoggerElement("line-group", "1"));
+
+		_loggerElementWriter.transferTo(stringWriter);
+
+		loggerElement.writeEndTag(stringWriter);
+
+		loggerElement.addChildLoggerElement(
+			_getLoggerElement("line-group", "1"));
+
+		Assert.assertEquals(
+			"Streamed logger element does not match",
+			loggerElement.toString(), stringWriter.toString());
+	}
+
+	private LoggerElement _getLoggerElement(String className, String text) {
+		LoggerElement loggerElement = new LoggerElement();
+
+		loggerElement.setClassName(className);
+		loggerElement.setName("li");
+		loggerElement.setText(text);
+
+		return loggerElement;
+	}
+
+	private LoggerElementWriter _loggerElementWriter;
+
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.pql;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Properties;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PQLIndexTest extends TestCase {
+
+	@Test
+	public void testGetBitSet() throws Exception {
+		PQLIndex pqlIndex = new PQLIndex(_getPropertiesList());
+
+		_assertBitSet(pqlIndex.getBitSet("portal.smoke", Boolean.TRUE), 0, 2);
+		_assertBitSet(pqlIndex.getBitSet("portal.smoke", Boolean.FALSE), 1);
+		_assertBitSet(pqlIndex.getBitSet("portal.smoke", null), 3);
+		_assertBitSet(pqlIndex.getBitSet("priority", 5), 0, 3);
+		_assertBitSet(pqlIndex.getBitSet("priority", 4), 2);
+		_assertBitSet(pqlIndex.getBitSet("priority", 6));
+	}
+
+	@Test
+	public void testGetPQLResults() throws Exception {
+		List<Properties> propertiesList = _getPropertiesList();
+
+		PQLIndex pqlIndex = new PQLIndex(propertiesList);
+
+		String[] queries = {
+			"component.names ~ 'Blogs' AND priority >= 4",
+			"NOT (portal.smoke == true)", "portal.smoke != null",
+			"portal.smoke == null", "portal.smoke == true",
+			"portal.smoke == true AND priority == 5",
+			"portal.smoke == true OR priority == 5",
+			"NOT (portal.smoke == false OR priority == 3)",
+			"priority != 5", "true == portal.smoke"
+		};
+
+		for (String query : queries) {
+			PQLEntity pqlEntity = PQLEntityFactory.newPQLEntity(query);
+
+			BitSet expectedBitSet = new BitSet();
+
+			for (int i = 0; i < propertiesList.size(); i++) {
+				if ((Boolean)pqlEntity.getPQLResult(propertiesList.get(i))) {
+					expectedBitSet.set(i);
+				}
+			}
+
+			assertEquals(
+				"Mismatched PQL results for " + query, expectedBitSet,
+				pqlEntity.getPQLResults(pqlIndex));
+		}
+	}
+
+	private void _assertBitSet(BitSet bitSet, int... indexes) {
+		BitSet expectedBitSet = new BitSet();
+
+		for (int index : indexes) {
+			expectedBitSet.set(index);
+		}
+
+		assertEquals(expectedBitSet, bitSet);
+	}
+
+	private List<Properties> _getPropertiesList() {
+		List<Properties> propertiesList = new ArrayList<>();
+
+		propertiesList.add(_newProperties("Blogs", "true", "5"));
+		propertiesList.add(_newProperties("Message Boards", "false", "3"));
+		propertiesList.add(_newProperties("Blogs,WEM", "true", "4"));
+		propertiesList.add(_newProperties("WEM", null, "5"));
+
+		return propertiesList;
+	}
+
+	private Properties _newProperties(
+		String componentNames, String portalSmoke, String priority) {
+
+		Properties properties = new Properties();
+
+		properties.setProperty("component.names", componentNames);
+
+		if (portalSmoke != null) {
+			properties.setProperty("portal.smoke", portalSmoke);
+		}
+
+		properties.setProperty("priority", priority);
+
+		return properties;
+	}
+
+}
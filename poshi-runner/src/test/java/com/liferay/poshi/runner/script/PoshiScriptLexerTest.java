@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.script;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class PoshiScriptLexerTest {
+
+	@Test
+	public void testNextSnippet() {
+		_assertSnippets(
+			"\n\tMacro.test(locator = \"//a[@id='b']\");\n\tvar x = \"}\";",
+			"\n\tMacro.test(locator = \"//a[@id='b']\");",
+			"\n\tvar x = \"}\";");
+		_assertSnippets(
+			"\n\ttask (\"Run\") {\n\t\tMacro.test();\n\t}\n\n\tMacro.end();",
+			"\n\ttask (\"Run\") {\n\t\tMacro.test();\n\t}",
+			"\n\n\tMacro.end();");
+	}
+
+	@Test
+	public void testNextSnippetComments() {
+		_assertSnippets(
+			"\n\t// Comment;\n\t/* Block; */\n\tMacro.test();",
+			"\n\t// Comment;", "\n\t/* Block; */", "\n\tMacro.test();");
+		_assertSnippets(
+			"\n\tif (true) {\n\t\t/* } */\n\t}",
+			"\n\tif (true) {\n\t\t/* } */\n\t}");
+	}
+
+	@Test
+	public void testNextSnippetMultilineString() {
+		_assertSnippets(
+			"\n\tvar x = '''\n\tfoo;}\n\t''';\n\tMacro.test();",
+			"\n\tvar x = '''\n\tfoo;}\n\t''';", "\n\tMacro.test();");
+	}
+
+	@Test
+	public void testNextSnippetRemainder() {
+		PoshiScriptLexer poshiScriptLexer = new PoshiScriptLexer(
+			"\n\tMacro.test();\n\tMacro.test(\n");
+
+		Assert.assertEquals(
+			"\n\tMacro.test();", poshiScriptLexer.nextSnippet());
+		Assert.assertTrue(poshiScriptLexer.isStatement());
+
+		Assert.assertEquals("Macro.test(", poshiScriptLexer.nextSnippet());
+		Assert.assertFalse(poshiScriptLexer.isStatement());
+
+		Assert.assertNull(poshiScriptLexer.nextSnippet());
+	}
+
+	private void _assertSnippets(
+		String poshiScript, String... expectedPoshiScriptSnippets) {
+
+		PoshiScriptLexer poshiScriptLexer = new PoshiScriptLexer(poshiScript);
+
+		List<String> poshiScriptSnippets = new ArrayList<>();
+
+		String poshiScriptSnippet = poshiScriptLexer.nextSnippet();
+
+		while (poshiScriptSnippet != null) {
+			poshiScriptSnippets.add(poshiScriptSnippet);
+
+			poshiScriptSnippet = poshiScriptLexer.nextSnippet();
+		}
+
+		Assert.assertEquals(
+			Arrays.asList(expectedPoshiScriptSnippets), poshiScriptSnippets);
+	}
+
+}
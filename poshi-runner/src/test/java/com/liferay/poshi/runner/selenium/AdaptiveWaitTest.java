@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class AdaptiveWaitTest {
+
+	@Test
+	public void testExpired() throws Exception {
+		AdaptiveWait adaptiveWait = new AdaptiveWait(0, 10, 1000);
+
+		Assert.assertTrue("Wait is not expired", adaptiveWait.isExpired());
+
+		Assert.assertEquals(
+			"An expired wait should not sleep", 0,
+			adaptiveWait.nextIntervalMillis());
+	}
+
+	@Test
+	public void testNextIntervalMillis() throws Exception {
+		AdaptiveWait adaptiveWait = new AdaptiveWait(60000, 10, 50);
+
+		long[] expectedIntervalMillis = {10, 20, 40, 50, 50};
+
+		for (long intervalMillis : expectedIntervalMillis) {
+			Assert.assertEquals(
+				"The poll interval does not match", intervalMillis,
+				adaptiveWait.nextIntervalMillis());
+		}
+	}
+
+	@Test
+	public void testNextIntervalMillisDoesNotPassDeadline() throws Exception {
+		AdaptiveWait adaptiveWait = new AdaptiveWait(100, 1000, 1000);
+
+		Assert.assertTrue(
+			"The poll interval passes the deadline",
+			adaptiveWait.nextIntervalMillis() <= 100);
+	}
+
+	@Test
+	public void testSleep() throws Exception {
+		AdaptiveWait adaptiveWait = new AdaptiveWait(200, 5, 20);
+
+		long startMillis = System.currentTimeMillis();
+
+		while (!adaptiveWait.isExpired()) {
+			adaptiveWait.sleep();
+		}
+
+		long elapsedMillis = System.currentTimeMillis() - startMillis;
+
+		Assert.assertTrue(
+			"The wait ended early: " + elapsedMillis, elapsedMillis >= 200);
+		Assert.assertTrue(
+			"The wait overshot its deadline: " + elapsedMillis,
+			elapsedMillis < 1000);
+	}
+
+}
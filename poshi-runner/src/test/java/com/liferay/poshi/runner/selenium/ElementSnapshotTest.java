@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class ElementSnapshotTest {
+
+	@Test
+	public void testGetScriptArguments() throws Exception {
+		_assertScriptArguments(
+			"//div[@id='main']", "xpath", "//div[@id='main']");
+		_assertScriptArguments("class=portlet", "class", "portlet");
+		_assertScriptArguments("css=div.portlet", "css", "div.portlet");
+		_assertScriptArguments("link=Sign In", "link", "Sign In");
+		_assertScriptArguments("name=login", "name", "login");
+		_assertScriptArguments("tag=body", "tag", "body");
+		_assertScriptArguments("xpath=(//a)[1]", "xpath", "(//a)[1]");
+		_assertScriptArguments("xPath=(//a)[2]", "xpath", "(//a)[2]");
+		_assertScriptArguments("main-content", "id", "main-content");
+	}
+
+	@Test
+	public void testGetScriptArgumentsAttributeNames() throws Exception {
+		Object[] scriptArguments = ElementSnapshot.getScriptArguments(
+			Arrays.asList("//input"), true, "href", "title");
+
+		Assert.assertEquals(
+			"The attribute names do not match", Arrays.asList("href", "title"),
+			scriptArguments[1]);
+		Assert.assertEquals(
+			"The scroll flag does not match", Boolean.TRUE, scriptArguments[2]);
+	}
+
+	@Test
+	public void testGetScriptArgumentsLocators() throws Exception {
+		Object[] scriptArguments = ElementSnapshot.getScriptArguments(
+			Arrays.asList("//input", "css=div.portlet"), false);
+
+		Assert.assertEquals(
+			"The locators do not match",
+			Arrays.asList(
+				Arrays.asList("xpath", "//input"),
+				Arrays.asList("css", "div.portlet")),
+			scriptArguments[0]);
+	}
+
+	@Test
+	public void testNewElementSnapshot() throws Exception {
+		Map<String, Object> result = new HashMap<>();
+
+		result.put("attributes", Collections.singletonMap("title", "Home"));
+		result.put("count", 2L);
+		result.put("displayed", true);
+		result.put("text", "Welcome");
+		result.put("value", "test@liferay.com");
+
+		ElementSnapshot elementSnapshot = new ElementSnapshot(result);
+
+		Assert.assertEquals(
+			"The attribute does not match", "Home",
+			elementSnapshot.getAttribute("title"));
+		Assert.assertEquals(
+			"The element count does not match", 2, elementSnapshot.getCount());
+		Assert.assertEquals(
+			"The text does not match", "Welcome", elementSnapshot.getText());
+		Assert.assertEquals(
+			"The value does not match", "test@liferay.com",
+			elementSnapshot.getValue());
+		Assert.assertTrue(
+			"The element is not displayed", elementSnapshot.isDisplayed());
+		Assert.assertTrue(
+			"The element is not present", elementSnapshot.isPresent());
+	}
+
+	@Test
+	public void testNewElementSnapshotNotPresent() throws Exception {
+		ElementSnapshot elementSnapshot = new ElementSnapshot(
+			Collections.<String, Object>singletonMap("count", 0L));
+
+		Assert.assertFalse(
+			"The element is present", elementSnapshot.isPresent());
+		Assert.assertNull(
+			"The attribute is not null", elementSnapshot.getAttribute("title"));
+	}
+
+	@Test
+	public void testToElementSnapshots() throws Exception {
+		Map<String, Object> result = new HashMap<>();
+
+		result.put("attributes", Collections.singletonMap("title", 1L));
+		result.put("count", 1L);
+
+		List<ElementSnapshot> elementSnapshots =
+			ElementSnapshot.toElementSnapshots(
+				Arrays.asList(
+					result,
+					Collections.<String, Object>singletonMap("count", 0L)));
+
+		Assert.assertEquals(
+			"The snapshot count does not match", 2, elementSnapshots.size());
+
+		ElementSnapshot elementSnapshot = elementSnapshots.get(0);
+
+		Assert.assertEquals(
+			"The attribute does not match", "1",
+			elementSnapshot.getAttribute("title"));
+		Assert.assertTrue(
+			"The element is not present", elementSnapshot.isPresent());
+
+		elementSnapshot = elementSnapshots.get(1);
+
+		Assert.assertFalse(
+			"The element is present", elementSnapshot.isPresent());
+
+		Assert.assertNull(
+			"Snapshots were read from an invalid result",
+			ElementSnapshot.toElementSnapshots(Arrays.asList("count")));
+	}
+
+	private void _assertScriptArguments(
+		String locator, String expectedStrategy, String expectedValue) {
+
+		Object[] scriptArguments = ElementSnapshot.getScriptArguments(
+			Arrays.asList(locator), false);
+
+		Assert.assertEquals(
+			"The locator for " + locator + " does not match",
+			Arrays.asList(Arrays.asList(expectedStrategy, expectedValue)),
+			scriptArguments[0]);
+	}
+
+}
\ No newline at end of file
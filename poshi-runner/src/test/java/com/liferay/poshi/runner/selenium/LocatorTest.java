@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.openqa.selenium.By;
+
+/**
+ * @author Kenji Heigel
+ */
+public class LocatorTest {
+
+	@Test
+	public void testGetBy() throws Exception {
+		_assertBy("//div", By.xpath("//div"));
+		_assertBy("class=portlet", By.className("portlet"));
+		_assertBy("css=div.portlet", By.cssSelector("div.portlet"));
+		_assertBy("link=Sign In", By.linkText("Sign In"));
+		_assertBy("name=login", By.name("login"));
+		_assertBy("tag=body", By.tagName("body"));
+		_assertBy("xPath=(//a)[2]", By.xpath("(//a)[2]"));
+		_assertBy("main-content", By.id("main-content"));
+	}
+
+	@Test
+	public void testNewLocator() throws Exception {
+		_assertLocator("//div[@id='main']", "xpath", "//div[@id='main']");
+		_assertLocator("css=a[href*='css=']", "css", "a[href*='css=']");
+		_assertLocator("xpath=(//a)[1]", "xpath", "(//a)[1]");
+		_assertLocator("main-content", "id", "main-content");
+	}
+
+	private void _assertBy(String locatorString, By expectedBy) {
+		Locator locator = new Locator(locatorString);
+
+		Assert.assertEquals(
+			"The By for " + locatorString + " does not match", expectedBy,
+			locator.getBy());
+	}
+
+	private void _assertLocator(
+		String locatorString, String expectedStrategy, String expectedValue) {
+
+		Locator locator = new Locator(locatorString);
+
+		Assert.assertEquals(
+			"The strategy for " + locatorString + " does not match",
+			expectedStrategy, locator.getStrategy());
+		Assert.assertEquals(
+			"The value for " + locatorString + " does not match",
+			expectedValue, locator.getValue());
+	}
+
+}
\ No newline at end of file
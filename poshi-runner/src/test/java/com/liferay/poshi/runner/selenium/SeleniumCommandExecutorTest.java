@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class SeleniumCommandExecutorTest {
+
+	@After
+	public void tearDown() {
+		SeleniumCommandExecutor.clearLatencyHistograms();
+	}
+
+	@Test
+	public void testRecordLatency() {
+		SeleniumCommandExecutor.recordLatency("click", 1);
+		SeleniumCommandExecutor.recordLatency("click", 40);
+		SeleniumCommandExecutor.recordLatency("click", 90000);
+
+		Map<String, LatencyHistogram> latencyHistograms =
+			SeleniumCommandExecutor.getLatencyHistograms();
+
+		LatencyHistogram latencyHistogram = latencyHistograms.get("click");
+
+		Assert.assertEquals(
+			"Unexpected command count", 3, latencyHistogram.getCount());
+		Assert.assertEquals(
+			"Unexpected maximum latency", 90000,
+			latencyHistogram.getMaxMillis());
+		Assert.assertEquals(
+			"Unexpected total latency", 90041,
+			latencyHistogram.getTotalMillis());
+
+		long[] bucketCounts = latencyHistogram.getBucketCounts();
+
+		Assert.assertEquals(
+			"Unexpected count in the first bucket", 1, bucketCounts[0]);
+		Assert.assertEquals(
+			"Unexpected count in the last bucket", 1,
+			bucketCounts[bucketCounts.length - 1]);
+	}
+
+	@Test
+	public void testSubmit() throws Exception {
+		Callable<Thread> callable = new Callable<Thread>() {
+
+			@Override
+			public Thread call() {
+				return Thread.currentThread();
+			}
+
+		};
+
+		Set<Thread> threads = new HashSet<>();
+
+		for (int i = 0; i < 20; i++) {
+			Future<Thread> future = SeleniumCommandExecutor.submit(callable);
+
+			Thread thread = future.get();
+
+			Assert.assertNotSame(
+				"Command ran on the calling thread", Thread.currentThread(),
+				thread);
+			Assert.assertTrue(
+				"Command thread is not a daemon", thread.isDaemon());
+
+			threads.add(thread);
+		}
+
+		Assert.assertTrue(
+			"Command threads were not reused",
+			threads.size() <= SeleniumCommandExecutor.MAX_THREADS);
+	}
+
+	@Test
+	public void testSubmitAfterHungCommands() throws Exception {
+		final CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		Callable<Void> hungCallable = new Callable<Void>() {
+
+			@Override
+			public Void call() {
+				while (true) {
+					try {
+						countDownLatch.await();
+
+						return null;
+					}
+					catch (InterruptedException interruptedException) {
+					}
+				}
+			}
+
+		};
+
+		try {
+			for (int i = 0; i <= SeleniumCommandExecutor.MAX_THREADS; i++) {
+				SeleniumCommandFuture<Void> seleniumCommandFuture =
+					SeleniumCommandExecutor.submit(hungCallable);
+
+				try {
+					seleniumCommandFuture.get(100, TimeUnit.MILLISECONDS);
+
+					Assert.fail("Hung command did not time out");
+				}
+				catch (TimeoutException timeoutException) {
+				}
+			}
+
+			SeleniumCommandFuture<String> seleniumCommandFuture =
+				SeleniumCommandExecutor.submit(
+					new Callable<String>() {
+
+						@Override
+						public String call() {
+							return "recovered";
+						}
+
+					});
+
+			Assert.assertEquals(
+				"Command did not run after hung commands", "recovered",
+				seleniumCommandFuture.get(1, TimeUnit.SECONDS));
+		}
+		finally {
+			countDownLatch.countDown();
+		}
+
+		long timeout = System.currentTimeMillis() + 5000;
+
+		while ((SeleniumCommandExecutor.getPoolSize() >
+					SeleniumCommandExecutor.MAX_THREADS) &&
+			   (System.currentTimeMillis() < timeout)) {
+
+			Thread.sleep(10);
+		}
+
+		Assert.assertTrue(
+			"Replacement threads were not released",
+			SeleniumCommandExecutor.getPoolSize() <=
+				SeleniumCommandExecutor.MAX_THREADS);
+	}
+
+	@Test
+	public void testSubmitWhileAllThreadsBusy() throws Exception {
+		final CountDownLatch countDownLatch = new CountDownLatch(1);
+		final CountDownLatch startCountDownLatch = new CountDownLatch(
+			SeleniumCommandExecutor.MAX_THREADS);
+
+		Callable<Void> busyCallable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws InterruptedException {
+				startCountDownLatch.countDown();
+
+				countDownLatch.await();
+
+				return null;
+			}
+
+		};
+
+		final AtomicBoolean queuedCommandRan = new AtomicBoolean();
+
+		try {
+			for (int i = 0; i < SeleniumCommandExecutor.MAX_THREADS; i++) {
+				SeleniumCommandExecutor.submit(busyCallable);
+			}
+
+			Assert.assertTrue(
+				"Busy commands did not start",
+				startCountDownLatch.await(5, TimeUnit.SECONDS));
+
+			SeleniumCommandFuture<Void> seleniumCommandFuture =
+				SeleniumCommandExecutor.submit(
+					new Callable<Void>() {
+
+						@Override
+						public Void call() {
+							queuedCommandRan.set(true);
+
+							return null;
+						}
+
+					});
+
+			try {
+				seleniumCommandFuture.get(100, TimeUnit.MILLISECONDS);
+
+				Assert.fail("Queued command did not time out");
+			}
+			catch (TimeoutException timeoutException) {
+			}
+
+			Assert.assertTrue(
+				"Queued command was not cancelled",
+				seleniumCommandFuture.isCancelled());
+			Assert.assertEquals(
+				"Queued command has a running time", 0,
+				seleniumCommandFuture.getRunningMillis());
+		}
+		finally {
+			countDownLatch.countDown();
+		}
+
+		SeleniumCommandFuture<Void> seleniumCommandFuture =
+			SeleniumCommandExecutor.submit(busyCallable);
+
+		seleniumCommandFuture.get(1, TimeUnit.SECONDS);
+
+		Assert.assertFalse("Cancelled command ran", queuedCommandRan.get());
+	}
+
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.openqa.selenium.By;
+
+/**
+ * @author Kenji Heigel
+ */
+public class WebDriverHelperTest {
+
+	@Test
+	public void testGetBy() throws Exception {
+		Assert.assertEquals(
+			"The XPath locator does not match", By.xpath("//div"),
+			WebDriverHelper.getBy("//div"));
+		Assert.assertEquals(
+			"The class locator does not match", By.className("portlet"),
+			WebDriverHelper.getBy("class=portlet"));
+		Assert.assertEquals(
+			"The CSS locator does not match", By.cssSelector("div.portlet"),
+			WebDriverHelper.getBy("css=div.portlet"));
+		Assert.assertEquals(
+			"The link locator does not match", By.linkText("Sign In"),
+			WebDriverHelper.getBy("link=Sign In"));
+		Assert.assertEquals(
+			"The name locator does not match", By.name("login"),
+			WebDriverHelper.getBy("name=login"));
+		Assert.assertEquals(
+			"The tag locator does not match", By.tagName("body"),
+			WebDriverHelper.getBy("tag=body"));
+		Assert.assertEquals(
+			"The XPath locator does not match", By.xpath("(//a)[1]"),
+			WebDriverHelper.getBy("xpath=(//a)[1]"));
+		Assert.assertEquals(
+			"The ID locator does not match", By.id("main-content"),
+			WebDriverHelper.getBy("main-content"));
+	}
+
+	@Test
+	public void testGetByCached() throws Exception {
+		Assert.assertSame(
+			"The locator was resolved again",
+			WebDriverHelper.getBy("css=#main-content"),
+			WebDriverHelper.getBy("css=#main-content"));
+	}
+
+}
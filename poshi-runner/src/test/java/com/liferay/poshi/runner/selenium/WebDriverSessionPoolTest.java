@@ -0,0 +1,345 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.selenium;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * @author Kenji Heigel
+ */
+public class WebDriverSessionPoolTest {
+
+	@After
+	public void tearDown() {
+		WebDriverSessionPool.clear();
+	}
+
+	@Test
+	public void testIsResetWithVisitedOrigin() throws Exception {
+		FakeWebDriver fakeWebDriver = new FakeWebDriver();
+
+		WebDriver webDriver = fakeWebDriver.getWebDriver();
+
+		WebDriverSessionPool.releaseWebDriver(webDriver);
+
+		Assert.assertTrue(
+			"Session was not reset", WebDriverSessionPool.isReset(webDriver));
+
+		WebDriverSessionPool.addVisitedURL(
+			webDriver, "http://www.able.com:8080/web/guest");
+
+		Assert.assertFalse(
+			"Session with an uncleared origin is reset",
+			WebDriverSessionPool.isReset(webDriver));
+	}
+
+	@Test
+	public void testReleaseBrokenWebDriver() throws Exception {
+		FakeWebDriver fakeWebDriver = new FakeWebDriver();
+
+		fakeWebDriver._broken = true;
+
+		WebDriverSessionPool.releaseWebDriver(fakeWebDriver.getWebDriver());
+
+		Assert.assertTrue("Broken session was not quit", fakeWebDriver._quit);
+
+		Assert.assertNull(
+			"Broken session was reused",
+			WebDriverSessionPool.borrowWebDriver());
+	}
+
+	@Test
+	public void testReleaseWebDriver() throws Exception {
+		FakeWebDriver fakeWebDriver = new FakeWebDriver();
+
+		WebDriver webDriver = fakeWebDriver.getWebDriver();
+
+		WebDriverSessionPool.registerWebDriver(
+			webDriver, new Dimension(1280, 1040));
+
+		fakeWebDriver._windowSize = new Dimension(800, 600);
+
+		WebDriverSessionPool.releaseWebDriver(webDriver);
+
+		Assert.assertFalse("Session was quit", fakeWebDriver._quit);
+
+		Assert.assertEquals(
+			"Extra windows were not closed", 1,
+			fakeWebDriver._windowHandles.size());
+		Assert.assertEquals(
+			"Session was not navigated to a blank page", "about:blank",
+			fakeWebDriver._url);
+		Assert.assertTrue(
+			"Cookies were not cleared", fakeWebDriver._cookies.isEmpty());
+		Assert.assertTrue(
+			"Storage was not cleared", fakeWebDriver._storage.isEmpty());
+		Assert.assertEquals(
+			"Window size was not restored", new Dimension(1280, 1040),
+			fakeWebDriver._windowSize);
+
+		Assert.assertSame(
+			"Session was not reused", webDriver,
+			WebDriverSessionPool.borrowWebDriver());
+		Assert.assertNull(
+			"Session was reused twice", WebDriverSessionPool.borrowWebDriver());
+	}
+
+	@Test
+	public void testReleaseWebDriverAfterNavigation() throws Exception {
+		FakeWebDriver fakeWebDriver = new FakeWebDriver();
+
+		WebDriver webDriver = fakeWebDriver.getWebDriver();
+
+		WebDriverSessionPool.navigate(
+			webDriver, "http://localhost:8080/web/guest");
+
+		WebDriverSessionPool.releaseWebDriver(webDriver);
+
+		Assert.assertFalse("Session was quit", fakeWebDriver._quit);
+
+		Assert.assertTrue(
+			"Cookies were not cleared", fakeWebDriver._cookies.isEmpty());
+		Assert.assertTrue(
+			"Storage was not cleared", fakeWebDriver._storage.isEmpty());
+
+		Assert.assertSame(
+			"Session was not reused", webDriver,
+			WebDriverSessionPool.borrowWebDriver());
+	}
+
+	@Test
+	public void testReleaseWebDriverAfterRedirect() throws Exception {
+		FakeWebDriver fakeWebDriver = new FakeWebDriver();
+
+		fakeWebDriver._redirectURL = "http://www.able.com/login";
+
+		WebDriver webDriver = fakeWebDriver.getWebDriver();
+
+		WebDriverSessionPool.navigate(
+			webDriver, "http://localhost:8080/web/guest");
+
+		fakeWebDriver._url = "http://localhost:8080/web/guest";
+
+		WebDriverSessionPool.releaseWebDriver(webDriver);
+
+		Assert.assertTrue(
+			"Session redirected to another origin was not quit",
+			fakeWebDriver._quit);
+	}
+
+	@Test
+	public void testReleaseWebDriverAfterUncountedNavigation()
+		throws Exception {
+
+		FakeWebDriver fakeWebDriver = new FakeWebDriver();
+
+		fakeWebDriver._historyLength = 3;
+
+		WebDriverSessionPool.releaseWebDriver(fakeWebDriver.getWebDriver());
+
+		Assert.assertTrue(
+			"Session with navigations outside of open was not quit",
+			fakeWebDriver._quit);
+	}
+
+	@Test
+	public void testReleaseWebDriverAfterVisitingOrigins() throws Exception {
+		FakeWebDriver fakeWebDriver = new FakeWebDriver();
+
+		WebDriver webDriver = fakeWebDriver.getWebDriver();
+
+		WebDriverSessionPool.addVisitedURL(
+			webDriver, "http://www.able.com:8080/web/guest");
+
+		WebDriverSessionPool.releaseWebDriver(webDriver);
+
+		Assert.assertTrue(
+			"Session that visited two origins was not quit",
+			fakeWebDriver._quit);
+
+		Assert.assertNull(
+			"Session that visited two origins was reused",
+			WebDriverSessionPool.borrowWebDriver());
+	}
+
+	@Test
+	public void testReleaseWebDriverWithCrossOriginFrame() throws Exception {
+		FakeWebDriver fakeWebDriver = new FakeWebDriver();
+
+		fakeWebDriver._crossOriginFrame = true;
+
+		WebDriverSessionPool.releaseWebDriver(fakeWebDriver.getWebDriver());
+
+		Assert.assertTrue(
+			"Session with a cross origin frame was not quit",
+			fakeWebDriver._quit);
+	}
+
+	private static class FakeWebDriver implements InvocationHandler {
+
+		public FakeWebDriver() {
+			_cookies.add(_LOCALHOST_ORIGIN);
+			_storage.add(_LOCALHOST_ORIGIN);
+
+			_windowHandles.add("window1");
+			_windowHandles.add("window2");
+		}
+
+		public WebDriver getWebDriver() {
+			return (WebDriver)_newProxy(
+				WebDriver.class, JavascriptExecutor.class);
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			String methodName = method.getName();
+
+			if (methodName.equals("equals")) {
+				return proxy == args[0];
+			}
+			else if (methodName.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+
+			if (_broken && !methodName.equals("quit")) {
+				throw new WebDriverException("Session is not reachable");
+			}
+
+			if (methodName.equals("close")) {
+				_windowHandles.remove(_windowHandle);
+			}
+			else if (methodName.equals("deleteAllCookies")) {
+				_cookies.remove(_getOrigin());
+			}
+			else if (methodName.equals("executeScript")) {
+				String script = (String)args[0];
+
+				if (script.contains("frames")) {
+					return _crossOriginFrame;
+				}
+				else if (script.contains("history")) {
+					return _historyLength;
+				}
+				else if (script.contains("return")) {
+					if (_storage.contains(_getOrigin())) {
+						return 1L;
+					}
+
+					return 0L;
+				}
+
+				_storage.remove(_getOrigin());
+			}
+			else if (methodName.equals("get")) {
+				_url = (String)args[0];
+
+				if (_redirectURL != null) {
+					_url = _redirectURL;
+				}
+
+				_historyLength++;
+			}
+			else if (methodName.equals("getCookies")) {
+				Set<Cookie> cookies = new HashSet<>();
+
+				if (_cookies.contains(_getOrigin())) {
+					cookies.add(new Cookie("JSESSIONID", "1"));
+				}
+
+				return cookies;
+			}
+			else if (methodName.equals("getCurrentUrl")) {
+				return _url;
+			}
+			else if (methodName.equals("getSize")) {
+				return _windowSize;
+			}
+			else if (methodName.equals("getWindowHandles")) {
+				return new LinkedHashSet<>(_windowHandles);
+			}
+			else if (methodName.equals("manage")) {
+				return _newProxy(WebDriver.Options.class);
+			}
+			else if (methodName.equals("quit")) {
+				_quit = true;
+			}
+			else if (methodName.equals("setSize")) {
+				_windowSize = (Dimension)args[0];
+			}
+			else if (methodName.equals("switchTo")) {
+				return _newProxy(WebDriver.TargetLocator.class);
+			}
+			else if (methodName.equals("window")) {
+				if (args == null) {
+					return _newProxy(WebDriver.Window.class);
+				}
+
+				_windowHandle = (String)args[0];
+			}
+
+			return null;
+		}
+
+		private String _getOrigin() {
+			int x = _url.indexOf("/", _url.indexOf("://") + 3);
+
+			if (x == -1) {
+				return _url;
+			}
+
+			return _url.substring(0, x);
+		}
+
+		private Object _newProxy(Class<?>... interfaces) {
+			return Proxy.newProxyInstance(
+				WebDriverSessionPoolTest.class.getClassLoader(), interfaces,
+				this);
+		}
+
+		private static final String _LOCALHOST_ORIGIN = "http://localhost:8080";
+
+		private boolean _broken;
+		private final Set<String> _cookies = new HashSet<>();
+		private boolean _crossOriginFrame;
+		private long _historyLength = 1;
+		private boolean _quit;
+		private String _redirectURL;
+		private final Set<String> _storage = new HashSet<>();
+		private String _url = _LOCALHOST_ORIGIN;
+		private String _windowHandle = "window1";
+		private final List<String> _windowHandles = new ArrayList<>();
+		private Dimension _windowSize = new Dimension(1280, 1040);
+
+	}
+
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.poshi.runner.util;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class CacheUtilTest {
+
+	@Test
+	public void testCreateLRUMap() throws Exception {
+		Map<String, String> lruMap = CacheUtil.createLRUMap(2);
+
+		lruMap.put("A", "1");
+		lruMap.put("B", "2");
+
+		lruMap.get("A");
+
+		lruMap.put("C", "3");
+
+		Assert.assertEquals("Map size does not match", 2, lruMap.size());
+		Assert.assertTrue(
+			"Recently used entry was evicted", lruMap.containsKey("A"));
+		Assert.assertFalse(
+			"Least recently used entry was not evicted",
+			lruMap.containsKey("B"));
+		Assert.assertTrue(
+			"Newest entry was evicted", lruMap.containsKey("C"));
+	}
+
+}
\ No newline at end of file
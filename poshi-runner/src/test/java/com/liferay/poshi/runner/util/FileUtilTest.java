@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.util;
+
+import java.io.File;
+
+import java.net.URL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class FileUtilTest {
+
+	@Before
+	public void setUp() throws Exception {
+		Path baseDirPath = Files.createTempDirectory("poshi-files");
+
+		_baseDir = baseDirPath.toFile();
+
+		_write("Click.function");
+		_write("macros/Login.macro");
+		_write("macros/Login.txt");
+		_write("node_modules/module/Ignored.macro");
+		_write("tests/Smoke.testcase");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(_baseDir);
+	}
+
+	@Test
+	public void testGetIncludedResourceURLs() throws Exception {
+		Assert.assertEquals(
+			"Included resource URLs do not match",
+			_getFileNames(
+				"Click.function", "Ignored.macro", "Login.macro",
+				"Smoke.testcase"),
+			_getIncludedFileNames(null));
+	}
+
+	@Test
+	public void testGetIncludedResourceURLsWithExcludedDirNames()
+		throws Exception {
+
+		Assert.assertEquals(
+			"Excluded directories were not skipped",
+			_getFileNames("Click.function", "Login.macro", "Smoke.testcase"),
+			_getIncludedFileNames(new String[] {"node_modules"}));
+	}
+
+	private List<String> _getFileNames(String... fileNames) {
+		List<String> fileNamesList = new ArrayList<>();
+
+		Collections.addAll(fileNamesList, fileNames);
+
+		return fileNamesList;
+	}
+
+	private List<String> _getIncludedFileNames(String[] excludedDirNames)
+		throws Exception {
+
+		final List<String> fileNames = new ArrayList<>();
+
+		FileUtil.getIncludedResourceURLs(
+			_INCLUDES, excludedDirNames, _baseDir.getCanonicalPath(),
+			new Consumer<URL>() {
+
+				@Override
+				public void accept(URL url) {
+					File file = new File(url.getFile());
+
+					fileNames.add(file.getName());
+				}
+
+			});
+
+		Collections.sort(fileNames);
+
+		return fileNames;
+	}
+
+	private void _write(String fileName) throws Exception {
+		FileUtil.write(new File(_baseDir, fileName), "<definition />");
+	}
+
+	private static final String[] _INCLUDES = {
+		"**/*.function", "**/*.macro", "**/*.testcase"
+	};
+
+	private File _baseDir;
+
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.poshi.runner.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Kenji Heigel
+ */
+public class ListUtilTest {
+
+	@Test
+	public void testPartition() throws Exception {
+		Map<String, Long> weights = new HashMap<>();
+
+		weights.put("A", 70L);
+		weights.put("B", 60L);
+		weights.put("C", 50L);
+		weights.put("D", 40L);
+		weights.put("E", 30L);
+		weights.put("F", 20L);
+
+		List<List<String>> partitions = ListUtil.partition(
+			Arrays.asList("A", "B", "C", "D", "E", "F"), 3, weights);
+
+		Assert.assertEquals(
+			"Partitions do not match",
+			Arrays.asList(
+				Arrays.asList("A", "D", "E"), Arrays.asList("B", "C", "F")),
+			partitions);
+	}
+
+	@Test
+	public void testPartitionWithMissingWeights() throws Exception {
+		Map<String, Long> weights = new HashMap<>();
+
+		weights.put("A", 100L);
+		weights.put("B", 10L);
+
+		List<List<String>> partitions = ListUtil.partition(
+			Arrays.asList("A", "B", "C", "D"), 2, weights);
+
+		Assert.assertEquals(
+			"Partitions do not match",
+			Arrays.asList(Arrays.asList("A", "B"), Arrays.asList("C", "D")),
+			partitions);
+	}
+
+}